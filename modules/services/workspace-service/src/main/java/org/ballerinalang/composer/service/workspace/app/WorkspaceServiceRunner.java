@@ -33,12 +33,14 @@ import org.ballerinalang.composer.service.workspace.rest.FileServer;
 import org.ballerinalang.composer.service.workspace.rest.TryItService;
 import org.ballerinalang.composer.service.workspace.rest.WorkspaceService;
 import org.ballerinalang.composer.service.workspace.rest.datamodel.BLangFileRestService;
+import org.ballerinalang.composer.service.workspace.rest.exception.CompilerOverloadedExceptionMapper;
 import org.ballerinalang.composer.service.workspace.rest.exception.DefaultExceptionMapper;
 import org.ballerinalang.composer.service.workspace.rest.exception.FileNotFoundExceptionMapper;
 import org.ballerinalang.composer.service.workspace.rest.exception.ParseCancellationExceptionMapper;
 import org.ballerinalang.composer.service.workspace.rest.exception.SemanticExceptionMapper;
 import org.ballerinalang.composer.service.workspace.rest.typelattice.TypeLatticeService;
 import org.ballerinalang.composer.service.workspace.swagger.factories.ServicesApiServiceFactory;
+import org.ballerinalang.composer.service.workspace.util.BuiltInPackageEnvironment;
 import org.ballerinalang.composer.service.workspace.utils.WorkspaceUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -202,6 +204,7 @@ public class WorkspaceServiceRunner {
             fileContentProvider.setContextRoot(contextRoot);
         
             new MicroservicesRunner(apiPort)
+                    .addExceptionMapper(new CompilerOverloadedExceptionMapper())
                     .addExceptionMapper(new SemanticExceptionMapper())
                     .addExceptionMapper(new ParseCancellationExceptionMapper())
                     .addExceptionMapper(new FileNotFoundExceptionMapper())
@@ -241,6 +244,9 @@ public class WorkspaceServiceRunner {
         
             LangServerManager langServerManager = LangServerManager.getInstance();
             langServerManager.init(langserverPort);
+
+            // load the builtin packages upfront, so that the first validation request doesn't have to
+            BuiltInPackageEnvironment.warmUp();
         
             if (!isCloudMode) {
                 logger.info("Ballerina Composer URL: http://localhost:" + fileServerPort);
@@ -19,6 +19,7 @@ package org.ballerinalang.composer.service.workspace.common;
 
 import org.ballerinalang.composer.service.workspace.langserver.model.ModelPackage;
 import org.ballerinalang.composer.service.workspace.utils.BallerinaProgramContentProvider;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -40,6 +41,24 @@ public class Utils {
         return parentDir;
     }
 
+    /**
+     * Returns the program directory of a source file which declares the given package, i.e. the directory above the
+     * package directories the file is in.
+     *
+     * @param pkgNameComps - package name components as read by PackageDeclarationReader
+     * @param filePath - path of the .bal file
+     * @return program dir, or null if the directories of the file do not match the package name
+     */
+    public static java.nio.file.Path getProgramDirectory(List<String> pkgNameComps, java.nio.file.Path filePath) {
+        java.nio.file.Path parentDir = filePath.getParent();
+        for (int i = pkgNameComps.size() - 1; i >= 0 && parentDir != null; i--) {
+            java.nio.file.Path dirName = parentDir.getFileName();
+            parentDir = dirName != null && pkgNameComps.get(i).equals(dirName.toString())
+                    ? parentDir.getParent() : null;
+        }
+        return parentDir;
+    }
+
     /**
      * Get all the ballerina packages associated with the runtime.
      * @return - packages set
@@ -19,12 +19,20 @@ package org.ballerinalang.composer.service.workspace.composerapi.utils;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
 import com.google.gson.JsonParser;
-import org.ballerinalang.composer.service.workspace.common.Utils;
 import org.ballerinalang.composer.service.workspace.composerapi.ComposerApi;
+import org.ballerinalang.composer.service.workspace.langserver.TextDocumentSynchronizer;
 import org.ballerinalang.composer.service.workspace.langserver.consts.LangServerConstants;
+import org.ballerinalang.composer.service.workspace.langserver.dto.Position;
 import org.ballerinalang.composer.service.workspace.langserver.model.ModelPackage;
+import org.ballerinalang.composer.service.workspace.langserver.util.completion.CompletionProvider;
+import org.ballerinalang.composer.service.workspace.langserver.util.completion.CompletionTimings;
+import org.ballerinalang.composer.service.workspace.util.BuiltInPackageCatalogue;
+import org.ballerinalang.composer.service.workspace.util.CompilerExecutor;
 import org.eclipse.lsp4j.jsonrpc.Endpoint;
 import org.eclipse.lsp4j.jsonrpc.json.JsonRpcMethod;
 import org.eclipse.lsp4j.jsonrpc.messages.RequestMessage;
@@ -34,11 +42,18 @@ import org.eclipse.lsp4j.jsonrpc.services.ServiceEndpoints;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 /**
- * Handler to handle the request received from the web socket of the composer API.
+ * Handler to handle the request received from the web socket of the composer API. A handler keeps track of the
+ * requests in flight of a single client connection. Completions of a client which receives notifications are
+ * computed by the handler from the compiled state it keeps of the documents of the client, while any other request is
+ * handled by the language server endpoint.
  */
 public class RequestHandler {
     /**
@@ -47,22 +62,95 @@ public class RequestHandler {
     private Map<String, ModelPackage> builtInNativePackages;
     private Set<Map.Entry<String, ModelPackage>> packages;
 
-    private Gson gson = new Gson();
+    private static final Gson GSON = new Gson();
 
-    public String routeRequestAndNotify(Endpoint endpoint, String text) {
-        RequestMessage jsonrpcRequest = null;
+    /**
+     * JSON RPC methods of the composer API, which never change at runtime.
+     */
+    private static final Map<String, JsonRpcMethod> SUPPORTED_METHODS =
+            ServiceEndpoints.getSupportedMethods(ComposerApi.class);
+
+    private static final String ID_KEY = "id";
+    private static final String PARAMS_KEY = "params";
+
+    /**
+     * Requests in flight, by request ID.
+     */
+    private final Map<String, CompletableFuture<?>> pendingRequests = new ConcurrentHashMap<>();
+
+    /**
+     * Documents opened by the client, of which the diagnostics are pushed to the client. Null if the client doesn't
+     * receive notifications.
+     */
+    private final TextDocumentSynchronizer documentSynchronizer;
+
+    /**
+     * Provider of the completions of the documents of the client. Null if the client doesn't receive notifications.
+     */
+    private final CompletionProvider completionProvider;
+
+    /**
+     * Sequence of the completion requests, used as the version of the content the completions are requested for, as
+     * the frames of a client are dispatched in the order they were received.
+     */
+    private final AtomicInteger completionRequests = new AtomicInteger();
+
+    /**
+     * Creates a handler of a client which does not receive notifications.
+     */
+    public RequestHandler() {
+        this(null);
+    }
+
+    /**
+     * Creates a handler of a client which receives the diagnostics of the documents it opens.
+     *
+     * @param documentSynchronizer synchronizer of the documents opened by the client
+     */
+    public RequestHandler(TextDocumentSynchronizer documentSynchronizer) {
+        this.documentSynchronizer = documentSynchronizer;
+        this.completionProvider = documentSynchronizer != null ? new CompletionProvider() : null;
+    }
+
+    /**
+     * Routes the given message to the endpoint. Requests are handled asynchronously and their responses are passed
+     * to the given consumer once available, hence responses of several requests in flight may arrive in any order.
+     * Nothing is passed to the consumer for notifications.
+     * <p>
+     * The message is parsed only once. Its parameters are kept as a JSON tree, which is mapped straight to the
+     * parameter type of the delegate method.
+     *
+     * @param endpoint         Endpoint service
+     * @param text             message received from the client
+     * @param responseConsumer consumer of the responses to be sent to the client
+     */
+    public void routeRequestAndNotify(Endpoint endpoint, String text, Consumer<String> responseConsumer) {
+        JsonObject frame = parseFrame(text);
         // Check if the text sent by the client is a valid JSON
-        if (isJSONValid(text)) {
-            jsonrpcRequest = gson.fromJson(text, RequestMessage.class);
+        if (frame != null) {
+            Consumer<String> responses = frame.has(ID_KEY) ? responseConsumer : response -> { };
+            JsonElement params = frame.remove(PARAMS_KEY);
+            RequestMessage jsonrpcRequest = GSON.fromJson(frame, RequestMessage.class);
+            jsonrpcRequest.setParams(params);
             if (jsonrpcRequest.getMethod().equals("PING")) {
-                return sendPong();
+                responses.accept(sendPong());
             } else if (jsonrpcRequest.getMethod().equals(LangServerConstants.BUILT_IN_PACKAGES)) {
-                return getBuiltInPackages(jsonrpcRequest);
+                responses.accept(getBuiltInPackages(jsonrpcRequest));
+            } else if (jsonrpcRequest.getMethod().equals(LangServerConstants.BUILT_IN_PACKAGE_NAMES)) {
+                responses.accept(getBuiltInPackageNames(jsonrpcRequest));
+            } else if (jsonrpcRequest.getMethod().equals(LangServerConstants.BUILT_IN_PACKAGE)) {
+                responses.accept(getBuiltInPackage(jsonrpcRequest));
+            } else if (jsonrpcRequest.getMethod().equals(LangServerConstants.CANCEL_REQUEST)) {
+                cancelRequest(jsonrpcRequest);
+            } else if (documentSynchronizer != null && isTextDocumentSync(jsonrpcRequest.getMethod())) {
+                synchronizeTextDocument(endpoint, jsonrpcRequest);
+            } else if (completionProvider != null && jsonrpcRequest.getId() != null
+                    && jsonrpcRequest.getMethod().equals(LangServerConstants.TEXT_DOCUMENT_COMPLETION)) {
+                provideCompletions(jsonrpcRequest, responses);
             } else if (jsonrpcRequest.getId() != null) { // Its a request
-                return handlerRequest(endpoint, jsonrpcRequest);
+                handlerRequest(endpoint, jsonrpcRequest, responses);
             } else { // Its a notification
                 handlerNotification(endpoint, jsonrpcRequest);
-                return null;
             }
         } else {
             ResponseMessage jsonrpcResponse = new ResponseMessage();
@@ -70,37 +158,169 @@ public class RequestHandler {
             ResponseError responseError = handleError(-32700, "Parse error : Invalid JSON was received " +
                     "by the server");
             jsonrpcResponse.setError(responseError);
-            return gson.toJson(jsonrpcResponse);
+            responseConsumer.accept(GSON.toJson(jsonrpcResponse));
         }
     }
 
     /**
-     * Handles the request sent to the endpoint.
+     * Handles the request sent to the endpoint. The response is passed to the given consumer once the endpoint
+     * completes the request, without blocking the calling thread.
      *
      * @param serviceAsEndpoint Endpoint service
      * @param jsonrpcRequest    Request message
-     * @return {@link String}   Response as a String
+     * @param responseConsumer  consumer of the response as a String
      */
-    public String handlerRequest(Endpoint serviceAsEndpoint, RequestMessage jsonrpcRequest) {
-        ResponseMessage jsonrpcResponse = null;
-        ResponseError responseError = null;
-        String responseStr = null;
+    public void handlerRequest(Endpoint serviceAsEndpoint, RequestMessage jsonrpcRequest,
+                               Consumer<String> responseConsumer) {
         JsonRpcMethod delegateMethod = getDelegateMethod(jsonrpcRequest.getMethod());
-        if (delegateMethod != null) {
-            // Cast parameters to the type requested by the delegate method
-            Class paramCls = (Class) delegateMethod.getParameterTypes()[0];
-            CompletableFuture completableFutureResp = serviceAsEndpoint.request(jsonrpcRequest.getMethod(),
-                    new Gson().fromJson(new Gson().toJson((jsonrpcRequest.getParams())), paramCls));
-            jsonrpcResponse = handleResult(jsonrpcRequest, completableFutureResp);
+        if (delegateMethod == null) {
+            ResponseMessage jsonrpcResponse = new ResponseMessage();
+            jsonrpcResponse.setId(jsonrpcRequest.getId());
+            jsonrpcResponse.setError(handleError(-32601, "Method not found"));
+            responseConsumer.accept(GSON.toJson(jsonrpcResponse));
+            return;
+        }
+        // Cast parameters to the type requested by the delegate method
+        Class paramCls = (Class) delegateMethod.getParameterTypes()[0];
+        CompletableFuture<?> completableFutureResp = serviceAsEndpoint.request(jsonrpcRequest.getMethod(),
+                GSON.fromJson(getParams(jsonrpcRequest), paramCls));
+        if (completableFutureResp == null) {
+            ResponseMessage jsonrpcResponse = new ResponseMessage();
+            jsonrpcResponse.setId(jsonrpcRequest.getId());
+            jsonrpcResponse.setError(handleError(-32003, "Response received from the endpoint is null"));
+            responseConsumer.accept(GSON.toJson(jsonrpcResponse));
+            return;
+        }
+        String id = jsonrpcRequest.getId();
+        pendingRequests.put(id, completableFutureResp);
+        completableFutureResp.whenComplete((result, error) -> {
+            pendingRequests.remove(id, completableFutureResp);
+            responseConsumer.accept(GSON.toJson(handleResult(jsonrpcRequest, result, error)));
+        });
+    }
+
+    /**
+     * Cancels a request in flight, as asked by a $/cancelRequest notification. The cancelled request is responded
+     * with a request cancelled error.
+     * <p>
+     * Cancelling only completes the future of the request, it doesn't stop the work behind it. The requests are
+     * computed by the language server endpoint, which doesn't take a cancel token, hence a cancelled request keeps
+     * running until the endpoint is done with it and only its response is suppressed. Completions computed by this
+     * handler are skipped only if they are still waiting for a compiler thread. The cancellation is also seen only once
+     * the frames received before it are dispatched, as frames of a client are dispatched one at a time.
+     *
+     * @param jsonrpcRequest cancel notification with the ID of the request to cancel as the "id" parameter
+     */
+    private void cancelRequest(RequestMessage jsonrpcRequest) {
+        JsonElement params = getParams(jsonrpcRequest);
+        JsonElement id = params.isJsonObject() ? params.getAsJsonObject().get("id") : null;
+        if (id == null || !id.isJsonPrimitive()) {
+            return;
+        }
+        CompletableFuture<?> pendingRequest = pendingRequests.remove(id.getAsString());
+        if (pendingRequest != null) {
+            pendingRequest.cancel(true);
+        }
+    }
+
+    private boolean isTextDocumentSync(String method) {
+        return method.equals(LangServerConstants.TEXT_DOCUMENT_DID_OPEN)
+                || method.equals(LangServerConstants.TEXT_DOCUMENT_DID_CHANGE)
+                || method.equals(LangServerConstants.TEXT_DOCUMENT_DID_CLOSE);
+    }
+
+    /**
+     * Keeps track of the content of the documents opened by the client, which pushes their diagnostics to the client
+     * once compiled. The notification is forwarded to the endpoint as well. A change is forwarded with the full
+     * content of the document, hence the endpoint gets the same content whether it applies range changes or not.
+     *
+     * @param serviceAsEndpoint Endpoint service
+     * @param jsonrpcRequest    didOpen, didChange or didClose notification
+     */
+    private void synchronizeTextDocument(Endpoint serviceAsEndpoint, RequestMessage jsonrpcRequest) {
+        JsonElement params = getParams(jsonrpcRequest);
+        if (jsonrpcRequest.getMethod().equals(LangServerConstants.TEXT_DOCUMENT_DID_OPEN)) {
+            documentSynchronizer.didOpen(params);
+        } else if (jsonrpcRequest.getMethod().equals(LangServerConstants.TEXT_DOCUMENT_DID_CLOSE)) {
+            documentSynchronizer.didClose(params);
+            String uri = getDocumentUri(params);
+            if (uri != null) {
+                completionProvider.closeDocument(uri);
+            }
         } else {
-            jsonrpcResponse = new ResponseMessage();
+            String content = documentSynchronizer.didChange(params);
+            if (content != null) {
+                JsonObject fullChange = new JsonObject();
+                fullChange.addProperty("text", content);
+                JsonArray contentChanges = new JsonArray();
+                contentChanges.add(fullChange);
+                JsonObject fullParams = new JsonObject();
+                params.getAsJsonObject().entrySet().forEach(entry -> fullParams.add(entry.getKey(), entry.getValue()));
+                fullParams.add("contentChanges", contentChanges);
+                jsonrpcRequest.setParams(fullParams);
+            }
+        }
+        handlerNotification(serviceAsEndpoint, jsonrpcRequest);
+    }
+
+    /**
+     * Computes the completions of a textDocument/completion request on the {@link CompilerExecutor}, shared fairly
+     * with the other clients, and passes the response to the given consumer once they are computed. The completions
+     * are computed for the content sent along with the request, or else for the content of the open document. They
+     * are responded with the same result as of the language server endpoint, a list of completion items as the left
+     * of an either of the list and a completion list. The items are serialized by the completion provider, which
+     * records the time spent in each stage of the request, including the serialization.
+     *
+     * @param jsonrpcRequest   completion request
+     * @param responseConsumer consumer of the response as a String
+     */
+    private void provideCompletions(RequestMessage jsonrpcRequest, Consumer<String> responseConsumer) {
+        JsonElement params = getParams(jsonrpcRequest);
+        String uri = getDocumentUri(params);
+        JsonElement text = params.isJsonObject() ? params.getAsJsonObject().get("text") : null;
+        String content = text != null && text.isJsonPrimitive() ? text.getAsString()
+                : uri != null ? documentSynchronizer.getContent(uri) : null;
+        JsonElement positionJson = params.isJsonObject() ? params.getAsJsonObject().get("position") : null;
+        if (uri == null || content == null || positionJson == null || !positionJson.isJsonObject()) {
+            ResponseMessage jsonrpcResponse = new ResponseMessage();
             jsonrpcResponse.setId(jsonrpcRequest.getId());
-            responseError = handleError(-32601, "Method not found");
-            jsonrpcResponse.setError(responseError);
+            jsonrpcResponse.setError(handleError(-32602, "Invalid params : no document or position to complete"));
+            responseConsumer.accept(GSON.toJson(jsonrpcResponse));
+            return;
         }
+        Position position = GSON.fromJson(positionJson, Position.class);
+        int version = completionRequests.incrementAndGet();
+        CompletionTimings timings = new CompletionTimings();
+        CompletableFuture<String> completions = CompilerExecutor.getInstance()
+                .submit(documentSynchronizer.getClientId(), () ->
+                        completionProvider.getCompletionItemsJson(uri, version, content, position, timings));
+        String id = jsonrpcRequest.getId();
+        pendingRequests.put(id, completions);
+        completions.whenComplete((result, error) -> {
+            pendingRequests.remove(id, completions);
+            if (error != null) {
+                responseConsumer.accept(GSON.toJson(handleResult(jsonrpcRequest, null, error)));
+                return;
+            }
+            // add the serialized completion items into the response, rather than serializing them again
+            StringBuilder response = new StringBuilder(result.length() + 64);
+            response.append("{\"id\":").append(GSON.toJson(id));
+            if (jsonrpcRequest.getJsonrpc() != null) {
+                response.append(",\"jsonrpc\":").append(GSON.toJson(jsonrpcRequest.getJsonrpc()));
+            }
+            response.append(",\"result\":{\"left\":").append(result).append("}}");
+            responseConsumer.accept(response.toString());
+        });
+    }
 
-        responseStr = gson.toJson(jsonrpcResponse);
-        return responseStr;
+    private String getDocumentUri(JsonElement params) {
+        if (!params.isJsonObject()) {
+            return null;
+        }
+        JsonElement textDocument = params.getAsJsonObject().get("textDocument");
+        JsonElement uri = textDocument != null && textDocument.isJsonObject()
+                ? textDocument.getAsJsonObject().get("uri") : params.getAsJsonObject().get("uri");
+        return uri != null && uri.isJsonPrimitive() ? uri.getAsString() : null;
     }
 
     /**
@@ -114,53 +334,59 @@ public class RequestHandler {
         if (delegateMethod != null) {
             // Cast parameters to the type requested by the delegate method
             Class paramCls = (Class) delegateMethod.getParameterTypes()[0];
-            serviceAsEndpoint.notify(jsonrpcRequest.getMethod(), new Gson()
-                    .fromJson(new Gson().toJson((jsonrpcRequest.getParams())), paramCls));
+            serviceAsEndpoint.notify(jsonrpcRequest.getMethod(), GSON.fromJson(getParams(jsonrpcRequest), paramCls));
         }
     }
 
     /**
-     * Check if the json string is in the correct format.
+     * Parses the message received from the client.
      *
-     * @param jsonInString request string sent to the endpoint
-     * @return valid or not
+     * @param text message received from the client
+     * @return message as a JSON object, or null if the message is not a valid JSON object
      */
-    public boolean isJSONValid(String jsonInString) {
+    private JsonObject parseFrame(String text) {
         try {
-            gson.fromJson(jsonInString, Object.class);
-            return true;
-        } catch (com.google.gson.JsonSyntaxException ex) {
-            return false;
+            JsonElement frame = new JsonParser().parse(text);
+            return frame.isJsonObject() ? frame.getAsJsonObject() : null;
+        } catch (JsonParseException ex) {
+            return null;
         }
     }
 
+    /**
+     * Returns the parameters of a parsed request as a JSON tree.
+     *
+     * @param jsonrpcRequest request parsed by {@link #routeRequestAndNotify(Endpoint, String, Consumer)}
+     * @return parameters
+     */
+    private JsonElement getParams(RequestMessage jsonrpcRequest) {
+        Object params = jsonrpcRequest.getParams();
+        if (params instanceof JsonElement) {
+            return (JsonElement) params;
+        }
+        return params == null ? JsonNull.INSTANCE : GSON.toJsonTree(params);
+    }
+
     /**
      * Handle the result/response from the endpoint.
      *
-     * @param jsonrpcRequest        JSON RPC Request object
-     * @param completableFutureResp Result of the request sent
+     * @param jsonrpcRequest JSON RPC Request object
+     * @param result         Result of the request sent
+     * @param error          Error the request failed with, if any
      * @return JSON RPC Response object
      */
-    public ResponseMessage handleResult(RequestMessage jsonrpcRequest, CompletableFuture completableFutureResp) {
+    public ResponseMessage handleResult(RequestMessage jsonrpcRequest, Object result, Throwable error) {
         ResponseMessage jsonrpcResponse = new ResponseMessage();
-        ResponseError responseError = null;
-        // Check if response object is null or not
-        if (completableFutureResp != null) {
-            try {
-                jsonrpcResponse.setResult(completableFutureResp.get());
-                jsonrpcResponse.setJsonrpc(jsonrpcRequest.getJsonrpc());
-                jsonrpcResponse.setId(jsonrpcRequest.getId());
-            } catch (InterruptedException e) {
-                responseError = handleError(-32002, "Attempted to retrieve the result of a task/s " +
-                        "that was aborted by throwing an exception");
-                jsonrpcResponse.setError(responseError);
-            } catch (ExecutionException e) {
-                responseError = handleError(-32001, "Current thread was interrupted");
-                jsonrpcResponse.setError(responseError);
-            }
+        jsonrpcResponse.setJsonrpc(jsonrpcRequest.getJsonrpc());
+        jsonrpcResponse.setId(jsonrpcRequest.getId());
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof CancellationException) {
+            jsonrpcResponse.setError(handleError(LangServerConstants.REQUEST_CANCELLED, "Request cancelled"));
+        } else if (cause != null) {
+            jsonrpcResponse.setError(handleError(LangServerConstants.UNKNOWN_ERROR_CODE,
+                    "Error while processing the request : " + cause.getMessage()));
         } else {
-            responseError = handleError(-32003, "Response received from the endpoint is null");
-            jsonrpcResponse.setError(responseError);
+            jsonrpcResponse.setResult(result);
         }
         return jsonrpcResponse;
     }
@@ -186,8 +412,7 @@ public class RequestHandler {
      * @return delegate method object
      */
     public JsonRpcMethod getDelegateMethod(String methodName) {
-        Map<String, JsonRpcMethod> methods = ServiceEndpoints.getSupportedMethods(ComposerApi.class);
-        return methods.get(methodName);
+        return SUPPORTED_METHODS.get(methodName);
     }
 
     /**
@@ -199,7 +424,7 @@ public class RequestHandler {
         //TODO: Move this to MSF4J ping pong functionality when websocket moved to MSF4J.
         ResponseMessage responseMessage = new ResponseMessage();
         responseMessage.setId("PONG");
-        return gson.toJson(responseMessage);
+        return GSON.toJson(responseMessage);
     }
 
     /**
@@ -209,24 +434,69 @@ public class RequestHandler {
      */
     private String getBuiltInPackages(RequestMessage message) {
         //TODO: Move this to be a separate service.
-        JsonObject response = new JsonObject();
         // Load all the packages associated the runtime
+        BuiltInPackageCatalogue catalogue = BuiltInPackageCatalogue.getInstance();
         if (builtInNativePackages == null) {
-            builtInNativePackages = Utils.getAllPackages();
+            builtInNativePackages = catalogue.getPackages();
         }
         this.setPackages(builtInNativePackages.entrySet());
 
-        // add package info into response
-        Gson gson = new Gson();
-        String json = gson.toJson(builtInNativePackages.values());
-        JsonParser parser = new JsonParser();
-        JsonArray packagesArray = parser.parse(json).getAsJsonArray();
-        response.add("packages", packagesArray);
+        // add the pre-serialized package info into response, rather than serializing the packages again
+        StringBuilder response = new StringBuilder(catalogue.getPackagesJson().length() + 64);
+        response.append("{\"id\":").append(GSON.toJson(message.getId()));
+        if (message.getJsonrpc() != null) {
+            response.append(",\"jsonrpc\":").append(GSON.toJson(message.getJsonrpc()));
+        }
+        response.append(",\"result\":{\"packages\":").append(catalogue.getPackagesJson()).append("}}");
+        return response.toString();
+    }
+
+    /**
+     * Get the names of all the built-in packages along with the names of their constructs, without loading the
+     * packages.
+     *
+     * @param message Request Message
+     */
+    private String getBuiltInPackageNames(RequestMessage message) {
+        JsonArray packageNames = new JsonArray();
+        BuiltInPackageCatalogue.getInstance().getSymbolNames().forEach((packageName, symbolNames) -> {
+            JsonObject packageJson = new JsonObject();
+            packageJson.addProperty("name", packageName);
+            packageJson.add("symbols", GSON.toJsonTree(symbolNames));
+            packageNames.add(packageJson);
+        });
+        JsonObject response = new JsonObject();
+        response.add("packages", packageNames);
 
         ResponseMessage responseMessage = new ResponseMessage();
         responseMessage.setId(message.getId());
         responseMessage.setResult(response);
-        return gson.toJson(responseMessage);
+        return GSON.toJson(responseMessage);
+    }
+
+    /**
+     * Get a single built-in package, e.g. when it is imported or expanded in the tool palette.
+     *
+     * @param message Request Message with the name of the package as the "name" parameter
+     */
+    private String getBuiltInPackage(RequestMessage message) {
+        ResponseMessage responseMessage = new ResponseMessage();
+        responseMessage.setId(message.getId());
+        JsonElement params = getParams(message);
+        JsonElement name = params.isJsonObject() ? params.getAsJsonObject().get("name") : null;
+        if (name == null || !name.isJsonPrimitive()) {
+            responseMessage.setError(handleError(-32602, "Invalid params : package name is required"));
+            return GSON.toJson(responseMessage);
+        }
+        ModelPackage modelPackage = BuiltInPackageCatalogue.getInstance().getPackage(name.getAsString());
+        if (modelPackage == null) {
+            responseMessage.setError(handleError(-32602, "Invalid params : unknown package " + name.getAsString()));
+            return GSON.toJson(responseMessage);
+        }
+        JsonObject response = new JsonObject();
+        response.add("package", GSON.toJsonTree(modelPackage));
+        responseMessage.setResult(response);
+        return GSON.toJson(responseMessage);
     }
 
     /**
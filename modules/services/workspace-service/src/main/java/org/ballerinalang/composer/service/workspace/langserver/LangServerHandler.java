@@ -36,6 +36,7 @@ import io.netty.handler.codec.http.websocketx.WebSocketServerHandshaker;
 import io.netty.handler.codec.http.websocketx.WebSocketServerHandshakerFactory;
 import io.netty.util.CharsetUtil;
 import org.ballerinalang.composer.service.workspace.langserver.consts.LangServerConstants;
+import org.ballerinalang.composer.service.workspace.util.CompilerExecutor;
 
 import static io.netty.handler.codec.http.HttpMethod.GET;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
@@ -92,7 +93,10 @@ public class LangServerHandler extends SimpleChannelInboundHandler<Object> {
             WebSocketServerHandshakerFactory.sendUnsupportedVersionResponse(ctx.channel());
         } else {
             LangServerManager langServerManager = LangServerManager.getInstance();
-            langServerManager.addLaunchSession(ctx.channel());
+            // identified as in the REST services, so that the compiler is shared fairly between clients either way
+            String clientId = CompilerExecutor.getClientId(ctx.channel().remoteAddress(),
+                    req.headers().get(CompilerExecutor.FORWARDED_FOR_HEADER));
+            langServerManager.addLaunchSession(ctx.channel(), clientId);
             handShaker.handshake(ctx.channel(), req);
         }
     }
@@ -115,7 +119,7 @@ public class LangServerHandler extends SimpleChannelInboundHandler<Object> {
 
         String request = ((TextWebSocketFrame) frame).text();
         LangServerManager langServerManager = LangServerManager.getInstance();
-        langServerManager.processFrame(request);
+        langServerManager.processFrame(ctx.channel(), request);
     }
 
     private static void sendHttpResponse(ChannelHandlerContext ctx, FullHttpRequest req, FullHttpResponse res) {
@@ -16,38 +16,44 @@
 
 package org.ballerinalang.composer.service.workspace.langserver;
 
-import com.google.gson.JsonParser;
 import io.netty.channel.Channel;
-import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
-import org.ballerinalang.composer.service.workspace.composerapi.ComposerApiImpl;
-import org.ballerinalang.composer.service.workspace.composerapi.utils.RequestHandler;
-import org.eclipse.lsp4j.jsonrpc.Endpoint;
-import org.eclipse.lsp4j.jsonrpc.services.ServiceEndpoints;
+import io.netty.channel.ChannelId;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Language server Manager which manage langServer requests from the clients.
+ * <p>
+ * Every client channel has its own session. Frames are processed on a pool of worker threads rather than on the
+ * event loop, and responses are written back to the channel the request was received from.
  */
 public class LangServerManager {
 
+    public static final String SYS_WORKERS = "composer.langserver.workers";
+
     private static LangServerManager langServerManagerInstance;
 
     private LangServer langserver;
 
-    private LangServerSession langServerSession;
-
-    private Endpoint languageServerServiceEndpoint;
+    private final ConcurrentMap<ChannelId, LangServerSession> langServerSessions = new ConcurrentHashMap<>();
 
-    private RequestHandler requestHandler;
-
-    private static final String ID_KEY = "id";
+    private final ExecutorService workers;
 
     /**
      * Private constructor.
      */
     private LangServerManager() {
-        ComposerApiImpl composerApiService = new ComposerApiImpl();
-        this.languageServerServiceEndpoint = ServiceEndpoints.toEndpoint(composerApiService);
-        this.requestHandler = new RequestHandler();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(
+                Integer.getInteger(SYS_WORKERS, Runtime.getRuntime().availableProcessors()), runnable -> {
+                    Thread thread = new Thread(runnable, "composer-langserver-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
     }
 
     /**
@@ -72,17 +78,22 @@ public class LangServerManager {
         }
     }
 
-    void addLaunchSession(Channel channel) {
-        this.langServerSession = new LangServerSession(channel);
+    void addLaunchSession(Channel channel, String clientId) {
+        langServerSessions.put(channel.id(), new LangServerSession(channel, clientId));
+        channel.closeFuture().addListener(future -> {
+            LangServerSession langServerSession = langServerSessions.remove(channel.id());
+            if (langServerSession != null) {
+                langServerSession.close();
+            }
+        });
     }
 
-    void processFrame(String json) {
-        JsonParser parser = new JsonParser();
-        boolean isNotification = !parser.parse(json).getAsJsonObject().has(ID_KEY);
-        String response = requestHandler.routeRequestAndNotify(languageServerServiceEndpoint, json);
-        if (!isNotification) {
-            langServerSession.getChannel().write(new TextWebSocketFrame(response));
-            langServerSession.getChannel().flush();
+    void processFrame(Channel channel, String json) {
+        LangServerSession langServerSession = langServerSessions.get(channel.id());
+        if (langServerSession == null) {
+            return;
         }
+        langServerSession.execute(() -> langServerSession.getRequestHandler().routeRequestAndNotify(
+                langServerSession.getLanguageServerServiceEndpoint(), json, langServerSession::send), workers);
     }
 }
@@ -17,20 +17,55 @@
 package org.ballerinalang.composer.service.workspace.langserver;
 
 import io.netty.channel.Channel;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import org.ballerinalang.composer.service.workspace.composerapi.ComposerApiImpl;
+import org.ballerinalang.composer.service.workspace.composerapi.utils.RequestHandler;
+import org.eclipse.lsp4j.jsonrpc.Endpoint;
+import org.eclipse.lsp4j.jsonrpc.services.ServiceEndpoints;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * LangServer session which holds the client information.
+ * <p>
+ * Each session has its own language server endpoint. Frames of a session are dispatched one after the other in the
+ * order they were received, while frames of different sessions are dispatched concurrently. Responses are sent as
+ * the requests complete, so a request which the endpoint computes asynchronously doesn't hold back the frames received
+ * after it, whereas a request computed while being dispatched does. Diagnostics of the documents opened by the client
+ * are pushed to the client as they are compiled.
  */
 public class LangServerSession {
 
+    private static final Logger logger = LoggerFactory.getLogger(LangServerSession.class);
+
     private Channel channel = null;
 
+    private final Endpoint languageServerServiceEndpoint;
+
+    private final TextDocumentSynchronizer documentSynchronizer;
+
+    private final RequestHandler requestHandler;
+
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
     /**
      * Constructor.
      * @param channel netty channel
+     * @param clientId identifier of the client, used to share the compiler fairly between clients
      */
-    public LangServerSession(Channel channel) {
+    public LangServerSession(Channel channel, String clientId) {
         this.channel = channel;
+        this.languageServerServiceEndpoint = ServiceEndpoints.toEndpoint(new ComposerApiImpl());
+        this.documentSynchronizer = new TextDocumentSynchronizer(clientId, this::send);
+        this.requestHandler = new RequestHandler(documentSynchronizer);
     }
 
     /**
@@ -48,4 +83,76 @@ public class LangServerSession {
     public void setChannel(Channel channel) {
         this.channel = channel;
     }
+
+    /**
+     * Get the language server endpoint of this session.
+     * @return language server endpoint
+     */
+    public Endpoint getLanguageServerServiceEndpoint() {
+        return languageServerServiceEndpoint;
+    }
+
+    /**
+     * Get the request handler of this session.
+     * @return request handler
+     */
+    public RequestHandler getRequestHandler() {
+        return requestHandler;
+    }
+
+    /**
+     * Sends a message to the client, if it is still connected.
+     * @param message message to send
+     */
+    void send(String message) {
+        if (channel.isActive()) {
+            channel.writeAndFlush(new TextWebSocketFrame(message));
+        }
+    }
+
+    /**
+     * Releases the resources of this session once the client is disconnected.
+     */
+    void close() {
+        documentSynchronizer.close();
+    }
+
+    /**
+     * Runs the given task on the given executor, after the tasks submitted to this session before it.
+     * @param task     task to run
+     * @param executor executor to run the task on
+     */
+    void execute(Runnable task, Executor executor) {
+        tasks.add(task);
+        schedule(executor);
+    }
+
+    private void schedule(Executor executor) {
+        if (!tasks.isEmpty() && scheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(() -> runTasks(executor));
+            } catch (RejectedExecutionException e) {
+                scheduled.set(false);
+                tasks.clear();
+                logger.error("Dropped language server requests of " + channel, e);
+            }
+        }
+    }
+
+    private void runTasks(Executor executor) {
+        try {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    logger.error("Error while processing language server request", e);
+                }
+            }
+        } finally {
+            scheduled.set(false);
+            // a task may have been added after the queue was found empty
+            schedule(executor);
+        }
+    }
 }
@@ -0,0 +1,432 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.langserver;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.ballerinalang.compiler.CompilerPhase;
+import org.ballerinalang.composer.service.workspace.common.Utils;
+import org.ballerinalang.composer.service.workspace.langserver.consts.LangServerConstants;
+import org.ballerinalang.composer.service.workspace.launcher.util.PackageDeclarationReader;
+import org.ballerinalang.composer.service.workspace.rest.datamodel.BLangFileRestService;
+import org.ballerinalang.composer.service.workspace.rest.datamodel.BallerinaFile;
+import org.ballerinalang.composer.service.workspace.util.CompilerExecutor;
+import org.ballerinalang.composer.service.workspace.util.CompilerOverloadedException;
+import org.ballerinalang.composer.service.workspace.util.WorkspaceUtils;
+import org.ballerinalang.util.diagnostic.Diagnostic;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the documents opened by a language server client in memory and pushes their diagnostics to the client.
+ * <p>
+ * Documents are opened with their full content by textDocument/didOpen, after which textDocument/didChange only
+ * carries the edited ranges, which are applied to the content kept here. Every change schedules a compilation of the
+ * document, which is debounced so that a burst of keystrokes is compiled only once. Compilations run on the
+ * {@link CompilerExecutor}, shared fairly with the other clients, and their diagnostics are pushed to the client by a
+ * textDocument/publishDiagnostics notification, unless the document was changed or closed in the meantime.
+ */
+public class TextDocumentSynchronizer {
+
+    private static final Logger logger = LoggerFactory.getLogger(TextDocumentSynchronizer.class);
+
+    public static final String SYS_DEBOUNCE_MILLIS = "composer.langserver.diagnostics.debounceMillis";
+
+    public static final int DEFAULT_DEBOUNCE_MILLIS = 300;
+
+    private static final long DEBOUNCE_MILLIS = Integer.getInteger(SYS_DEBOUNCE_MILLIS, DEFAULT_DEBOUNCE_MILLIS);
+
+    private static final String DIAGNOSTICS_SOURCE = "ballerina";
+    private static final int SEVERITY_ERROR = 1;
+
+    /**
+     * Debounces the compilations of all clients. Compilations are only submitted to the compiler executor from here,
+     * without waiting for them, hence a single thread is enough.
+     */
+    private static final ScheduledExecutorService SCHEDULER = createScheduler();
+
+    private final String clientId;
+
+    private final Consumer<String> notificationSender;
+
+    private final ConcurrentMap<String, OpenDocument> documents = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param clientId           identifier of the client, used to share the compiler fairly between clients
+     * @param notificationSender sends a notification to the client
+     */
+    public TextDocumentSynchronizer(String clientId, Consumer<String> notificationSender) {
+        this.clientId = clientId;
+        this.notificationSender = notificationSender;
+    }
+
+    /**
+     * Returns the identifier of the client, used to share the compiler fairly between clients.
+     *
+     * @return client identifier
+     */
+    public String getClientId() {
+        return clientId;
+    }
+
+    /**
+     * Opens a document with the parameters of a textDocument/didOpen notification.
+     *
+     * @param params notification parameters
+     */
+    public void didOpen(JsonElement params) {
+        JsonObject textDocument = getTextDocument(params);
+        if (textDocument == null || !textDocument.has("uri") || !textDocument.has("text")) {
+            return;
+        }
+        String uri = textDocument.get("uri").getAsString();
+        OpenDocument document = new OpenDocument(uri, textDocument.get("text").getAsString());
+        OpenDocument previous = documents.put(uri, document);
+        if (previous != null) {
+            previous.cancel();
+        }
+        document.scheduleCompilation(0);
+    }
+
+    /**
+     * Applies the changes of a textDocument/didChange notification to the content of the document.
+     *
+     * @param params notification parameters
+     * @return content of the document after the changes, or null if the document is not open
+     */
+    public String didChange(JsonElement params) {
+        JsonObject textDocument = getTextDocument(params);
+        OpenDocument document = textDocument != null && textDocument.has("uri")
+                ? documents.get(textDocument.get("uri").getAsString()) : null;
+        JsonElement changes = params.getAsJsonObject().get("contentChanges");
+        if (document == null || changes == null || !changes.isJsonArray()) {
+            return null;
+        }
+        String content;
+        synchronized (document) {
+            content = document.content;
+            for (JsonElement change : changes.getAsJsonArray()) {
+                content = applyChange(content, change.getAsJsonObject());
+            }
+            document.content = content;
+            document.revision++;
+        }
+        document.scheduleCompilation(DEBOUNCE_MILLIS);
+        return content;
+    }
+
+    /**
+     * Closes a document with the parameters of a textDocument/didClose notification, clearing its diagnostics.
+     *
+     * @param params notification parameters
+     */
+    public void didClose(JsonElement params) {
+        JsonObject textDocument = getTextDocument(params);
+        if (textDocument == null || !textDocument.has("uri")) {
+            return;
+        }
+        String uri = textDocument.get("uri").getAsString();
+        OpenDocument document = documents.remove(uri);
+        if (document != null) {
+            // cleared after the diagnostics being published, if any
+            synchronized (document) {
+                document.cancel();
+                notificationSender.accept(createDiagnosticsNotification(uri, new JsonArray()));
+            }
+        }
+    }
+
+    /**
+     * Closes all the documents, cancelling their pending compilations, e.g. when the client disconnects.
+     */
+    public void close() {
+        documents.values().forEach(OpenDocument::cancel);
+        documents.clear();
+    }
+
+    /**
+     * Returns the content of an open document.
+     *
+     * @param uri URI of the document
+     * @return content of the document, or null if the document is not open
+     */
+    public String getContent(String uri) {
+        OpenDocument document = documents.get(uri);
+        if (document == null) {
+            return null;
+        }
+        synchronized (document) {
+            return document.content;
+        }
+    }
+
+    /**
+     * Applies a content change of a textDocument/didChange notification. A change without a range replaces the whole
+     * content, as sent by clients which do not support incremental changes.
+     *
+     * @param content content of the document
+     * @param change  content change, of which the range has 0-based lines and characters
+     * @return changed content
+     */
+    static String applyChange(String content, JsonObject change) {
+        String text = change.has("text") ? change.get("text").getAsString() : "";
+        JsonElement range = change.get("range");
+        if (range == null || !range.isJsonObject()) {
+            return text;
+        }
+        int start = getOffset(content, range.getAsJsonObject().getAsJsonObject("start"));
+        int end = Math.max(start, getOffset(content, range.getAsJsonObject().getAsJsonObject("end")));
+        return content.substring(0, start) + text + content.substring(end);
+    }
+
+    /**
+     * Returns the offset of a position in the content, clamped to the line of the position and to the content.
+     */
+    private static int getOffset(String content, JsonObject position) {
+        int line = position.get("line").getAsInt();
+        int lineStart = 0;
+        for (int i = 0; i < line; i++) {
+            int lineEnd = content.indexOf('\n', lineStart);
+            if (lineEnd < 0) {
+                return content.length();
+            }
+            lineStart = lineEnd + 1;
+        }
+        int lineEnd = content.indexOf('\n', lineStart);
+        return Math.min(lineStart + Math.max(0, position.get("character").getAsInt()),
+                lineEnd < 0 ? content.length() : lineEnd);
+    }
+
+    private static JsonObject getTextDocument(JsonElement params) {
+        if (params == null || !params.isJsonObject()) {
+            return null;
+        }
+        JsonElement textDocument = params.getAsJsonObject().get("textDocument");
+        return textDocument != null && textDocument.isJsonObject() ? textDocument.getAsJsonObject() : null;
+    }
+
+    /**
+     * Compiles the given content of a document. A document saved in a program directory is compiled along with the
+     * other files of its package, as in the validation of the REST service.
+     *
+     * @return diagnostics of the document in the format of the textDocument/publishDiagnostics notification
+     */
+    private static JsonArray compile(String uri, String content) {
+        Path path = getPath(uri);
+        String fileName = path != null ? path.getFileName().toString() : uri.substring(uri.lastIndexOf('/') + 1);
+        BallerinaFile ballerinaFile;
+        if (path != null && Files.exists(path)) {
+            Path programDir = path.getParent();
+            String unitToCompile = fileName;
+            List<String> pkgNameComps = PackageDeclarationReader.getPackageNameComponents(content);
+            Path pkgProgramDir = pkgNameComps.isEmpty() ? null : Utils.getProgramDirectory(pkgNameComps, path);
+            if (pkgProgramDir != null) {
+                programDir = pkgProgramDir;
+                unitToCompile = String.join(".", pkgNameComps);
+            }
+            ballerinaFile = WorkspaceUtils.getBallerinaFileForDirtyContent(programDir.toString(), unitToCompile,
+                    fileName, content);
+        } else {
+            ballerinaFile = WorkspaceUtils.getBallerinaFileForContent(fileName, content, CompilerPhase.CODE_ANALYZE);
+        }
+        // diagnostics of other files in the package are published when those files are open
+        List<Diagnostic> diagnostics = ballerinaFile.getDiagnostics().stream()
+                .filter(diagnostic -> diagnostic.getPosition() == null
+                        || diagnostic.getSource().getCompilationUnitName().equals(fileName))
+                .collect(Collectors.toList());
+        // categorized as in the validation of the REST service, where no package is built due to syntax errors
+        return toJson(diagnostics, ballerinaFile.getBLangPackage() == null
+                ? BLangFileRestService.ErrorCategory.SYNTAX : BLangFileRestService.ErrorCategory.SEMANTIC);
+    }
+
+    private static Path getPath(String uri) {
+        try {
+            return uri.startsWith("file:") ? Paths.get(new URI(uri)) : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static String createDiagnosticsNotification(String uri, JsonArray diagnostics) {
+        JsonObject params = new JsonObject();
+        params.addProperty("uri", uri);
+        params.add("diagnostics", diagnostics);
+        JsonObject notification = new JsonObject();
+        notification.addProperty("jsonrpc", "2.0");
+        notification.addProperty("method", LangServerConstants.TEXT_DOCUMENT_PUBLISH_DIAGNOSTICS);
+        notification.add("params", params);
+        return notification.toString();
+    }
+
+    /**
+     * Converts diagnostics to JSON. The compiler diagnostics have no codes, hence the code of a diagnostic is its
+     * error category, by which clients tell syntax errors apart.
+     */
+    private static JsonArray toJson(List<Diagnostic> diagnostics, BLangFileRestService.ErrorCategory category) {
+        JsonArray diagnosticsJson = new JsonArray();
+        for (Diagnostic diagnostic : diagnostics) {
+            Diagnostic.DiagnosticPosition position = diagnostic.getPosition();
+            JsonObject range = new JsonObject();
+            if (position != null) {
+                // compiler positions have 1-based lines and columns, while protocol positions are 0-based
+                JsonObject start = toPosition(position.getStartLine(), position.getStartColumn());
+                range.add("start", start);
+                range.add("end", position.getEndLine() > 0
+                        ? toPosition(position.getEndLine(), position.getEndColumn()) : start);
+            } else {
+                range.add("start", toPosition(1, 1));
+                range.add("end", toPosition(1, 1));
+            }
+            JsonObject diagnosticJson = new JsonObject();
+            diagnosticJson.add("range", range);
+            diagnosticJson.addProperty("severity", SEVERITY_ERROR);
+            diagnosticJson.addProperty("code", category.name());
+            diagnosticJson.addProperty("source", DIAGNOSTICS_SOURCE);
+            diagnosticJson.addProperty("message", diagnostic.getMessage());
+            diagnosticsJson.add(diagnosticJson);
+        }
+        return diagnosticsJson;
+    }
+
+    private static JsonObject toPosition(int line, int column) {
+        JsonObject position = new JsonObject();
+        position.addProperty("line", Math.max(0, line - 1));
+        position.addProperty("character", Math.max(0, column - 1));
+        return position;
+    }
+
+    private static ScheduledExecutorService createScheduler() {
+        return Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "composer-diagnostics");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * A document opened by the client.
+     */
+    private class OpenDocument {
+
+        private final String uri;
+
+        private String content;
+
+        /**
+         * Incremented on every change, to drop the diagnostics of outdated content.
+         */
+        private int revision;
+
+        /**
+         * The debounced compilation waiting on the scheduler, or the compilation submitted to the compiler executor.
+         */
+        private Future<?> pendingCompilation;
+
+        OpenDocument(String uri, String content) {
+            this.uri = uri;
+            this.content = content;
+        }
+
+        /**
+         * Schedules a compilation of the current content, replacing the compilation pending for an earlier content.
+         */
+        synchronized void scheduleCompilation(long delayMillis) {
+            if (pendingCompilation != null) {
+                pendingCompilation.cancel(false);
+            }
+            pendingCompilation = SCHEDULER.schedule(this::publishDiagnostics, delayMillis, TimeUnit.MILLISECONDS);
+        }
+
+        synchronized void cancel() {
+            if (pendingCompilation != null) {
+                pendingCompilation.cancel(false);
+                pendingCompilation = null;
+            }
+        }
+
+        /**
+         * Submits a compilation of the current content to the compiler executor, without waiting for it.
+         */
+        private void publishDiagnostics() {
+            String compiledContent;
+            int compiledRevision;
+            synchronized (this) {
+                compiledContent = content;
+                compiledRevision = revision;
+            }
+            CompletableFuture<JsonArray> compilation = CompilerExecutor.getInstance()
+                    .submit(clientId, () -> compile(uri, compiledContent));
+            synchronized (this) {
+                if (!isCurrent(compiledRevision)) {
+                    compilation.cancel(false);
+                    return;
+                }
+                pendingCompilation = compilation;
+            }
+            compilation.whenComplete((diagnostics, error) -> onCompiled(compiledRevision, diagnostics, error));
+        }
+
+        private void onCompiled(int compiledRevision, JsonArray diagnostics, Throwable error) {
+            if (error instanceof CancellationException) {
+                return;
+            }
+            if (error instanceof CompilerOverloadedException) {
+                synchronized (this) {
+                    if (isCurrent(compiledRevision)) {
+                        scheduleCompilation(TimeUnit.SECONDS.toMillis(
+                                ((CompilerOverloadedException) error).getRetryAfterSeconds()));
+                    }
+                }
+                return;
+            }
+            if (error != null) {
+                logger.error("Error while compiling " + uri + " for diagnostics", error);
+                return;
+            }
+            String notification = createDiagnosticsNotification(uri, diagnostics);
+            synchronized (this) {
+                // a newer content is compiled by the compilation scheduled by the change
+                if (isCurrent(compiledRevision)) {
+                    notificationSender.accept(notification);
+                }
+            }
+        }
+
+        private boolean isCurrent(int compiledRevision) {
+            return documents.get(uri) == this && revision == compiledRevision;
+        }
+    }
+}
@@ -19,6 +19,7 @@
 package org.ballerinalang.composer.service.workspace.langserver;
 
 import org.ballerinalang.composer.service.workspace.langserver.dto.Position;
+import org.ballerinalang.composer.service.workspace.langserver.util.positioning.PositionIndex;
 import org.ballerinalang.composer.service.workspace.langserver.util.positioning.resolver.BlockStatementScopeResolver;
 import org.ballerinalang.composer.service.workspace.langserver.util.positioning.resolver.CursorPositionResolver;
 import org.ballerinalang.composer.service.workspace.langserver.util.positioning.resolver.PackageNodeScopeResolver;
@@ -74,6 +75,7 @@ import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.diagnotic.DiagnosticPos;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -84,6 +86,20 @@ import java.util.stream.Collectors;
  * @since 0.94
  */
 public class TreeVisitor extends BLangNodeVisitor {
+    /**
+     * Cursor position resolvers, by their classes. Resolvers are stateless, hence shared by all the visitors.
+     */
+    private static final Map<Class, CursorPositionResolver> CURSOR_POSITION_RESOLVERS;
+
+    static {
+        Map<Class, CursorPositionResolver> cursorPositionResolvers = new HashMap<>();
+        cursorPositionResolvers.put(BlockStatementScopeResolver.class, new BlockStatementScopeResolver());
+        cursorPositionResolvers.put(ResourceParamScopeResolver.class, new ResourceParamScopeResolver());
+        cursorPositionResolvers.put(PackageNodeScopeResolver.class, new PackageNodeScopeResolver());
+        cursorPositionResolvers.put(ServiceScopeResolver.class, new ServiceScopeResolver());
+        CURSOR_POSITION_RESOLVERS = Collections.unmodifiableMap(cursorPositionResolvers);
+    }
+
     private String cUnitName;
     private SymbolEnv symbolEnv;
     private SymbolTable symTable;
@@ -95,8 +111,8 @@ public class TreeVisitor extends BLangNodeVisitor {
     private SymbolEnter symbolEnter;
     private Stack<Node> blockOwnerStack;
     private Stack<BLangBlockStmt> blockStmtStack;
-    private Map<Class, CursorPositionResolver> cursorPositionResolvers;
     private Class cursorPositionResolver;
+    private PositionIndex positionIndex;
 
     public TreeVisitor(String cUnitName, CompilerContext compilerContext, List<SymbolInfo> symbolInfoList,
                        Position pos, SuggestionsFilterDataModel filterDataModel) {
@@ -109,16 +125,23 @@ public class TreeVisitor extends BLangNodeVisitor {
         this.filterDataModel = filterDataModel;
         blockOwnerStack = new Stack<>();
         blockStmtStack = new Stack<>();
+    }
 
-        cursorPositionResolvers = new HashMap<>();
-        BlockStatementScopeResolver blockStatementScopeResolver = new BlockStatementScopeResolver();
-        ResourceParamScopeResolver resourceParamScopeResolver = new ResourceParamScopeResolver();
-        PackageNodeScopeResolver packageNodeScopeResolver = new PackageNodeScopeResolver();
-        ServiceScopeResolver serviceScopeResolver = new ServiceScopeResolver();
-        cursorPositionResolvers.put(BlockStatementScopeResolver.class, blockStatementScopeResolver);
-        cursorPositionResolvers.put(ResourceParamScopeResolver.class, resourceParamScopeResolver);
-        cursorPositionResolvers.put(PackageNodeScopeResolver.class, packageNodeScopeResolver);
-        cursorPositionResolvers.put(ServiceScopeResolver.class, serviceScopeResolver);
+    /**
+     * Constructor for a visitor which looks up the top-level node enclosing the cursor from the given position index,
+     * rather than visiting all the top-level nodes of the compilation unit.
+     *
+     * @param cUnitName       compilation unit name
+     * @param compilerContext compiler context
+     * @param symbolInfoList  list to add the visible symbols to
+     * @param pos             cursor position
+     * @param filterDataModel suggestions filter data model
+     * @param positionIndex   position index of the compilation unit
+     */
+    public TreeVisitor(String cUnitName, CompilerContext compilerContext, List<SymbolInfo> symbolInfoList,
+                       Position pos, SuggestionsFilterDataModel filterDataModel, PositionIndex positionIndex) {
+        this(cUnitName, compilerContext, symbolInfoList, pos, filterDataModel);
+        this.positionIndex = positionIndex;
     }
 
     // Visitor methods
@@ -126,6 +149,16 @@ public class TreeVisitor extends BLangNodeVisitor {
     public void visit(BLangPackage pkgNode) {
         SymbolEnv pkgEnv = symbolEnter.packageEnvs.get(pkgNode.symbol);
 
+        // Only the top-level node enclosing the cursor can contain the scope of the cursor. A cursor which is not
+        // within any top-level node, e.g. between two of them, is resolved by visiting all of them as without an index
+        PositionIndex.ScopeNode topLevelScope =
+                positionIndex != null ? positionIndex.getTopLevelScopeAt(position) : null;
+        if (topLevelScope != null) {
+            cursorPositionResolver = PackageNodeScopeResolver.class;
+            acceptNode(topLevelScope.getNode(), pkgEnv);
+            return;
+        }
+
         // Then visit each top-level element sorted using the compilation unit
         List<TopLevelNode> topLevelNodes = pkgNode.topLevelNodes.stream().filter(node ->
                     node.getPosition().getSource().getCompilationUnitName().equals(this.cUnitName)
@@ -199,7 +232,7 @@ public class TreeVisitor extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangVariable varNode) {
-        cursorPositionResolvers.get(cursorPositionResolver)
+        CURSOR_POSITION_RESOLVERS.get(cursorPositionResolver)
                 .isCursorBeforeStatement(varNode.getPosition(), varNode, this);
     }
 
@@ -229,7 +262,7 @@ public class TreeVisitor extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangVariableDef varDefNode) {
-        if (!cursorPositionResolvers.get(cursorPositionResolver)
+        if (!CURSOR_POSITION_RESOLVERS.get(cursorPositionResolver)
                 .isCursorBeforeStatement(varDefNode.getPosition(), varDefNode, this)) {
             this.acceptNode(varDefNode.var, symbolEnv);
         }
@@ -237,19 +270,19 @@ public class TreeVisitor extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangAssignment assignNode) {
-        cursorPositionResolvers.get(cursorPositionResolver)
+        CURSOR_POSITION_RESOLVERS.get(cursorPositionResolver)
                 .isCursorBeforeStatement(assignNode.getPosition(), assignNode, this);
     }
 
     @Override
     public void visit(BLangExpressionStmt exprStmtNode) {
-        cursorPositionResolvers.get(cursorPositionResolver)
+        CURSOR_POSITION_RESOLVERS.get(cursorPositionResolver)
                 .isCursorBeforeStatement(exprStmtNode.getPosition(), exprStmtNode, this);
     }
 
     @Override
     public void visit(BLangIf ifNode) {
-        if (!cursorPositionResolvers.get(cursorPositionResolver)
+        if (!CURSOR_POSITION_RESOLVERS.get(cursorPositionResolver)
                 .isCursorBeforeStatement(ifNode.getPosition(), ifNode, this)) {
             this.blockOwnerStack.push(ifNode);
             this.acceptNode(ifNode.body, symbolEnv);
@@ -268,7 +301,7 @@ public class TreeVisitor extends BLangNodeVisitor {
     }
 
     public void visit(BLangWhile whileNode) {
-        if (!cursorPositionResolvers.get(cursorPositionResolver)
+        if (!CURSOR_POSITION_RESOLVERS.get(cursorPositionResolver)
                 .isCursorBeforeStatement(whileNode.getPosition(), whileNode, this)) {
 
             this.blockOwnerStack.push(whileNode);
@@ -327,7 +360,7 @@ public class TreeVisitor extends BLangNodeVisitor {
     }
 
     public void visit(BLangResource resourceNode) {
-        if (!cursorPositionResolvers.get(cursorPositionResolver)
+        if (!CURSOR_POSITION_RESOLVERS.get(cursorPositionResolver)
                 .isCursorBeforeStatement(resourceNode.getPosition(), resourceNode, this)) {
             BSymbol resourceSymbol = resourceNode.symbol;
             SymbolEnv resourceEnv = SymbolEnv.createResourceActionSymbolEnv(resourceNode,
@@ -349,7 +382,7 @@ public class TreeVisitor extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangTryCatchFinally tryCatchFinally) {
-        if (!cursorPositionResolvers.get(cursorPositionResolver)
+        if (!CURSOR_POSITION_RESOLVERS.get(cursorPositionResolver)
                 .isCursorBeforeStatement(tryCatchFinally.getPosition(), tryCatchFinally, this)) {
 
             this.blockOwnerStack.push(tryCatchFinally);
@@ -372,7 +405,7 @@ public class TreeVisitor extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangCatch bLangCatch) {
-        if (!cursorPositionResolvers.get(cursorPositionResolver)
+        if (!CURSOR_POSITION_RESOLVERS.get(cursorPositionResolver)
                 .isCursorBeforeStatement(bLangCatch.getPosition(), bLangCatch, this)) {
             SymbolEnv catchBlockEnv = SymbolEnv.createBlockEnv(bLangCatch.body, symbolEnv);
             this.acceptNode(bLangCatch.param, catchBlockEnv);
@@ -471,30 +504,30 @@ public class TreeVisitor extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangWorkerSend workerSendNode) {
-        cursorPositionResolvers.get(cursorPositionResolver)
+        CURSOR_POSITION_RESOLVERS.get(cursorPositionResolver)
                 .isCursorBeforeStatement(workerSendNode.getPosition(), workerSendNode, this);
     }
 
     @Override
     public void visit(BLangWorkerReceive workerReceiveNode) {
-        cursorPositionResolvers.get(cursorPositionResolver)
+        CURSOR_POSITION_RESOLVERS.get(cursorPositionResolver)
                 .isCursorBeforeStatement(workerReceiveNode.getPosition(), workerReceiveNode, this);
     }
 
     @Override
     public void visit(BLangReturn returnNode) {
-        cursorPositionResolvers.get(cursorPositionResolver)
+        CURSOR_POSITION_RESOLVERS.get(cursorPositionResolver)
                 .isCursorBeforeStatement(returnNode.getPosition(), returnNode, this);
     }
 
     public void visit(BLangNext nextNode) {
-        cursorPositionResolvers.get(cursorPositionResolver)
+        CURSOR_POSITION_RESOLVERS.get(cursorPositionResolver)
                 .isCursorBeforeStatement(nextNode.getPosition(), nextNode, this);
     }
 
     @Override
     public void visit(BLangComment comment) {
-        cursorPositionResolvers.get(cursorPositionResolver)
+        CURSOR_POSITION_RESOLVERS.get(cursorPositionResolver)
                 .isCursorBeforeStatement(comment.getPosition(), comment, this);
     }
 
@@ -65,12 +65,17 @@ public class LangServerConstants {
     public static final String SHUTDOWN = "shutdown";
     public static final String EXIT = "exit";
     public static final String TEXT_DOCUMENT_DID_OPEN = "textDocument/didOpen";
+    public static final String TEXT_DOCUMENT_DID_CHANGE = "textDocument/didChange";
     public static final String TEXT_DOCUMENT_DID_CLOSE = "textDocument/didClose";
     public static final String TEXT_DOCUMENT_DID_SAVE = "textDocument/didSave";
     public static final String TEXT_DOCUMENT_DOCUMENT_SYMBOL = "textDocument/documentSymbol";
     public static final String TEXT_DOCUMENT_COMPLETION = "textDocument/completion";
+    public static final String TEXT_DOCUMENT_PUBLISH_DIAGNOSTICS = "textDocument/publishDiagnostics";
     public static final String PROGRAM_DIRECTORY_PACKAGES = "programDirectory/packages";
     public static final String BUILT_IN_PACKAGES = "ballerina/packages";
+    public static final String BUILT_IN_PACKAGE_NAMES = "ballerina/packageNames";
+    public static final String BUILT_IN_PACKAGE = "ballerina/package";
+    public static final String CANCEL_REQUEST = "$/cancelRequest";
 
     public static final String WORKSPACE_SYMBOL = "workspace/symbol";
 
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.langserver.util.completion;
+
+import org.ballerinalang.composer.service.workspace.langserver.dto.Position;
+import org.ballerinalang.composer.service.workspace.langserver.util.positioning.PositionIndex;
+import org.ballerinalang.util.diagnostic.Diagnostic;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.SymbolEnter;
+import org.wso2.ballerinalang.compiler.semantics.model.SymbolEnv;
+import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Compiled state of a single version of a document, as used to resolve completions. The symbol table and the symbol
+ * environments are resolved from the compiler context the document was compiled with.
+ */
+public class CompiledDocument {
+
+    private final String compilationUnitName;
+    private final int version;
+    private final String content;
+    private final CompilerContext compilerContext;
+    private final BLangPackage bLangPackage;
+    private final List<Diagnostic> diagnostics;
+
+    private volatile PositionIndex positionIndex;
+
+    public CompiledDocument(String compilationUnitName, int version, String content, CompilerContext compilerContext,
+                            BLangPackage bLangPackage, List<Diagnostic> diagnostics) {
+        this.compilationUnitName = compilationUnitName;
+        this.version = version;
+        this.content = content;
+        this.compilerContext = compilerContext;
+        this.bLangPackage = bLangPackage;
+        this.diagnostics = diagnostics == null ? Collections.emptyList() : Collections.unmodifiableList(diagnostics);
+    }
+
+    public String getCompilationUnitName() {
+        return compilationUnitName;
+    }
+
+    /**
+     * Returns the version of the document which was compiled.
+     *
+     * @return document version
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the content of the document which was compiled.
+     *
+     * @return document content
+     */
+    public String getContent() {
+        return content;
+    }
+
+    public CompilerContext getCompilerContext() {
+        return compilerContext;
+    }
+
+    public BLangPackage getBLangPackage() {
+        return bLangPackage;
+    }
+
+    public List<Diagnostic> getDiagnostics() {
+        return diagnostics;
+    }
+
+    public SymbolTable getSymbolTable() {
+        return SymbolTable.getInstance(compilerContext);
+    }
+
+    /**
+     * Returns the symbol environment of the compiled package.
+     *
+     * @return package symbol environment, or null if the package was not defined by the compilation
+     */
+    public SymbolEnv getPackageEnv() {
+        if (bLangPackage == null || bLangPackage.symbol == null) {
+            return null;
+        }
+        return SymbolEnter.getInstance(compilerContext).packageEnvs.get(bLangPackage.symbol);
+    }
+
+    /**
+     * Checks whether the compilation got as far as resolving the symbols of the package, so that completions can be
+     * resolved from it.
+     *
+     * @return true if the symbols of the package are resolved
+     */
+    public boolean isResolved() {
+        return getPackageEnv() != null;
+    }
+
+    /**
+     * Returns the index of the scopes of the compiled document by their positions, building it on first use.
+     *
+     * @return position index, or null if the symbols of the package are not resolved
+     */
+    public PositionIndex getPositionIndex() {
+        if (positionIndex == null && isResolved()) {
+            synchronized (this) {
+                if (positionIndex == null) {
+                    positionIndex = PositionIndex.build(bLangPackage, compilationUnitName);
+                }
+            }
+        }
+        return positionIndex;
+    }
+
+    /**
+     * Maps a cursor position in the given content of the document to the same position in the compiled content, as
+     * the compiled state of a document is reused for content which differs from it within a single line. A cursor
+     * after the edit on the edited line is shifted by the length the line changed by, and a cursor within the edited
+     * text is moved to the end of the text it replaced.
+     *
+     * @param currentContent content of the document the cursor is in
+     * @param position       cursor position, of which the line is 1-based and the character is 0-based
+     * @return cursor position in the compiled content
+     */
+    public Position toCompiledPosition(String currentContent, Position position) {
+        if (content.equals(currentContent)) {
+            return position;
+        }
+        int prefix = 0;
+        int maxPrefix = Math.min(content.length(), currentContent.length());
+        while (prefix < maxPrefix && content.charAt(prefix) == currentContent.charAt(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        int maxSuffix = maxPrefix - prefix;
+        while (suffix < maxSuffix && content.charAt(content.length() - 1 - suffix)
+                == currentContent.charAt(currentContent.length() - 1 - suffix)) {
+            suffix++;
+        }
+        int offset = getOffset(currentContent, position);
+        int compiledOffset;
+        if (offset <= prefix) {
+            compiledOffset = offset;
+        } else if (offset >= currentContent.length() - suffix) {
+            compiledOffset = offset - currentContent.length() + content.length();
+        } else {
+            compiledOffset = Math.min(offset, content.length() - suffix);
+        }
+        Position compiledPosition = new Position();
+        int lineStart = content.lastIndexOf('\n', compiledOffset - 1) + 1;
+        int line = 1;
+        for (int i = 0; i < lineStart; i++) {
+            if (content.charAt(i) == '\n') {
+                line++;
+            }
+        }
+        compiledPosition.setLine(line);
+        compiledPosition.setCharacter(compiledOffset - lineStart);
+        return compiledPosition;
+    }
+
+    private static int getOffset(String content, Position position) {
+        int lineStart = 0;
+        for (int line = 1; line < position.getLine(); line++) {
+            int lineEnd = content.indexOf('\n', lineStart);
+            if (lineEnd < 0) {
+                return content.length();
+            }
+            lineStart = lineEnd + 1;
+        }
+        int lineEnd = content.indexOf('\n', lineStart);
+        return Math.min(lineStart + Math.max(0, position.getCharacter()), lineEnd < 0 ? content.length() : lineEnd);
+    }
+}
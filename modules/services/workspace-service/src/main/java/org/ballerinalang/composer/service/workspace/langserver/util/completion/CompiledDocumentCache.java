@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.langserver.util.completion;
+
+import org.ballerinalang.composer.service.workspace.langserver.dto.Position;
+import org.ballerinalang.composer.service.workspace.langserver.util.positioning.PositionIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.ballerinalang.compiler.tree.BLangAction;
+import org.wso2.ballerinalang.compiler.tree.BLangFunction;
+import org.wso2.ballerinalang.compiler.tree.BLangNode;
+import org.wso2.ballerinalang.compiler.tree.BLangResource;
+import org.wso2.ballerinalang.compiler.util.diagnotic.DiagnosticPos;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Per-document cache of the compiled state used to resolve completions.
+ * <p>
+ * Completions are requested on almost every keystroke, while most of these requests either only move the cursor or
+ * edit the body of a single callable unit. The cache keeps the last version of each document along with its last
+ * compilation which resolved the symbols of the package, and a document is compiled again only when
+ * <ul>
+ * <li>its content changed, and</li>
+ * <li>the edit since the cached compilation adds or removes lines, adds or removes statement or block delimiters, or
+ * is not confined to the body of a single function, resource or action.</li>
+ * </ul>
+ * When the compilation of an edited document fails to resolve the symbols of the package, which is common while a
+ * statement is being typed, the last compilation which did is kept and used instead.
+ */
+public class CompiledDocumentCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompiledDocumentCache.class);
+
+    public static final String SYS_MAX_DOCUMENTS = "composer.completion.cache.maxDocuments";
+    public static final int DEFAULT_MAX_DOCUMENTS = 32;
+
+    private final LinkedHashMap<String, DocumentState> documents;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong compilations = new AtomicLong();
+
+    public CompiledDocumentCache() {
+        this(Integer.getInteger(SYS_MAX_DOCUMENTS, DEFAULT_MAX_DOCUMENTS));
+    }
+
+    public CompiledDocumentCache(int maxDocuments) {
+        this.documents = new LinkedHashMap<String, DocumentState>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, DocumentState> eldest) {
+                return size() > maxDocuments;
+            }
+        };
+    }
+
+    /**
+     * Returns the compiled state to resolve completions of the given version of a document from, compiling the
+     * document with the given compiler only if the cached state cannot be reused.
+     *
+     * @param documentUri URI of the document
+     * @param version     version of the document
+     * @param content     content of the document
+     * @param compiler    compiles the given content of the document
+     * @return compiled document, which is a previous compilation of the document if it could be reused
+     */
+    public CompiledDocument get(String documentUri, int version, String content,
+                                Function<String, CompiledDocument> compiler) {
+        DocumentState state;
+        synchronized (documents) {
+            state = documents.computeIfAbsent(documentUri, uri -> new DocumentState());
+        }
+        synchronized (state) {
+            if (state.compiled != null && version < state.version) {
+                // request for an outdated version, which must not replace the state of the latest version
+                compilations.incrementAndGet();
+                return compiler.apply(content);
+            }
+            if (state.compiled != null && (content.equals(state.content)
+                    || (state.compiled.isResolved() && isEditConfinedToBody(state.compiled, content)))) {
+                state.version = version;
+                state.content = content;
+                hits.incrementAndGet();
+                logStats();
+                return state.compiled;
+            }
+            CompiledDocument compiled = compiler.apply(content);
+            compilations.incrementAndGet();
+            state.version = version;
+            state.content = content;
+            if (compiled.isResolved() || state.compiled == null || !state.compiled.isResolved()) {
+                state.compiled = compiled;
+            }
+            logStats();
+            return state.compiled;
+        }
+    }
+
+    /**
+     * Removes the cached state of a document, e.g. when the document is closed.
+     *
+     * @param documentUri URI of the document
+     */
+    public void remove(String documentUri) {
+        synchronized (documents) {
+            documents.remove(documentUri);
+        }
+    }
+
+    public int size() {
+        synchronized (documents) {
+            return documents.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getCompilationCount() {
+        return compilations.get();
+    }
+
+    /**
+     * Checks whether the given content differs from the content of the compiled document only within the body of a
+     * single function, resource or action, without adding or removing lines, statements or blocks. Positions of the
+     * compiled nodes are still valid for such content, except for the columns on the edited line, to which cursor
+     * positions are mapped by {@link CompiledDocument#toCompiledPosition(String, Position)}.
+     *
+     * @param compiled compiled document
+     * @param content  edited content of the document
+     * @return true if the compiled state can be reused for the edited content
+     */
+    static boolean isEditConfinedToBody(CompiledDocument compiled, String content) {
+        Position edited = getEditedPosition(compiled.getContent(), content);
+        PositionIndex positionIndex = compiled.getPositionIndex();
+        if (edited == null || positionIndex == null) {
+            return false;
+        }
+        for (PositionIndex.ScopeNode scope = positionIndex.getScopeAt(edited); scope != null;
+             scope = scope.getParent()) {
+            BLangNode node = scope.getNode();
+            if (node instanceof BLangFunction || node instanceof BLangResource || node instanceof BLangAction) {
+                return isWithinBody(node, edited.getLine());
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the line of the previous content which was edited to get the current content. Edits which add or remove
+     * lines, statement delimiters or block delimiters are not considered, as they change the structure of the compiled
+     * package.
+     *
+     * @param previous previous content
+     * @param current  current content
+     * @return edited line, starting from 1, or -1 if the edit changes the structure of the content
+     */
+    static int getEditedLine(String previous, String current) {
+        Position edited = getEditedPosition(previous, current);
+        return edited != null ? edited.getLine() : -1;
+    }
+
+    /**
+     * Returns the position in the previous content at which it was edited to get the current content, unless the
+     * edit changes the structure of the content as of {@link #getEditedLine(String, String)}.
+     *
+     * @param previous previous content
+     * @param current  current content
+     * @return position of the first edited character, of which the line is 1-based and the character is 0-based, or
+     * null if the edit changes the structure of the content
+     */
+    private static Position getEditedPosition(String previous, String current) {
+        int prefix = 0;
+        int maxPrefix = Math.min(previous.length(), current.length());
+        while (prefix < maxPrefix && previous.charAt(prefix) == current.charAt(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        int maxSuffix = maxPrefix - prefix;
+        while (suffix < maxSuffix && previous.charAt(previous.length() - 1 - suffix)
+                == current.charAt(current.length() - 1 - suffix)) {
+            suffix++;
+        }
+        if (isStructural(previous, prefix, previous.length() - suffix)
+                || isStructural(current, prefix, current.length() - suffix)) {
+            return null;
+        }
+        int line = 1;
+        int lineStart = 0;
+        for (int i = 0; i < prefix; i++) {
+            if (previous.charAt(i) == '\n') {
+                line++;
+                lineStart = i + 1;
+            }
+        }
+        Position position = new Position();
+        position.setLine(line);
+        position.setCharacter(prefix - lineStart);
+        return position;
+    }
+
+    private static boolean isStructural(String content, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = content.charAt(i);
+            if (c == '\n' || c == '\r' || c == ';' || c == '{' || c == '}') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isWithinBody(BLangNode node, int line) {
+        DiagnosticPos position = node.getPosition();
+        // the lines with the signature and the closing brace are not part of the body
+        return position.sLine < line && position.eLine > line;
+    }
+
+    private void logStats() {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Compiled document cache - hits: " + hits.get() + ", compilations: " + compilations.get()
+                    + ", documents: " + size());
+        }
+    }
+
+    /**
+     * Latest known version of a document along with its compiled state.
+     */
+    private static class DocumentState {
+
+        private int version;
+        private String content;
+        private CompiledDocument compiled;
+    }
+}
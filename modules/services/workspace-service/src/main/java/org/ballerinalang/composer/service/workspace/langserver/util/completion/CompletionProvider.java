@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.langserver.util.completion;
+
+import com.google.gson.Gson;
+import org.ballerinalang.compiler.CompilerPhase;
+import org.ballerinalang.composer.service.workspace.langserver.SymbolInfo;
+import org.ballerinalang.composer.service.workspace.langserver.TreeVisitor;
+import org.ballerinalang.composer.service.workspace.langserver.dto.CompletionItem;
+import org.ballerinalang.composer.service.workspace.langserver.dto.Position;
+import org.ballerinalang.composer.service.workspace.langserver.util.completion.ranking.CompletionRanker;
+import org.ballerinalang.composer.service.workspace.rest.datamodel.BallerinaFile;
+import org.ballerinalang.composer.service.workspace.suggetions.SuggestionsFilter;
+import org.ballerinalang.composer.service.workspace.suggetions.SuggestionsFilterDataModel;
+import org.ballerinalang.composer.service.workspace.util.WorkspaceUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.ballerinalang.compiler.CompilerOptionName.COMPILER_PHASE;
+import static org.ballerinalang.compiler.CompilerOptionName.SKIP_PACKAGE_VALIDATION;
+
+/**
+ * Provider for the completion items of a document.
+ * <p>
+ * The symbols visible at the cursor are resolved from the compiled state of the document, which is kept in a
+ * {@link CompiledDocumentCache} and hence is not compiled again on every request. Only the parser context at the
+ * cursor is captured from the current content of the document on every request, by the {@link IncrementalParser}
+ * which parses only the top level construct the cursor is in. The resolved completion items are ranked against the
+ * prefix typed at the cursor by the {@link CompletionRanker}, which bounds the number of items returned.
+ * <p>
+ * Each language server session has its own provider, which serves the textDocument/completion requests of the
+ * session, hence the compiled state of a document is kept per session and the versions of a document are those of
+ * the requests of a single client.
+ */
+public class CompletionProvider {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompletionProvider.class);
+
+    private static final Gson GSON = new Gson();
+
+    private final CompiledDocumentCache documentCache = new CompiledDocumentCache();
+    private final IncrementalParser parser = new IncrementalParser();
+    private final SuggestionsFilter suggestionsFilter = new SuggestionsFilter();
+
+    /**
+     * Returns the completion items for the given cursor position of a document, recording the time spent in each
+     * stage of the request.
+     *
+     * @param documentUri URI of the document
+     * @param version     version of the document
+     * @param content     content of the document
+     * @param position    cursor position
+     * @param timings     timings to record the stages of the request into
+     * @return completion items, ranked against the prefix typed at the cursor
+     */
+    public List<CompletionItem> getCompletionItems(String documentUri, int version, String content,
+                                                   Position position, CompletionTimings timings) {
+        long start = System.nanoTime();
+        String fileName = getFileName(documentUri);
+        CompiledDocument compiled = documentCache.get(documentUri, version, content,
+                source -> compile(fileName, version, source));
+        long compiledAt = System.nanoTime();
+        timings.setCompileNanos(compiledAt - start);
+
+        SuggestionsFilterDataModel filterDataModel = new SuggestionsFilterDataModel();
+        parser.captureParserContext(documentUri, content, position, filterDataModel);
+        filterDataModel.setPrefix(getPrefix(content, position));
+        filterDataModel.setSymbolTable(compiled.getSymbolTable());
+        filterDataModel.setPackages(WorkspaceUtils.getAllPackages().entrySet());
+        long parsedAt = System.nanoTime();
+        timings.setParseNanos(parsedAt - compiledAt);
+
+        ArrayList<SymbolInfo> symbols = new ArrayList<>();
+        if (compiled.isResolved()) {
+            // a reused compilation may differ from the content within the edited line, on which the positions of
+            // the compiled nodes are those of the compiled content
+            TreeVisitor treeVisitor = new TreeVisitor(compiled.getCompilationUnitName(), compiled.getCompilerContext(),
+                    symbols, compiled.toCompiledPosition(content, position), filterDataModel,
+                    compiled.getPositionIndex());
+            // the visitor defines the symbols of workers in the symbol environments of the compiled package, which are
+            // shared by every request reusing the compiled document
+            synchronized (compiled) {
+                compiled.getBLangPackage().accept(treeVisitor);
+            }
+        }
+        long visitedAt = System.nanoTime();
+        timings.setVisitNanos(visitedAt - parsedAt);
+
+        List<CompletionItem> candidates = suggestionsFilter.getCompletionItems(filterDataModel, symbols);
+        List<CompletionItem> completionItems =
+                CompletionRanker.rankItems(candidates, filterDataModel.getPrefix(), CompletionRanker.MAX_ITEMS);
+        timings.setFilterNanos(System.nanoTime() - visitedAt);
+        timings.setCandidateCount(candidates.size());
+        timings.setItemCount(completionItems.size());
+        return completionItems;
+    }
+
+    /**
+     * Returns the completion items for the given cursor position of a document, serialized as a JSON array.
+     *
+     * @param documentUri URI of the document
+     * @param version     version of the document
+     * @param content     content of the document
+     * @param position    cursor position
+     * @param timings     timings to record the stages of the request into
+     * @return serialized completion items
+     */
+    public String getCompletionItemsJson(String documentUri, int version, String content, Position position,
+                                         CompletionTimings timings) {
+        List<CompletionItem> completionItems = getCompletionItems(documentUri, version, content, position, timings);
+        long start = System.nanoTime();
+        String json = GSON.toJson(completionItems);
+        timings.setSerializeNanos(System.nanoTime() - start);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Completion of " + documentUri + " took " + timings);
+        }
+        return json;
+    }
+
+    /**
+     * Discards the compiled state of a document, e.g. when the document is closed.
+     *
+     * @param documentUri URI of the document
+     */
+    public void closeDocument(String documentUri) {
+        documentCache.remove(documentUri);
+        parser.remove(documentUri);
+    }
+
+    /**
+     * Returns the prefix of the identifier typed right before the cursor, used to drop the symbols which cannot
+     * complete it before their completion items are computed.
+     *
+     * @param content  content of the document
+     * @param position cursor position, of which the line is 1-based and the character is 0-based
+     * @return identifier prefix, empty if the cursor does not follow an identifier
+     */
+    static String getPrefix(String content, Position position) {
+        int lineStart = 0;
+        for (int line = 1; line < position.getLine(); line++) {
+            lineStart = content.indexOf('\n', lineStart) + 1;
+            if (lineStart == 0) {
+                return "";
+            }
+        }
+        int lineEnd = content.indexOf('\n', lineStart);
+        int cursor = Math.min(lineStart + position.getCharacter(), lineEnd < 0 ? content.length() : lineEnd);
+        int start = cursor;
+        while (start > lineStart && Character.isJavaIdentifierPart(content.charAt(start - 1))) {
+            start--;
+        }
+        return content.substring(start, cursor);
+    }
+
+    private static CompiledDocument compile(String fileName, int version, String content) {
+        CompilerContext context = WorkspaceUtils.prepareCompilerContext(fileName, content);
+        CompilerOptions options = CompilerOptions.getInstance(context);
+        // symbols are resolved by the type checker, and the later phases are of no use for completions
+        options.put(COMPILER_PHASE, CompilerPhase.TYPE_CHECK.toString());
+        options.put(SKIP_PACKAGE_VALIDATION, Boolean.TRUE.toString());
+        BallerinaFile ballerinaFile = WorkspaceUtils.getBallerinaFile(fileName, context);
+        return new CompiledDocument(fileName, version, content, context, ballerinaFile.getBLangPackage(),
+                ballerinaFile.getDiagnostics());
+    }
+
+    private static String getFileName(String documentUri) {
+        int separator = Math.max(documentUri.lastIndexOf('/'), documentUri.lastIndexOf('\\'));
+        return documentUri.substring(separator + 1);
+    }
+}
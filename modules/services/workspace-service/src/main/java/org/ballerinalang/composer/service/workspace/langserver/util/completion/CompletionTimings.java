@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.langserver.util.completion;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time spent in each stage of a single completion request.
+ * <ul>
+ * <li>compile - getting the compiled state of the document, which is usually cached,</li>
+ * <li>parse - capturing the parser context at the cursor,</li>
+ * <li>visit - resolving the symbols visible at the cursor,</li>
+ * <li>filter - resolving, ranking and bounding the completion items, and</li>
+ * <li>serialize - serializing the completion items, if they are serialized by the provider.</li>
+ * </ul>
+ */
+public class CompletionTimings {
+
+    private long compileNanos;
+    private long parseNanos;
+    private long visitNanos;
+    private long filterNanos;
+    private long serializeNanos;
+    private int candidateCount;
+    private int itemCount;
+
+    public long getCompileNanos() {
+        return compileNanos;
+    }
+
+    void setCompileNanos(long compileNanos) {
+        this.compileNanos = compileNanos;
+    }
+
+    public long getParseNanos() {
+        return parseNanos;
+    }
+
+    void setParseNanos(long parseNanos) {
+        this.parseNanos = parseNanos;
+    }
+
+    public long getVisitNanos() {
+        return visitNanos;
+    }
+
+    void setVisitNanos(long visitNanos) {
+        this.visitNanos = visitNanos;
+    }
+
+    public long getFilterNanos() {
+        return filterNanos;
+    }
+
+    void setFilterNanos(long filterNanos) {
+        this.filterNanos = filterNanos;
+    }
+
+    public long getSerializeNanos() {
+        return serializeNanos;
+    }
+
+    void setSerializeNanos(long serializeNanos) {
+        this.serializeNanos = serializeNanos;
+    }
+
+    public long getTotalNanos() {
+        return compileNanos + parseNanos + visitNanos + filterNanos + serializeNanos;
+    }
+
+    /**
+     * Returns the number of completion items resolved for the request, before they were ranked and bounded.
+     *
+     * @return number of candidate items
+     */
+    public int getCandidateCount() {
+        return candidateCount;
+    }
+
+    void setCandidateCount(int candidateCount) {
+        this.candidateCount = candidateCount;
+    }
+
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    void setItemCount(int itemCount) {
+        this.itemCount = itemCount;
+    }
+
+    @Override
+    public String toString() {
+        return "compile: " + toMicros(compileNanos) + "us, parse: " + toMicros(parseNanos) + "us, visit: "
+                + toMicros(visitNanos) + "us, filter: " + toMicros(filterNanos) + "us, serialize: "
+                + toMicros(serializeNanos) + "us, items: " + itemCount + " of " + candidateCount;
+    }
+
+    private static long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+}
@@ -0,0 +1,369 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.langserver.util.completion;
+
+import org.antlr.v4.runtime.ANTLRInputStream;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.ListTokenSource;
+import org.antlr.v4.runtime.Token;
+import org.ballerinalang.composer.service.workspace.langserver.dto.Position;
+import org.ballerinalang.composer.service.workspace.suggetions.CapturePossibleTokenStrategy;
+import org.ballerinalang.composer.service.workspace.suggetions.SuggestionsFilterDataModel;
+import org.wso2.ballerinalang.compiler.parser.antlr4.BallerinaLexer;
+import org.wso2.ballerinalang.compiler.parser.antlr4.BallerinaParser;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parser capturing the parser context at the cursor of a document, which parses only the top level construct the
+ * cursor is in.
+ * <p>
+ * The parser context at the cursor is captured by the {@link CapturePossibleTokenStrategy} while recovering from the
+ * syntax error at the cursor, which never depends on the tokens of the other top level constructs of the document.
+ * The tokens of each document are cached, and split into top level constructs, i.e. the package declaration, imports,
+ * definitions along with their annotation attachments and global variables. When a document is edited only the top
+ * level constructs the edit falls in are lexed again, and the tokens of the others are reused, shifted to their new
+ * positions.
+ */
+public class IncrementalParser {
+
+    public static final String SYS_MAX_DOCUMENTS = "composer.completion.parser.maxDocuments";
+    public static final int DEFAULT_MAX_DOCUMENTS = 32;
+
+    private final LinkedHashMap<String, TokenizedDocument> documents;
+
+    public IncrementalParser() {
+        this(Integer.getInteger(SYS_MAX_DOCUMENTS, DEFAULT_MAX_DOCUMENTS));
+    }
+
+    public IncrementalParser(int maxDocuments) {
+        this.documents = new LinkedHashMap<String, TokenizedDocument>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TokenizedDocument> eldest) {
+                return size() > maxDocuments;
+            }
+        };
+    }
+
+    /**
+     * Parses the top level construct of the given content the cursor is in, to capture the parser context at the
+     * cursor into the given data model.
+     *
+     * @param documentUri URI of the document
+     * @param content     content of the document
+     * @param position    cursor position
+     * @param dataModel   data model to capture the parser context into
+     */
+    public void captureParserContext(String documentUri, String content, Position position,
+                                     SuggestionsFilterDataModel dataModel) {
+        List<Token> tokens = tokenize(documentUri, content).getConstructTokensAt(position);
+        // token streams assign token indexes to the tokens they buffer, hence the cached tokens are never handed out
+        List<Token> constructTokens = new ArrayList<>(tokens.size());
+        for (Token token : tokens) {
+            constructTokens.add(new CommonToken(token));
+        }
+        BallerinaParser parser = new BallerinaParser(new CommonTokenStream(new ListTokenSource(constructTokens)));
+        parser.removeErrorListeners();
+        parser.setErrorHandler(new CapturePossibleTokenStrategy(new CompilerContext(), position, dataModel));
+        parser.compilationUnit();
+    }
+
+    /**
+     * Returns the tokens of the given content of a document, lexing only the top level constructs changed since the
+     * last content of the document.
+     *
+     * @param documentUri URI of the document
+     * @param content     content of the document
+     * @return tokenized document
+     */
+    public TokenizedDocument tokenize(String documentUri, String content) {
+        TokenizedDocument previous;
+        synchronized (documents) {
+            previous = documents.get(documentUri);
+        }
+        TokenizedDocument document = TokenizedDocument.tokenize(previous, content);
+        if (document != previous) {
+            synchronized (documents) {
+                documents.put(documentUri, document);
+            }
+        }
+        return document;
+    }
+
+    /**
+     * Discards the tokens of a document, e.g. when the document is closed.
+     *
+     * @param documentUri URI of the document
+     */
+    public void remove(String documentUri) {
+        synchronized (documents) {
+            documents.remove(documentUri);
+        }
+    }
+
+    public int size() {
+        synchronized (documents) {
+            return documents.size();
+        }
+    }
+
+    /**
+     * Tokens of a single content of a document, split into top level constructs.
+     */
+    public static class TokenizedDocument {
+
+        private final String content;
+        private final List<Token> tokens;
+        // index of the first token of each top level construct, where a construct starts right after the closing
+        // token of the previous one, hence also holds the whitespace and comments in between
+        private final int[] constructStarts;
+        private final int relexedLength;
+
+        private TokenizedDocument(String content, List<Token> tokens, int relexedLength) {
+            this.content = content;
+            this.tokens = Collections.unmodifiableList(tokens);
+            this.constructStarts = findConstructStarts(tokens);
+            this.relexedLength = relexedLength;
+        }
+
+        public String getContent() {
+            return content;
+        }
+
+        public List<Token> getTokens() {
+            return tokens;
+        }
+
+        public int getConstructCount() {
+            return constructStarts.length;
+        }
+
+        /**
+         * Returns the number of characters which were lexed to tokenize the content, the rest of the tokens having
+         * been reused from the previous content of the document.
+         *
+         * @return number of lexed characters
+         */
+        public int getRelexedLength() {
+            return relexedLength;
+        }
+
+        /**
+         * Returns the tokens of the top level construct the given position is in.
+         *
+         * @param position cursor position
+         * @return tokens of the top level construct
+         */
+        public List<Token> getConstructTokensAt(Position position) {
+            if (tokens.isEmpty()) {
+                return tokens;
+            }
+            int low = 0;
+            int high = constructStarts.length - 1;
+            while (low < high) {
+                int mid = (low + high + 1) >>> 1;
+                Token first = tokens.get(constructStarts[mid]);
+                if (first.getLine() < position.getLine() || (first.getLine() == position.getLine()
+                        && first.getCharPositionInLine() <= position.getCharacter())) {
+                    low = mid;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return tokens.subList(constructStarts[low], getConstructEnd(low));
+        }
+
+        private int getConstructEnd(int construct) {
+            return construct + 1 < constructStarts.length ? constructStarts[construct + 1] : tokens.size();
+        }
+
+        /**
+         * Returns the index of the top level construct the character at the given offset of the content is in.
+         */
+        private int getConstructAtOffset(int offset) {
+            int low = 0;
+            int high = constructStarts.length - 1;
+            while (low < high) {
+                int mid = (low + high + 1) >>> 1;
+                if (tokens.get(constructStarts[mid]).getStartIndex() <= offset) {
+                    low = mid;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return low;
+        }
+
+        static TokenizedDocument tokenize(TokenizedDocument previous, String content) {
+            if (previous != null && previous.content.equals(content)) {
+                return previous;
+            }
+            if (previous == null || previous.tokens.isEmpty()) {
+                return lexFully(content);
+            }
+
+            String previousContent = previous.content;
+            int prefix = 0;
+            int maxCommon = Math.min(previousContent.length(), content.length());
+            while (prefix < maxCommon && previousContent.charAt(prefix) == content.charAt(prefix)) {
+                prefix++;
+            }
+            int suffix = 0;
+            while (suffix < maxCommon - prefix && previousContent.charAt(previousContent.length() - suffix - 1)
+                    == content.charAt(content.length() - suffix - 1)) {
+                suffix++;
+            }
+
+            // the edit is lexed again from the start of the first construct it falls in, up to the start of the
+            // first construct of which the closing token is not edited
+            int firstConstruct = previous.getConstructAtOffset(Math.min(prefix, previousContent.length() - 1));
+            Token relexStart = previous.tokens.get(previous.constructStarts[firstConstruct]);
+            int editEnd = previousContent.length() - suffix;
+            int reusedConstruct = firstConstruct + 1;
+            while (reusedConstruct < previous.constructStarts.length
+                    && previous.tokens.get(previous.constructStarts[reusedConstruct]).getStartIndex() <= editEnd) {
+                reusedConstruct++;
+            }
+            int shift = content.length() - previousContent.length();
+            int relexEnd = reusedConstruct < previous.constructStarts.length
+                    ? previous.tokens.get(previous.constructStarts[reusedConstruct]).getStartIndex() + shift
+                    : content.length();
+
+            List<Token> tokens = new ArrayList<>(previous.tokens.size() + 16);
+            tokens.addAll(previous.tokens.subList(0, previous.constructStarts[firstConstruct]));
+            Lexer lexer = lex(content, relexStart.getStartIndex(), relexEnd, relexStart.getLine(),
+                    relexStart.getCharPositionInLine(), tokens);
+            if (reusedConstruct < previous.constructStarts.length) {
+                Token boundary = previous.tokens.get(previous.constructStarts[reusedConstruct]);
+                // the following tokens are lexed the same as before only if the lexer is back in the default mode
+                // right after the same closing token, rather than e.g. within a string or an XML literal
+                Token closing = previous.tokens.get(boundary.getTokenIndex() - 1);
+                Token relexedClosing = tokens.get(tokens.size() - 1);
+                if (lexer._mode != Lexer.DEFAULT_MODE || !lexer._modeStack.isEmpty()
+                        || relexedClosing.getStartIndex() != relexEnd - 1
+                        || relexedClosing.getType() != closing.getType()) {
+                    return lexFully(content);
+                }
+                int lineShift = lexer.getLine() - boundary.getLine();
+                int columnShift = lexer.getCharPositionInLine() - boundary.getCharPositionInLine();
+                for (Token token : previous.tokens.subList(boundary.getTokenIndex(), previous.tokens.size())) {
+                    CommonToken shifted = new CommonToken(token);
+                    if (token.getLine() == boundary.getLine()) {
+                        shifted.setCharPositionInLine(token.getCharPositionInLine() + columnShift);
+                    }
+                    shifted.setLine(token.getLine() + lineShift);
+                    shifted.setStartIndex(token.getStartIndex() + shift);
+                    shifted.setStopIndex(token.getStopIndex() + shift);
+                    tokens.add(shifted);
+                }
+            }
+            // the reused tokens preceding the edit keep their indexes
+            setTokenIndexes(tokens, previous.constructStarts[firstConstruct]);
+            return new TokenizedDocument(content, tokens, relexEnd - relexStart.getStartIndex());
+        }
+
+        static TokenizedDocument lexFully(String content) {
+            List<Token> tokens = new ArrayList<>();
+            lex(content, 0, content.length(), 1, 0, tokens);
+            setTokenIndexes(tokens, 0);
+            return new TokenizedDocument(content, tokens, content.length());
+        }
+
+        /**
+         * Lexes the given region of the content, adding the tokens to the given list with their positions in the
+         * whole content.
+         *
+         * @return lexer, positioned at the end of the region
+         */
+        private static Lexer lex(String content, int start, int end, int line, int column, List<Token> tokens) {
+            BallerinaLexer lexer = new BallerinaLexer(new ANTLRInputStream(content.substring(start, end)));
+            lexer.removeErrorListeners();
+            lexer.setLine(line);
+            lexer.setCharPositionInLine(column);
+            for (Token token = lexer.nextToken(); token.getType() != Token.EOF; token = lexer.nextToken()) {
+                CommonToken positioned = new CommonToken(token);
+                // the text is kept with the token since the token is positioned out of the region it was lexed from
+                positioned.setText(token.getText());
+                positioned.setStartIndex(token.getStartIndex() + start);
+                positioned.setStopIndex(token.getStopIndex() + start);
+                tokens.add(positioned);
+            }
+            return lexer;
+        }
+
+        private static void setTokenIndexes(List<Token> tokens, int from) {
+            for (int i = from; i < tokens.size(); i++) {
+                ((CommonToken) tokens.get(i)).setTokenIndex(i);
+            }
+        }
+
+        /**
+         * Splits the given tokens into top level constructs. A construct is closed by a semicolon or a closing brace
+         * at the top level, except the closing brace of an annotation attachment, which belongs to the construct it
+         * is attached to.
+         */
+        private static int[] findConstructStarts(List<Token> tokens) {
+            List<Integer> starts = new ArrayList<>();
+            starts.add(0);
+            int depth = 0;
+            boolean inAnnotationAttachment = false;
+            boolean closed = false;
+            for (int i = 0; i < tokens.size(); i++) {
+                Token token = tokens.get(i);
+                if (closed) {
+                    starts.add(i);
+                    closed = false;
+                }
+                if (token.getChannel() != Token.DEFAULT_CHANNEL) {
+                    continue;
+                }
+                switch (token.getText()) {
+                    case "{":
+                        depth++;
+                        break;
+                    case "}":
+                        depth = Math.max(0, depth - 1);
+                        if (depth == 0) {
+                            closed = !inAnnotationAttachment;
+                            inAnnotationAttachment = false;
+                        }
+                        break;
+                    case ";":
+                        closed = depth == 0;
+                        break;
+                    case "@":
+                        inAnnotationAttachment = inAnnotationAttachment || depth == 0;
+                        break;
+                    default:
+                        break;
+                }
+            }
+            int[] constructStarts = new int[starts.size()];
+            for (int i = 0; i < constructStarts.length; i++) {
+                constructStarts[i] = starts.get(i);
+            }
+            return constructStarts;
+        }
+    }
+}
@@ -19,14 +19,12 @@ package org.ballerinalang.composer.service.workspace.langserver.util.completion;
 import org.ballerinalang.composer.service.workspace.langserver.consts.LangServerConstants;
 import org.ballerinalang.composer.service.workspace.langserver.consts.SymbolKind;
 import org.ballerinalang.composer.service.workspace.langserver.dto.SymbolInformation;
-import org.ballerinalang.composer.service.workspace.langserver.model.ModelPackage;
 import org.ballerinalang.composer.service.workspace.utils.BallerinaProgramContentProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Provider for the workspace symbols.
@@ -73,12 +71,12 @@ public class WorkspaceSymbolProvider {
      * @return SymbolInformation array
      */
     public SymbolInformation[] getPackages() {
-        Map<String, ModelPackage> packages = contentProvider.getAllPackages();
+        List<String> packageNames = contentProvider.getAllPackageNames();
         ArrayList<SymbolInformation> symbolInformationArr = new ArrayList<>();
 
-        for (Map.Entry<String, ModelPackage> entry : packages.entrySet()) {
+        for (String packageName : packageNames) {
             SymbolInformation symbolInfo = new SymbolInformation();
-            symbolInfo.setName(entry.getKey());
+            symbolInfo.setName(packageName);
             symbolInfo.setKind(SymbolKind.PACKAGE_DEF);
             symbolInformationArr.add(symbolInfo);
         }
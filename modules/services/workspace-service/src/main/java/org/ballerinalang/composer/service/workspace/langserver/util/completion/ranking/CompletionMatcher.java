@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.langserver.util.completion.ranking;
+
+/**
+ * Matches the prefix typed at the cursor against the names of the completion candidates.
+ * <p>
+ * A candidate matches a prefix, in the order of preference, if
+ * <ul>
+ * <li>it starts with the prefix,</li>
+ * <li>it starts with the prefix ignoring the case,</li>
+ * <li>the characters of the prefix start the camel case humps of the candidate, e.g. <code>gSN</code> or
+ * <code>getSN</code> for <code>getSymbolName</code>, or</li>
+ * <li>the characters of the prefix appear in the candidate in the same order, ignoring the case.</li>
+ * </ul>
+ */
+public class CompletionMatcher {
+
+    public static final int NO_MATCH = -1;
+    public static final int FUZZY_MATCH = 1;
+    public static final int CAMEL_CASE_MATCH = 2;
+    public static final int PREFIX_IGNORE_CASE_MATCH = 3;
+    public static final int PREFIX_MATCH = 4;
+
+    private CompletionMatcher() {
+    }
+
+    /**
+     * Scores how well a candidate matches the given prefix.
+     *
+     * @param prefix    prefix typed at the cursor
+     * @param candidate name of the candidate
+     * @return score of the match, higher being better, or {@link #NO_MATCH}. Every candidate matches an empty prefix
+     * with the score 0.
+     */
+    public static int score(String prefix, String candidate) {
+        if (prefix.isEmpty()) {
+            return 0;
+        }
+        if (candidate == null || candidate.length() < prefix.length()) {
+            return NO_MATCH;
+        }
+        if (candidate.startsWith(prefix)) {
+            return PREFIX_MATCH;
+        }
+        if (candidate.regionMatches(true, 0, prefix, 0, prefix.length())) {
+            return PREFIX_IGNORE_CASE_MATCH;
+        }
+        if (isCamelCaseMatch(prefix, candidate)) {
+            return CAMEL_CASE_MATCH;
+        }
+        return isSubsequence(prefix, candidate) ? FUZZY_MATCH : NO_MATCH;
+    }
+
+    /**
+     * Checks whether each character of the prefix either continues the hump matched by the previous character, or
+     * starts a following hump of the candidate. The first character of the prefix has to start the candidate.
+     */
+    static boolean isCamelCaseMatch(String prefix, String candidate) {
+        if (candidate.isEmpty() || !equalsIgnoreCase(prefix.charAt(0), candidate.charAt(0))) {
+            return false;
+        }
+        int next = 1;
+        for (int i = 1; i < prefix.length(); i++) {
+            char character = prefix.charAt(i);
+            if (next < candidate.length() && !isHumpStart(candidate, next)
+                    && equalsIgnoreCase(character, candidate.charAt(next))) {
+                next++;
+                continue;
+            }
+            int hump = next;
+            while (hump < candidate.length()
+                    && !(isHumpStart(candidate, hump) && equalsIgnoreCase(character, candidate.charAt(hump)))) {
+                hump++;
+            }
+            if (hump == candidate.length()) {
+                return false;
+            }
+            next = hump + 1;
+        }
+        return true;
+    }
+
+    private static boolean isHumpStart(String candidate, int index) {
+        char character = candidate.charAt(index);
+        char previous = candidate.charAt(index - 1);
+        return Character.isUpperCase(character) && !Character.isUpperCase(previous)
+                || Character.isLetterOrDigit(character) && !Character.isLetterOrDigit(previous);
+    }
+
+    private static boolean isSubsequence(String prefix, String candidate) {
+        int next = 0;
+        for (int i = 0; i < candidate.length() && next < prefix.length(); i++) {
+            if (equalsIgnoreCase(prefix.charAt(next), candidate.charAt(i))) {
+                next++;
+            }
+        }
+        return next == prefix.length();
+    }
+
+    private static boolean equalsIgnoreCase(char first, char second) {
+        return Character.toLowerCase(first) == Character.toLowerCase(second);
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.langserver.util.completion.ranking;
+
+import org.ballerinalang.composer.service.workspace.langserver.SymbolInfo;
+import org.ballerinalang.composer.service.workspace.langserver.dto.CompletionItem;
+import org.ballerinalang.composer.service.workspace.util.BuiltInPackageCatalogue;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Ranks the completion candidates of a request against the prefix typed at the cursor, keeping only the best of them.
+ * <p>
+ * Candidates not matching the prefix are dropped, and the rest are ordered by the {@link CompletionMatcher} score
+ * first. Symbols are then ordered by the proximity of their scope to the cursor, and completion items by the priority
+ * assigned by their resolvers. At most {@link #MAX_ITEMS} candidates are kept, which are selected with a
+ * {@link TopKCollector} rather than by sorting every candidate.
+ */
+public class CompletionRanker {
+
+    public static final String SYS_MAX_ITEMS = "composer.completion.maxItems";
+    public static final int DEFAULT_MAX_ITEMS = 200;
+
+    /**
+     * Maximum number of completion items returned for a single request.
+     */
+    public static final int MAX_ITEMS = Integer.getInteger(SYS_MAX_ITEMS, DEFAULT_MAX_ITEMS);
+
+    static final int LOCAL_SCOPE = 0;
+    static final int PACKAGE_SCOPE = 1;
+    static final int NATIVE_PACKAGE_SCOPE = 2;
+
+    private CompletionRanker() {
+    }
+
+    /**
+     * Returns the best symbols matching the given prefix.
+     *
+     * @param symbols  candidate symbols
+     * @param prefix   prefix typed at the cursor
+     * @param maxItems maximum number of symbols to return
+     * @return matching symbols, from the best to the worst
+     */
+    public static List<SymbolInfo> rankSymbols(List<SymbolInfo> symbols, String prefix, int maxItems) {
+        TopKCollector<Candidate<SymbolInfo>> collector = new TopKCollector<>(maxItems,
+                Comparator.<Candidate<SymbolInfo>>comparingInt(candidate -> candidate.match)
+                        .thenComparingInt(candidate -> -candidate.rank)
+                        .thenComparingInt(candidate -> -candidate.name.length())
+                        .thenComparingInt(candidate -> -candidate.order));
+        int order = 0;
+        for (SymbolInfo symbol : symbols) {
+            int match = CompletionMatcher.score(prefix, symbol.getSymbolName());
+            if (match != CompletionMatcher.NO_MATCH) {
+                collector.offer(new Candidate<>(symbol, symbol.getSymbolName(), match, getScopeProximity(symbol),
+                        order));
+            }
+            order++;
+        }
+        return values(collector);
+    }
+
+    /**
+     * Returns the best completion items matching the given prefix. The sort text of the returned items is reassigned
+     * to reflect their rank, the best item having the highest score.
+     *
+     * @param items    candidate completion items
+     * @param prefix   prefix typed at the cursor
+     * @param maxItems maximum number of items to return
+     * @return matching completion items, from the best to the worst
+     */
+    public static List<CompletionItem> rankItems(List<CompletionItem> items, String prefix, int maxItems) {
+        TopKCollector<Candidate<CompletionItem>> collector = new TopKCollector<>(maxItems,
+                Comparator.<Candidate<CompletionItem>>comparingInt(candidate -> candidate.match)
+                        .thenComparingInt(candidate -> candidate.rank)
+                        .thenComparingInt(candidate -> -candidate.name.length())
+                        .thenComparingInt(candidate -> -candidate.order));
+        int order = 0;
+        for (CompletionItem item : items) {
+            String label = item.getLabel() == null ? "" : item.getLabel();
+            int match = CompletionMatcher.score(prefix, label);
+            if (match != CompletionMatcher.NO_MATCH) {
+                // the sort text holds the priority assigned by the resolver, as a score
+                collector.offer(new Candidate<>(item, label, match, item.getSortText(), order));
+            }
+            order++;
+        }
+        List<CompletionItem> ranked = values(collector);
+        for (int i = 0; i < ranked.size(); i++) {
+            ranked.get(i).setSortText(ranked.size() - i);
+        }
+        return ranked;
+    }
+
+    /**
+     * Returns the proximity of the scope of a symbol to the cursor. Symbols of the callable units, i.e. variables,
+     * parameters and workers, are the closest, and symbols of the builtin and native packages are the farthest.
+     */
+    static int getScopeProximity(SymbolInfo symbolInfo) {
+        BSymbol symbol = symbolInfo.getScopeEntry() == null ? null : symbolInfo.getScopeEntry().symbol;
+        if (symbol == null) {
+            return PACKAGE_SCOPE;
+        }
+        if (symbol.pkgID != null
+                && BuiltInPackageCatalogue.getInstance().isNativePackage(symbol.pkgID.getName().getValue())) {
+            return NATIVE_PACKAGE_SCOPE;
+        }
+        return symbol.owner == null || symbol.owner instanceof BPackageSymbol ? PACKAGE_SCOPE : LOCAL_SCOPE;
+    }
+
+    private static <T> List<T> values(TopKCollector<Candidate<T>> collector) {
+        List<Candidate<T>> candidates = collector.toSortedList();
+        List<T> values = new ArrayList<>(candidates.size());
+        candidates.forEach(candidate -> values.add(candidate.value));
+        return values;
+    }
+
+    /**
+     * Candidate along with the keys it is ranked by.
+     *
+     * @param <T> type of the candidate
+     */
+    private static class Candidate<T> {
+        private final T value;
+        private final String name;
+        private final int match;
+        private final int rank;
+        private final int order;
+
+        Candidate(T value, String name, int match, int rank, int order) {
+            this.value = value;
+            this.name = name;
+            this.match = match;
+            this.rank = rank;
+            this.order = order;
+        }
+    }
+}
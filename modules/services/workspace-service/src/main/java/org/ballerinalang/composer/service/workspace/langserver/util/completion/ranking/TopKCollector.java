@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.langserver.util.completion.ranking;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Collects the best elements offered to it, up to a given number of elements, without sorting all of them.
+ * <p>
+ * The collected elements are kept in a heap of which the head is the worst of them, hence offering an element costs
+ * O(log k) and collecting the best k of n elements costs O(n log k).
+ *
+ * @param <T> type of the elements
+ */
+public class TopKCollector<T> {
+
+    private final int capacity;
+    private final Comparator<T> comparator;
+    private final PriorityQueue<T> heap;
+
+    /**
+     * @param capacity   maximum number of elements to collect
+     * @param comparator orders the elements from the worst to the best
+     */
+    public TopKCollector(int capacity, Comparator<T> comparator) {
+        this.capacity = capacity;
+        this.comparator = comparator;
+        this.heap = new PriorityQueue<>(Math.max(1, capacity), comparator);
+    }
+
+    /**
+     * Offers an element, which is collected if it is better than the worst of the collected elements or fewer
+     * elements than the capacity are collected. Of equal elements, the ones offered first are kept.
+     *
+     * @param element element to offer
+     */
+    public void offer(T element) {
+        if (heap.size() < capacity) {
+            heap.add(element);
+        } else if (capacity > 0 && comparator.compare(element, heap.peek()) > 0) {
+            heap.poll();
+            heap.add(element);
+        }
+    }
+
+    public int size() {
+        return heap.size();
+    }
+
+    /**
+     * Returns the collected elements.
+     *
+     * @return collected elements, from the best to the worst
+     */
+    public List<T> toSortedList() {
+        List<T> elements = new ArrayList<>(heap);
+        elements.sort(comparator.reversed());
+        return elements;
+    }
+}
@@ -23,6 +23,7 @@ import org.antlr.v4.runtime.TokenStream;
 import org.ballerinalang.composer.service.workspace.langserver.SymbolInfo;
 import org.ballerinalang.composer.service.workspace.langserver.dto.CompletionItem;
 import org.ballerinalang.composer.service.workspace.langserver.dto.CompletionItemData;
+import org.ballerinalang.composer.service.workspace.langserver.util.completion.ranking.CompletionRanker;
 import org.ballerinalang.composer.service.workspace.suggetions.SuggestionsFilterDataModel;
 import org.ballerinalang.model.symbols.SymbolKind;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
@@ -39,40 +40,57 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Interface for completion item resolvers.
  */
 public abstract class AbstractItemResolver {
     public abstract ArrayList<CompletionItem> resolveItems(SuggestionsFilterDataModel dataModel,
-                                                           ArrayList<SymbolInfo> symbols, HashMap<Class,
+                                                           ArrayList<SymbolInfo> symbols, Map<Class,
             AbstractItemResolver> resolvers);
 
     /**
-     * Populate the completion item list by considering the.
+     * Populate the completion item list with the items of the symbols matching the prefix typed at the cursor. Only the
+     * matching symbols are turned into completion items, in the order the {@link CompletionRanker} ranks them, and the
+     * items of the symbols of the builtin and native packages are taken from the {@link CompletionItemCatalogue}. None
+     * of the matching symbols is dropped here, as the number of items is bounded only once the items of all resolvers
+     * are ranked together.
+     * @param dataModel - suggestions filter data model
      * @param symbolInfoList - list of symbol information
      * @param completionItems - completion item list to populate
      */
-    public void populateCompletionItemList(List<SymbolInfo> symbolInfoList, List<CompletionItem> completionItems) {
-
-        symbolInfoList.forEach(symbolInfo -> {
-            CompletionItem completionItem = null;
-            if (symbolInfo.getScopeEntry().symbol instanceof BInvokableSymbol
-                    && ((BInvokableSymbol) symbolInfo.getScopeEntry().symbol).kind != null
-                    && !((BInvokableSymbol) symbolInfo.getScopeEntry().symbol).kind.equals(SymbolKind.WORKER)) {
-                completionItem = this.populateBallerinaFunctionCompletionItem(symbolInfo);
-            } else if (!(symbolInfo.getScopeEntry().symbol instanceof BInvokableSymbol)
-                    && symbolInfo.getScopeEntry().symbol instanceof BVarSymbol) {
-                completionItem = this.populateVariableDefCompletionItem(symbolInfo);
-            } else if (symbolInfo.getScopeEntry().symbol instanceof BTypeSymbol
-                    && !symbolInfo.getSymbolName().startsWith("$anonStruct$")) {
-                completionItem = this.populateBTypeCompletionItem(symbolInfo);
-            }
-
+    public void populateCompletionItemList(SuggestionsFilterDataModel dataModel, List<SymbolInfo> symbolInfoList,
+                                           List<CompletionItem> completionItems) {
+        List<SymbolInfo> rankedSymbols =
+                CompletionRanker.rankSymbols(symbolInfoList, dataModel.getPrefix(), symbolInfoList.size());
+        for (SymbolInfo symbolInfo : rankedSymbols) {
+            CompletionItem completionItem = CompletionItemCatalogue.getInstance()
+                    .getItem(symbolInfo, this::populateSymbolCompletionItem);
             if (completionItem != null) {
                 completionItems.add(completionItem);
             }
-        });
+        }
+    }
+
+    /**
+     * Populate the completion item of a symbol, based on the kind of the symbol.
+     * @param symbolInfo - symbol information
+     * @return completion item, or null if the symbol is not suggested
+     */
+    private CompletionItem populateSymbolCompletionItem(SymbolInfo symbolInfo) {
+        if (symbolInfo.getScopeEntry().symbol instanceof BInvokableSymbol
+                && ((BInvokableSymbol) symbolInfo.getScopeEntry().symbol).kind != null
+                && !((BInvokableSymbol) symbolInfo.getScopeEntry().symbol).kind.equals(SymbolKind.WORKER)) {
+            return this.populateBallerinaFunctionCompletionItem(symbolInfo);
+        } else if (!(symbolInfo.getScopeEntry().symbol instanceof BInvokableSymbol)
+                && symbolInfo.getScopeEntry().symbol instanceof BVarSymbol) {
+            return this.populateVariableDefCompletionItem(symbolInfo);
+        } else if (symbolInfo.getScopeEntry().symbol instanceof BTypeSymbol
+                && !symbolInfo.getSymbolName().startsWith("$anonStruct$")) {
+            return this.populateBTypeCompletionItem(symbolInfo);
+        }
+        return null;
     }
 
     /**
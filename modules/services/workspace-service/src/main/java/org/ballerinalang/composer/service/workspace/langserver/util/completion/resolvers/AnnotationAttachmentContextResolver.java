@@ -23,7 +23,7 @@ import org.ballerinalang.composer.service.workspace.langserver.dto.CompletionIte
 import org.ballerinalang.composer.service.workspace.suggetions.SuggestionsFilterDataModel;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Map;
 
 /**
  * AnnotationAttachments resolver for the completion Items.
@@ -31,7 +31,7 @@ import java.util.HashMap;
 public class AnnotationAttachmentContextResolver extends AbstractItemResolver {
     @Override
     public ArrayList<CompletionItem> resolveItems(SuggestionsFilterDataModel dataModel, ArrayList<SymbolInfo> symbols,
-                                                  HashMap<Class, AbstractItemResolver> resolvers) {
+                                                  Map<Class, AbstractItemResolver> resolvers) {
         return new ArrayList<>();
     }
 }
@@ -28,7 +28,6 @@ import org.ballerinalang.composer.service.workspace.suggetions.SuggestionsFilter
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -41,7 +40,7 @@ import java.util.stream.Stream;
 public class AnnotationAttachmentResolver extends AbstractItemResolver {
     @Override
     public ArrayList<CompletionItem> resolveItems(SuggestionsFilterDataModel dataModel, ArrayList<SymbolInfo> symbols,
-                                                  HashMap<Class, AbstractItemResolver> resolvers) {
+                                                  Map<Class, AbstractItemResolver> resolvers) {
         return filterAnnotations(dataModel);
     }
 
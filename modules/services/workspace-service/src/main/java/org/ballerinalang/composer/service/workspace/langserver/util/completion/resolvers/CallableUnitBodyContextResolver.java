@@ -24,6 +24,7 @@ import org.ballerinalang.composer.service.workspace.suggetions.SuggestionsFilter
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Callable Unit Body Context Resolver.
@@ -31,7 +32,7 @@ import java.util.HashMap;
 public class CallableUnitBodyContextResolver extends AbstractItemResolver {
     @Override
     public ArrayList<CompletionItem> resolveItems(SuggestionsFilterDataModel dataModel, ArrayList<SymbolInfo> symbols,
-                                                  HashMap<Class, AbstractItemResolver> resolvers) {
+                                                  Map<Class, AbstractItemResolver> resolvers) {
 
         ArrayList<CompletionItem> completionItems = new ArrayList<>();
 
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.langserver.util.completion.resolvers;
+
+import org.ballerinalang.composer.service.workspace.langserver.SymbolInfo;
+import org.ballerinalang.composer.service.workspace.langserver.dto.CompletionItem;
+import org.ballerinalang.composer.service.workspace.util.BuiltInPackageCatalogue;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Catalogue of the completion items of the symbols of the builtin and native packages.
+ * <p>
+ * Symbols of these packages never change while the workspace service is running, hence the completion item of such a
+ * symbol is computed only once, when the symbol is suggested for the first time, and kept as an immutable template.
+ * Every request gets a copy of the template, as resolvers modify the items they return, e.g. to assign priorities.
+ * Items of the symbols of the documents being edited are computed on every request.
+ */
+public class CompletionItemCatalogue {
+
+    private static final CompletionItemCatalogue INSTANCE = new CompletionItemCatalogue();
+
+    /**
+     * Marks symbols which are never suggested, since a concurrent map cannot hold null values.
+     */
+    private static final CompletionItem NO_ITEM = new CompletionItem();
+
+    private final Map<String, CompletionItem> templates = new ConcurrentHashMap<>();
+
+    private CompletionItemCatalogue() {
+    }
+
+    public static CompletionItemCatalogue getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the completion item of a symbol.
+     *
+     * @param symbolInfo symbol to get the completion item of
+     * @param factory    computes the completion item of a symbol, returning null if the symbol is not suggested
+     * @return new completion item, or null if the symbol is not suggested
+     */
+    public CompletionItem getItem(SymbolInfo symbolInfo, Function<SymbolInfo, CompletionItem> factory) {
+        BSymbol symbol = symbolInfo.getScopeEntry().symbol;
+        if (symbol.pkgID == null
+                || !BuiltInPackageCatalogue.getInstance().isNativePackage(symbol.pkgID.getName().getValue())) {
+            return factory.apply(symbolInfo);
+        }
+        String key = symbol.pkgID.getName().getValue() + ":" + symbolInfo.getSymbolName() + ":"
+                + symbol.getClass().getSimpleName();
+        CompletionItem template = templates.computeIfAbsent(key, k -> {
+            CompletionItem item = factory.apply(symbolInfo);
+            return item == null ? NO_ITEM : item;
+        });
+        return template == NO_ITEM ? null : copy(template);
+    }
+
+    public int size() {
+        return templates.size();
+    }
+
+    private static CompletionItem copy(CompletionItem template) {
+        CompletionItem completionItem = new CompletionItem();
+        completionItem.setLabel(template.getLabel());
+        completionItem.setKind(template.getKind());
+        completionItem.setDetail(template.getDetail());
+        completionItem.setDocumentation(template.getDocumentation());
+        completionItem.setSortText(template.getSortText());
+        completionItem.setInsertText(template.getInsertText());
+        // item data is only read, hence shared with the template
+        completionItem.setData(template.getData());
+        return completionItem;
+    }
+}
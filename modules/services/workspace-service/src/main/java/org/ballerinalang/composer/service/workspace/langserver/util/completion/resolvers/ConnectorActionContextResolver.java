@@ -24,7 +24,7 @@ import org.ballerinalang.composer.service.workspace.suggetions.SuggestionsFilter
 import org.ballerinalang.model.AnnotationAttachment;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Item Resolver for the connector action context.
@@ -32,7 +32,7 @@ import java.util.HashMap;
 public class ConnectorActionContextResolver extends AbstractItemResolver {
     @Override
     public ArrayList<CompletionItem> resolveItems(SuggestionsFilterDataModel dataModel, ArrayList<SymbolInfo> symbols,
-                                           HashMap<Class, AbstractItemResolver> resolvers) {
+                                           Map<Class, AbstractItemResolver> resolvers) {
 
         ArrayList<CompletionItem> completionItems = new ArrayList<>();
 
@@ -24,7 +24,7 @@ import org.ballerinalang.composer.service.workspace.langserver.util.completion.f
 import org.ballerinalang.composer.service.workspace.suggetions.SuggestionsFilterDataModel;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Default resolver for the completion items.
@@ -32,7 +32,7 @@ import java.util.HashMap;
 class DefaultResolver extends AbstractItemResolver {
     @Override
     public ArrayList<CompletionItem> resolveItems(SuggestionsFilterDataModel dataModel, ArrayList<SymbolInfo> symbols,
-                                                  HashMap<Class, AbstractItemResolver> resolvers) {
+                                                  Map<Class, AbstractItemResolver> resolvers) {
         ArrayList<CompletionItem> completionItems = new ArrayList<>();
 
         CompletionItem workerItem = new CompletionItem();
@@ -42,7 +42,7 @@ class DefaultResolver extends AbstractItemResolver {
         workerItem.setSortText(ItemResolverConstants.PRIORITY_6);
         completionItems.add(workerItem);
 
-        populateCompletionItemList(symbols, completionItems);
+        populateCompletionItemList(dataModel, symbols, completionItems);
 
         // Add the statement templates
         StatementTemplateFilter statementTemplateFilter = new StatementTemplateFilter();
@@ -24,8 +24,8 @@ import org.ballerinalang.composer.service.workspace.langserver.dto.CompletionIte
 import org.ballerinalang.composer.service.workspace.suggetions.SuggestionsFilterDataModel;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -35,7 +35,7 @@ public class GlobalScopeResolver extends AbstractItemResolver {
 
     @Override
     public ArrayList<CompletionItem> resolveItems(SuggestionsFilterDataModel dataModel, ArrayList<SymbolInfo> symbols,
-                                                  HashMap<Class, AbstractItemResolver> resolvers) {
+                                                  Map<Class, AbstractItemResolver> resolvers) {
 
         ArrayList<CompletionItem> completionItems = new ArrayList<>();
 
@@ -47,7 +47,7 @@ public class GlobalScopeResolver extends AbstractItemResolver {
             List<SymbolInfo> bTypeSymbolInfo = symbols.stream()
                     .filter(symbolInfo -> symbolInfo.getScopeEntry().symbol.type != null)
                     .collect(Collectors.toList());
-            this.populateCompletionItemList(bTypeSymbolInfo, completionItems);
+            this.populateCompletionItemList(dataModel, bTypeSymbolInfo, completionItems);
         } else {
             return resolvers.get(parserRuleContext.getClass()).resolveItems(dataModel, symbols, resolvers);
         }
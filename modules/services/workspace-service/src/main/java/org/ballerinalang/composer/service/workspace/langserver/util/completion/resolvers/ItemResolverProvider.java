@@ -0,0 +1,39 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+
+package org.ballerinalang.composer.service.workspace.langserver.util.completion.resolvers;
+
+import java.util.Map;
+
+/**
+ * Provides additional completion item resolvers to the {@link ResolveCommandExecutor}.
+ * <p>
+ * Implementations are discovered with {@link java.util.ServiceLoader}, hence are registered in
+ * META-INF/services/org.ballerinalang.composer.service.workspace.langserver.util.completion.resolvers
+ * .ItemResolverProvider and need a public no-argument constructor. The provided resolvers are shared by concurrent
+ * completion requests, hence must not hold any state.
+ */
+public interface ItemResolverProvider {
+
+    /**
+     * Get the resolvers to register.
+     * @return {@link Map} resolvers against their resolving criteria, i.e. the class of the parser rule context or the
+     * model node the cursor is at
+     */
+    Map<Class, AbstractItemResolver> getResolvers();
+}
@@ -32,24 +32,79 @@ import org.ballerinalang.composer.service.workspace.langserver.util.completion.r
 import org.ballerinalang.composer.service.workspace.langserver.util.completion.resolvers.parsercontext.ParserRuleWorkerReplyContext;
 import org.ballerinalang.composer.service.workspace.suggetions.SuggestionsFilterDataModel;
 import org.ballerinalang.model.AnnotationAttachment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.wso2.ballerinalang.compiler.parser.antlr4.BallerinaParser;
 import org.wso2.ballerinalang.compiler.tree.BLangService;
 import org.wso2.ballerinalang.compiler.tree.BLangStruct;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
 
 /**
  * ResolveCommandExecutor will accept the command to execute.
+ * <p>
+ * Resolvers are registered once, when the class is loaded, into an immutable registry shared by every executor.
+ * Resolvers hold no state, hence completion requests can be resolved concurrently. Additional resolvers are plugged in
+ * by {@link ItemResolverProvider} implementations registered as services, whose resolvers take precedence over the
+ * built-in resolvers registered for the same criteria.
  */
 public class ResolveCommandExecutor {
-    private static final HashMap<Class, AbstractItemResolver> resolvers = new HashMap<>();
+    private static final Logger logger = LoggerFactory.getLogger(ResolveCommandExecutor.class);
+    private static final Map<Class, AbstractItemResolver> resolvers = Collections.unmodifiableMap(loadResolvers());
     private static final DefaultResolver DEFAULT_RESOLVER = new DefaultResolver();
 
     /**
-     * Constructor for the Resolve command executor.
+     * Resolve the completion items based on the criteria.
+     * @param resolveCriteria - resolving criteria
+     * @param dataModel - SuggestionsFilterDataModel
+     * @param symbols - Symbols list
+     * @return {@link ArrayList}
+     */
+    public ArrayList<CompletionItem> resolveCompletionItems
+    (Class resolveCriteria, SuggestionsFilterDataModel dataModel, ArrayList<SymbolInfo> symbols) {
+        AbstractItemResolver itemResolver = resolvers.get(resolveCriteria);
+        if (itemResolver == null) {
+            return DEFAULT_RESOLVER.resolveItems(dataModel, symbols, resolvers);
+        } else {
+            return itemResolver.resolveItems(dataModel, symbols , resolvers);
+        }
+    }
+
+    /**
+     * Get the registered resolvers.
+     * @return {@link Map} unmodifiable map of the resolvers against their resolving criteria
      */
-    public ResolveCommandExecutor() {
+    public static Map<Class, AbstractItemResolver> getResolvers() {
+        return resolvers;
+    }
+
+    private static Map<Class, AbstractItemResolver> loadResolvers() {
+        Map<Class, AbstractItemResolver> resolvers = new HashMap<>();
+        registerBuiltInResolvers(resolvers);
+
+        Iterator<ItemResolverProvider> providers = ServiceLoader.load(ItemResolverProvider.class).iterator();
+        while (true) {
+            try {
+                if (!providers.hasNext()) {
+                    break;
+                }
+                ItemResolverProvider provider = providers.next();
+                resolvers.putAll(provider.getResolvers());
+                logger.debug("Registered completion item resolvers of " + provider.getClass().getName());
+            } catch (ServiceConfigurationError e) {
+                logger.error("Error loading completion item resolver provider: " + e.getMessage(), e);
+            }
+        }
+        return resolvers;
+    }
+
+    private static void registerBuiltInResolvers(Map<Class, AbstractItemResolver> resolvers) {
         StatementContextResolver statementContextResolver = new StatementContextResolver();
         PackageNameContextResolver packageNameContextResolver = new PackageNameContextResolver();
         AnnotationAttachmentContextResolver annotationAttachmentContextResolver =
@@ -108,21 +163,4 @@ public class ResolveCommandExecutor {
         resolvers.put(BallerinaParser.AttachmentPointContext.class, parserRuleAttachmentPointContextResolver);
         resolvers.put(BallerinaParser.AssignmentStatementContext.class, parserRuleAssignmentStatementContextResolver);
     }
-
-    /**
-     * Resolve the completion items based on the criteria.
-     * @param resolveCriteria - resolving criteria
-     * @param dataModel - SuggestionsFilterDataModel
-     * @param symbols - Symbols list
-     * @return {@link ArrayList}
-     */
-    public ArrayList<CompletionItem> resolveCompletionItems
-    (Class resolveCriteria, SuggestionsFilterDataModel dataModel, ArrayList<SymbolInfo> symbols) {
-        AbstractItemResolver itemResolver = resolvers.get(resolveCriteria);
-        if (itemResolver == null) {
-            return DEFAULT_RESOLVER.resolveItems(dataModel, symbols, resolvers);
-        } else {
-            return itemResolver.resolveItems(dataModel, symbols , resolvers);
-        }
-    }
 }
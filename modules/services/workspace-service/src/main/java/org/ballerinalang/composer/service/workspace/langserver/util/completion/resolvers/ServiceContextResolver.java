@@ -23,8 +23,8 @@ import org.ballerinalang.composer.service.workspace.suggetions.SuggestionsFilter
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BTypeSymbol;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -34,7 +34,7 @@ public class ServiceContextResolver extends AbstractItemResolver {
 
     @Override
     public ArrayList<CompletionItem> resolveItems(SuggestionsFilterDataModel dataModel, ArrayList<SymbolInfo> symbols,
-                                           HashMap<Class, AbstractItemResolver> resolvers) {
+                                           Map<Class, AbstractItemResolver> resolvers) {
         ArrayList<CompletionItem> completionItems = new ArrayList<>();
         // TODO: Add annotations
         this.addResourceCompletionItem(completionItems);
@@ -55,6 +55,6 @@ public class ServiceContextResolver extends AbstractItemResolver {
         List<SymbolInfo> filteredSymbols = symbols.stream()
                 .filter(symbolInfo -> symbolInfo.getScopeEntry().symbol instanceof BTypeSymbol)
                 .collect(Collectors.toList());
-        this.populateCompletionItemList(filteredSymbols, completionItems);
+        this.populateCompletionItemList(dataModel, filteredSymbols, completionItems);
     }
 }
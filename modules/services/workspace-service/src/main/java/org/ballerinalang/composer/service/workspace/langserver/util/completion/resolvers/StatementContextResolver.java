@@ -24,7 +24,7 @@ import org.ballerinalang.composer.service.workspace.langserver.util.completion.f
 import org.ballerinalang.composer.service.workspace.suggetions.SuggestionsFilterDataModel;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Statement context resolver for resolving the items of the statement context.
@@ -32,13 +32,13 @@ import java.util.HashMap;
 public class StatementContextResolver extends AbstractItemResolver {
     @Override
     public ArrayList<CompletionItem> resolveItems(SuggestionsFilterDataModel dataModel, ArrayList<SymbolInfo> symbols,
-                                                  HashMap<Class, AbstractItemResolver> resolvers) {
+                                                  Map<Class, AbstractItemResolver> resolvers) {
         ArrayList<CompletionItem> completionItems = new ArrayList<>();
 
         StatementTemplateFilter statementTemplateFilter = new StatementTemplateFilter();
         // Add the statement templates
         completionItems.addAll(statementTemplateFilter.filterItems(dataModel, symbols, null));
-        populateCompletionItemList(symbols, completionItems);
+        populateCompletionItemList(dataModel, symbols, completionItems);
 
         return completionItems;
     }
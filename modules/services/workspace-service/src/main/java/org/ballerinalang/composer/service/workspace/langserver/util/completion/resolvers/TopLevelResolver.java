@@ -27,8 +27,8 @@ import org.ballerinalang.composer.service.workspace.suggetions.SuggestionsFilter
 import org.ballerinalang.model.AnnotationAttachment;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Resolves all items that can appear as a top level element in the file.
@@ -37,7 +37,7 @@ public class TopLevelResolver extends AbstractItemResolver {
 
     @Override
     public ArrayList<CompletionItem> resolveItems(SuggestionsFilterDataModel dataModel, ArrayList<SymbolInfo> symbols,
-                                                  HashMap<Class, AbstractItemResolver> resolvers) {
+                                                  Map<Class, AbstractItemResolver> resolvers) {
         ArrayList<CompletionItem> completionItems = new ArrayList<>();
 
 
@@ -83,7 +83,7 @@ public class TopLevelResolver extends AbstractItemResolver {
      * @param dataModel       - datamodel
      * @param symbols         - all symbols upto this point
      */
-    private void addTopLevelItems(ArrayList<CompletionItem> completionItems, HashMap<Class,
+    private void addTopLevelItems(ArrayList<CompletionItem> completionItems, Map<Class,
             AbstractItemResolver> resolvers, SuggestionsFilterDataModel dataModel, ArrayList<SymbolInfo> symbols) {
         addStaticItem(completionItems, ItemResolverConstants.IMPORT, ItemResolverConstants.IMPORT + " ");
         addStaticItem(completionItems, ItemResolverConstants.PACKAGE, ItemResolverConstants.PACKAGE + " ");
@@ -24,7 +24,7 @@ import org.ballerinalang.composer.service.workspace.langserver.util.completion.f
 import org.ballerinalang.composer.service.workspace.suggetions.SuggestionsFilterDataModel;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Variable definition Statement context resolver for resolving the items.
@@ -32,11 +32,11 @@ import java.util.HashMap;
 class VariableDefinitionStatementContextResolver extends AbstractItemResolver {
     @Override
     public ArrayList<CompletionItem> resolveItems(SuggestionsFilterDataModel dataModel, ArrayList<SymbolInfo> symbols,
-                                                  HashMap<Class, AbstractItemResolver> resolvers) {
+                                                  Map<Class, AbstractItemResolver> resolvers) {
 
         ArrayList<CompletionItem> completionItems = new ArrayList<>();
         BTypeFilter bTypeFilter = new BTypeFilter();
-        populateCompletionItemList(bTypeFilter.filterItems(dataModel, symbols, null), completionItems);
+        populateCompletionItemList(dataModel, bTypeFilter.filterItems(dataModel, symbols, null), completionItems);
 
         return completionItems;
     }
@@ -26,7 +26,7 @@ import org.ballerinalang.composer.service.workspace.langserver.util.completion.r
 import org.ballerinalang.composer.service.workspace.suggetions.SuggestionsFilterDataModel;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Map;
 
 /**
  * annotation body context resolver for the completion items.
@@ -42,7 +42,7 @@ public class ParserRuleAnnotationBodyContextResolver extends AbstractItemResolve
      */
     @Override
     public ArrayList<CompletionItem> resolveItems(SuggestionsFilterDataModel dataModel, ArrayList<SymbolInfo> symbols,
-                                                  HashMap<Class, AbstractItemResolver> resolvers) {
+                                                  Map<Class, AbstractItemResolver> resolvers) {
 
         ArrayList<CompletionItem> completionItems = new ArrayList<>();
         TokenStream tokenStream = dataModel.getTokenStream();
@@ -28,6 +28,7 @@ import org.ballerinalang.composer.service.workspace.suggetions.SuggestionsFilter
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Parser rule based statement context resolver.
@@ -35,7 +36,7 @@ import java.util.HashMap;
 public class ParserRuleStatementContextResolver extends AbstractItemResolver {
     @Override
     public ArrayList<CompletionItem> resolveItems(SuggestionsFilterDataModel dataModel, ArrayList<SymbolInfo> symbols,
-                                                  HashMap<Class, AbstractItemResolver> resolvers) {
+                                                  Map<Class, AbstractItemResolver> resolvers) {
 
         HashMap<String, Integer> prioritiesMap = new HashMap<>();
         ArrayList<CompletionItem> completionItems = new ArrayList<>();
@@ -50,7 +51,7 @@ public class ParserRuleStatementContextResolver extends AbstractItemResolver {
             actionFunctionList.addAll(actionAndFunctionFilter.filterItems(dataModel, symbols, null));
 
             // Populate the completion items
-            this.populateCompletionItemList(actionFunctionList, completionItems);
+            this.populateCompletionItemList(dataModel, actionFunctionList, completionItems);
 
             // Set the sorting priorities
             prioritiesMap.put(ItemResolverConstants.FUNCTION_TYPE, ItemResolverConstants.PRIORITY_7);
@@ -59,7 +60,7 @@ public class ParserRuleStatementContextResolver extends AbstractItemResolver {
 
             return completionItems;
         } else {
-            populateCompletionItemList(symbols, completionItems);
+            populateCompletionItemList(dataModel, symbols, completionItems);
             StatementTemplateFilter statementTemplateFilter = new StatementTemplateFilter();
             // Add the statement templates
             completionItems.addAll(statementTemplateFilter.filterItems(dataModel, symbols, null));
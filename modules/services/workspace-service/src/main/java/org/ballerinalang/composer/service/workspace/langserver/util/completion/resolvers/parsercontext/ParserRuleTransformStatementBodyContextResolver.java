@@ -27,8 +27,8 @@ import org.ballerinalang.composer.service.workspace.suggetions.SuggestionsFilter
 import org.ballerinalang.model.SimpleVariableDef;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -37,17 +37,17 @@ import java.util.stream.Collectors;
 public class ParserRuleTransformStatementBodyContextResolver extends AbstractItemResolver {
     @Override
     public ArrayList<CompletionItem> resolveItems(SuggestionsFilterDataModel dataModel, ArrayList<SymbolInfo> symbols,
-                                                  HashMap<Class, AbstractItemResolver> resolvers) {
+                                                  Map<Class, AbstractItemResolver> resolvers) {
 
         ArrayList<CompletionItem> completionItems = new ArrayList<>();
 
         BTypeFilter bTypeFilter = new BTypeFilter();
-        populateCompletionItemList(bTypeFilter.filterItems(dataModel, symbols, null), completionItems);
+        populateCompletionItemList(dataModel, bTypeFilter.filterItems(dataModel, symbols, null), completionItems);
 
         List<SymbolInfo> variableDefs =  symbols.stream()
                 .filter(symbolInfo -> symbolInfo.getSymbol() instanceof SimpleVariableDef)
                 .collect(Collectors.toList());
-        populateCompletionItemList(variableDefs, completionItems);
+        populateCompletionItemList(dataModel, variableDefs, completionItems);
 
         // Populate Transaction Statement template
         CompletionItem transactionItem = new CompletionItem();
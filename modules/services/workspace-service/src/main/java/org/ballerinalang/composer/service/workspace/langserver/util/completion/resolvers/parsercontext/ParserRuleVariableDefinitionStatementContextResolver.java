@@ -28,8 +28,8 @@ import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BTypeSymbol;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -38,7 +38,7 @@ import java.util.stream.Collectors;
 public class ParserRuleVariableDefinitionStatementContextResolver extends AbstractItemResolver {
     @Override
     public ArrayList<CompletionItem> resolveItems(SuggestionsFilterDataModel dataModel, ArrayList<SymbolInfo> symbols,
-                                                  HashMap<Class, AbstractItemResolver> resolvers) {
+                                                  Map<Class, AbstractItemResolver> resolvers) {
 
         // Here we specifically need to check whether the statement is function invocation,
         // action invocation or worker invocation
@@ -47,7 +47,7 @@ public class ParserRuleVariableDefinitionStatementContextResolver extends Abstra
             ArrayList<SymbolInfo> actionAndFunctions = new ArrayList<>();
             actionAndFunctions.addAll(actionAndFunctionFilter.filterItems(dataModel, symbols, null));
             ArrayList<CompletionItem> completionItems = new ArrayList<>();
-            this.populateCompletionItemList(actionAndFunctions, completionItems);
+            this.populateCompletionItemList(dataModel, actionAndFunctions, completionItems);
             return completionItems;
         } else {
             // Add the create keyword
@@ -64,7 +64,7 @@ public class ParserRuleVariableDefinitionStatementContextResolver extends Abstra
                                     && !(symbolInfo.getScopeEntry().symbol instanceof BPackageSymbol))
                     )
                     .collect(Collectors.toList());
-            populateCompletionItemList(filteredList, completionItems);
+            populateCompletionItemList(dataModel, filteredList, completionItems);
             completionItems.add(createKeyword);
             return completionItems;
         }
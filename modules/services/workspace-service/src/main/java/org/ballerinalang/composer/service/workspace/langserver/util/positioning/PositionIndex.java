@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.langserver.util.positioning;
+
+import org.ballerinalang.composer.service.workspace.langserver.dto.Position;
+import org.ballerinalang.model.tree.TopLevelNode;
+import org.wso2.ballerinalang.compiler.tree.BLangAction;
+import org.wso2.ballerinalang.compiler.tree.BLangConnector;
+import org.wso2.ballerinalang.compiler.tree.BLangFunction;
+import org.wso2.ballerinalang.compiler.tree.BLangNode;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.tree.BLangResource;
+import org.wso2.ballerinalang.compiler.tree.BLangService;
+import org.wso2.ballerinalang.compiler.tree.BLangTransformer;
+import org.wso2.ballerinalang.compiler.tree.BLangWorker;
+import org.wso2.ballerinalang.compiler.tree.statements.BLangBlockStmt;
+import org.wso2.ballerinalang.compiler.tree.statements.BLangCatch;
+import org.wso2.ballerinalang.compiler.tree.statements.BLangForkJoin;
+import org.wso2.ballerinalang.compiler.tree.statements.BLangIf;
+import org.wso2.ballerinalang.compiler.tree.statements.BLangStatement;
+import org.wso2.ballerinalang.compiler.tree.statements.BLangTransaction;
+import org.wso2.ballerinalang.compiler.tree.statements.BLangTryCatchFinally;
+import org.wso2.ballerinalang.compiler.tree.statements.BLangWhile;
+import org.wso2.ballerinalang.compiler.util.diagnotic.DiagnosticPos;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Index of the scopes of a compilation unit by their positions.
+ * <p>
+ * The index is built once from a compiled package, and holds every node which opens a scope, i.e. the top level
+ * nodes, resources, actions, workers and blocks. As scopes are properly nested, the innermost scope at a position is
+ * found by a binary search over the scopes sorted by their start positions, followed by a walk up the enclosing
+ * scopes, instead of visiting the whole package.
+ * <p>
+ * Symbol environments are not kept in the index. A symbol environment of a block depends on the statements before
+ * the cursor, hence it is created by whoever descends into the scope found. The TreeVisitor uses the index only to
+ * pick the top level node to visit, and resolves the statement at the cursor within it through the cursor position
+ * resolvers.
+ */
+public class PositionIndex {
+
+    private final ScopeNode[] scopes;
+
+    private PositionIndex(List<ScopeNode> scopes) {
+        // the sort is stable, hence an enclosing scope stays ahead of an enclosed scope starting at the same position
+        scopes.sort(Comparator.comparingInt((ScopeNode scope) -> scope.position.sLine)
+                .thenComparingInt(scope -> scope.position.sCol));
+        this.scopes = scopes.toArray(new ScopeNode[scopes.size()]);
+    }
+
+    /**
+     * Builds the position index of a compilation unit of a compiled package.
+     *
+     * @param bLangPackage        compiled package
+     * @param compilationUnitName name of the compilation unit to index
+     * @return position index
+     */
+    public static PositionIndex build(BLangPackage bLangPackage, String compilationUnitName) {
+        Builder builder = new Builder();
+        for (TopLevelNode topLevelNode : bLangPackage.topLevelNodes) {
+            BLangNode node = (BLangNode) topLevelNode;
+            if (node.getPosition() != null
+                    && compilationUnitName.equals(node.getPosition().getSource().getCompilationUnitName())) {
+                builder.addTopLevelNode(node);
+            }
+        }
+        return new PositionIndex(builder.scopes);
+    }
+
+    /**
+     * Returns the innermost scope enclosing the given position.
+     *
+     * @param position position in the compilation unit
+     * @return innermost scope, or null if the position is not within a top level node
+     */
+    public ScopeNode getScopeAt(Position position) {
+        int line = position.getLine();
+        int col = position.getCharacter();
+        // find the last scope starting at or before the position
+        int low = 0;
+        int high = scopes.length - 1;
+        int candidate = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            DiagnosticPos start = scopes[mid].position;
+            if (start.sLine < line || (start.sLine == line && start.sCol <= col)) {
+                candidate = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        // every scope enclosing the position encloses the candidate as well
+        for (ScopeNode scope = candidate < 0 ? null : scopes[candidate]; scope != null; scope = scope.parent) {
+            if (scope.contains(line, col)) {
+                return scope;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the top level node enclosing the given position.
+     *
+     * @param position position in the compilation unit
+     * @return scope of the top level node, or null if the position is not within a top level node
+     */
+    public ScopeNode getTopLevelScopeAt(Position position) {
+        ScopeNode scope = getScopeAt(position);
+        while (scope != null && scope.parent != null) {
+            scope = scope.parent;
+        }
+        return scope;
+    }
+
+    public int size() {
+        return scopes.length;
+    }
+
+    /**
+     * A node opening a scope.
+     */
+    public static class ScopeNode {
+
+        private final BLangNode node;
+        private final DiagnosticPos position;
+        private final ScopeNode parent;
+
+        ScopeNode(BLangNode node, DiagnosticPos position, ScopeNode parent) {
+            this.node = node;
+            this.position = position;
+            this.parent = parent;
+        }
+
+        public BLangNode getNode() {
+            return node;
+        }
+
+        public DiagnosticPos getPosition() {
+            return position;
+        }
+
+        /**
+         * Returns the scope enclosing this scope.
+         *
+         * @return enclosing scope, or null for a top level node
+         */
+        public ScopeNode getParent() {
+            return parent;
+        }
+
+        private boolean contains(int line, int col) {
+            return (position.sLine < line || (position.sLine == line && position.sCol <= col))
+                    && (position.eLine > line || (position.eLine == line && position.eCol >= col));
+        }
+    }
+
+    /**
+     * Collects the scopes of the nodes.
+     */
+    private static class Builder {
+
+        private final List<ScopeNode> scopes = new ArrayList<>();
+
+        private void addTopLevelNode(BLangNode node) {
+            if (node instanceof BLangFunction && ((BLangFunction) node).body != null) {
+                BLangFunction function = (BLangFunction) node;
+                ScopeNode scope = add(function, function.getPosition(), null);
+                addBlock(function.body, function, scope);
+                function.workers.forEach(worker -> addWorker(worker, scope));
+            } else if (node instanceof BLangService) {
+                BLangService service = (BLangService) node;
+                ScopeNode scope = add(service, service.getPosition(), null);
+                service.resources.forEach(resource -> addResource(resource, scope));
+            } else if (node instanceof BLangConnector) {
+                BLangConnector connector = (BLangConnector) node;
+                ScopeNode scope = add(connector, connector.getPosition(), null);
+                connector.actions.forEach(action -> addAction(action, scope));
+            } else if (node instanceof BLangTransformer) {
+                BLangTransformer transformer = (BLangTransformer) node;
+                ScopeNode scope = add(transformer, transformer.getPosition(), null);
+                addBlock(transformer.body, transformer, scope);
+            } else {
+                // structs, native functions, imports, global variables etc. don't contain any other scope
+                add(node, node.getPosition(), null);
+            }
+        }
+
+        private void addResource(BLangResource resource, ScopeNode parent) {
+            ScopeNode scope = add(resource, resource.getPosition(), parent);
+            resource.workers.forEach(worker -> addWorker(worker, scope));
+            addBlock(resource.body, resource, scope);
+        }
+
+        private void addAction(BLangAction action, ScopeNode parent) {
+            ScopeNode scope = add(action, action.getPosition(), parent);
+            addBlock(action.body, action, scope);
+        }
+
+        private void addWorker(BLangWorker worker, ScopeNode parent) {
+            ScopeNode scope = add(worker, worker.getPosition(), parent);
+            addBlock(worker.body, worker, scope);
+        }
+
+        private void addBlock(BLangBlockStmt block, BLangNode owner, ScopeNode parent) {
+            if (block == null) {
+                return;
+            }
+            // a block without a position spans its owner
+            DiagnosticPos position = block.getPosition() != null ? block.getPosition() : owner.getPosition();
+            ScopeNode scope = add(block, position, parent);
+            block.stmts.forEach(stmt -> addStatement(stmt, scope));
+        }
+
+        private void addStatement(BLangStatement stmt, ScopeNode parent) {
+            if (stmt instanceof BLangIf) {
+                BLangIf ifNode = (BLangIf) stmt;
+                addBlock(ifNode.body, ifNode, parent);
+                if (ifNode.elseStmt != null) {
+                    addStatement((BLangStatement) ifNode.elseStmt, parent);
+                }
+            } else if (stmt instanceof BLangBlockStmt) {
+                // else blocks are represented with a block statement only
+                addBlock((BLangBlockStmt) stmt, stmt, parent);
+            } else if (stmt instanceof BLangWhile) {
+                BLangWhile whileNode = (BLangWhile) stmt;
+                addBlock(whileNode.body, whileNode, parent);
+            } else if (stmt instanceof BLangTryCatchFinally) {
+                BLangTryCatchFinally tryCatchFinally = (BLangTryCatchFinally) stmt;
+                addBlock(tryCatchFinally.tryBody, tryCatchFinally, parent);
+                for (BLangCatch bLangCatch : tryCatchFinally.catchBlocks) {
+                    addBlock(bLangCatch.body, bLangCatch, parent);
+                }
+                addBlock(tryCatchFinally.finallyBody, tryCatchFinally, parent);
+            } else if (stmt instanceof BLangTransaction) {
+                BLangTransaction transaction = (BLangTransaction) stmt;
+                addBlock(transaction.transactionBody, transaction, parent);
+                addBlock(transaction.failedBody, transaction, parent);
+                addBlock(transaction.committedBody, transaction, parent);
+                addBlock(transaction.abortedBody, transaction, parent);
+            } else if (stmt instanceof BLangForkJoin) {
+                BLangForkJoin forkJoin = (BLangForkJoin) stmt;
+                forkJoin.workers.forEach(worker -> addWorker(worker, parent));
+                addBlock(forkJoin.joinedBody, forkJoin, parent);
+                addBlock(forkJoin.timeoutBody, forkJoin, parent);
+            }
+        }
+
+        private ScopeNode add(BLangNode node, DiagnosticPos position, ScopeNode parent) {
+            if (position == null) {
+                // a node without a position cannot be looked up, hence its scopes are indexed within the parent
+                return parent;
+            }
+            ScopeNode scope = new ScopeNode(node, position, parent);
+            scopes.add(scope);
+            return scope;
+        }
+    }
+}
@@ -18,20 +18,17 @@ package org.ballerinalang.composer.service.workspace.launcher;
 
 import org.ballerinalang.composer.service.workspace.common.Utils;
 import org.ballerinalang.composer.service.workspace.launcher.util.LaunchUtils;
-import org.ballerinalang.composer.service.workspace.rest.datamodel.BallerinaFile;
-import org.ballerinalang.composer.service.workspace.util.WorkspaceUtils;
-import org.ballerinalang.model.tree.TopLevelNode;
+import org.ballerinalang.composer.service.workspace.launcher.util.PackageDeclarationReader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.wso2.ballerinalang.compiler.tree.BLangCompilationUnit;
-import org.wso2.ballerinalang.compiler.tree.BLangPackageDeclaration;
 
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Command class represent the launcher commands.
@@ -105,42 +102,42 @@ public class Command {
     }
 
     /**
-     * Construct the command array to be executed.
-     * @return String[] command array
+     * Returns the path of the ballerina command.
+     *
+     * @return path of the ballerina command
      */
-    public String[] getCommandArray() {
-        List<String> commandList = new ArrayList<>();
-        String scriptLocation = getScriptLocation();
-
-        // path to ballerina
+    public static String getBallerinaExecutable() {
         String ballerinaExecute = System.getProperty("ballerina.home") + File.separator + "bin" + File.separator +
                                   "ballerina";
 
         if (LaunchUtils.isWindows()) {
             ballerinaExecute += ".bat";
         }
-        commandList.add(ballerinaExecute);
+        return ballerinaExecute;
+    }
+
+    /**
+     * Construct the command array to be executed.
+     * @return String[] command array
+     */
+    public String[] getCommandArray() {
+        List<String> commandList = new ArrayList<>();
+        String scriptLocation = getScriptLocation();
+
+        commandList.add(getBallerinaExecutable());
         commandList.add("run");
 
-        BallerinaFile ballerinaFile = WorkspaceUtils.getBallerinaFile(filePath, fileName);
-        // assuming there will be only one compilation unit in the list, I'm getting the first element from the list
-        BLangCompilationUnit currentBLangCompilationUnit = ballerinaFile.getBLangPackage().compUnits.get(0);
-        List<TopLevelNode> topLevelNodes = currentBLangCompilationUnit.getTopLevelNodes();
-        // filter out the BLangPackageDeclaration from top level nodes list
-        List<TopLevelNode> bLangPackageDeclarations = topLevelNodes.stream()
-                .filter(topLevelNode -> topLevelNode instanceof BLangPackageDeclaration).collect(Collectors.toList());
-        if (!bLangPackageDeclarations.isEmpty()) {
-            BLangPackageDeclaration bLangPackageDeclaration = (BLangPackageDeclaration) bLangPackageDeclarations.get(0);
-            if (bLangPackageDeclaration != null) {
-                List<String> pkgNameCompsInString = bLangPackageDeclaration.pkgNameComps.stream()
-                        .map(WorkspaceUtils.B_LANG_IDENTIFIER_TO_STRING).collect(Collectors.<String>toList());
-                if (!(pkgNameCompsInString.size() == 1 && ".".equals(pkgNameCompsInString.get(0)))) {
-                    packagePath = String.join(File.separator, pkgNameCompsInString);
-                    packageDir = Utils.getProgramDirectory(
-                            pkgNameCompsInString.size(), Paths.get(scriptLocation)
-                    ).toString();
-                }
-            }
+        // only the package declaration is read, as the program is compiled by the runtime anyway
+        List<String> pkgNameComps;
+        try {
+            pkgNameComps = PackageDeclarationReader.getPackageNameComponents(Paths.get(scriptLocation));
+        } catch (IOException e) {
+            logger.error("Error while reading the package declaration of " + scriptLocation, e);
+            pkgNameComps = Collections.emptyList();
+        }
+        if (!pkgNameComps.isEmpty()) {
+            packagePath = String.join(File.separator, pkgNameComps);
+            packageDir = Utils.getProgramDirectory(pkgNameComps.size(), Paths.get(scriptLocation)).toString();
         }
 
         if (packagePath == null) {
@@ -18,6 +18,7 @@ package org.ballerinalang.composer.service.workspace.launcher;
 
 import com.google.gson.Gson;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelId;
 import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -27,36 +28,103 @@ import org.ballerinalang.composer.service.workspace.launcher.util.LaunchUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.nio.charset.Charset;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Launch Manager which manage launch requests from the clients.
+ * <p>
+ * Every client connection has its own {@link LaunchSession}, which may run several programs at once, told apart by
+ * the program identifier of the launch command. A program launched again with the same identifier replaces the
+ * program running with it. The output and error streams of all programs are pumped by a shared, bounded pool of
+ * threads, hence a program is not launched if the pool has no threads left for it.
+ * <p>
+ * Programs are run in pre-started runtime processes of a {@link WarmProcessPool} if it is enabled, and started with
+ * the ballerina command otherwise.
  */
 public class LaunchManager {
 
     private static final Logger logger = LoggerFactory.getLogger(LaunchManager.class);
 
+    public static final String SYS_STREAM_THREADS = "composer.launcher.streamThreads";
+    public static final String SYS_MAX_PROGRAMS_PER_SESSION = "composer.launcher.maxProgramsPerSession";
+    public static final String SYS_WARM_POOL_SIZE = "composer.launcher.warmPool.size";
+    public static final String SYS_CPU_SAMPLE_MILLIS = "composer.launcher.cpuSampleMillis";
+
+    public static final int DEFAULT_STREAM_THREADS = 64;
+    public static final int DEFAULT_MAX_PROGRAMS_PER_SESSION = 8;
+    public static final int DEFAULT_WARM_POOL_SIZE = 0;
+    public static final int DEFAULT_CPU_SAMPLE_MILLIS = 1000;
+
+    /**
+     * Identifier of the program of a launch command which doesn't have one, as sent by clients which run a single
+     * program at a time.
+     */
+    public static final String DEFAULT_PROGRAM_ID = "default";
+
+    private static final Gson GSON = new Gson();
+
+    private static final int CHUNK_SIZE = 8192;
+
+    private static final String BALLERINA_HOME_ENV = "BALLERINA_HOME";
+    private static final String JAVA_OPTS_ENV = "JAVA_OPTS";
+    private static final String FILE_ENCODING_OPTION = "-Dfile.encoding=UTF-8";
+
     private static LaunchManager launchManagerInstance;
 
     private LaunchServer launchServer;
 
-    private LaunchSession launchSession;
+    private final ConcurrentMap<ChannelId, LaunchSession> launchSessions = new ConcurrentHashMap<>();
 
-    private Command command;
+    private final ExecutorService streamPumps;
 
-    private String startedServiceURL;
+    private final int maxProgramsPerSession;
 
-    private String port = StringUtils.EMPTY;
+    private final WarmProcessPool warmProcessPool;
+
+    /**
+     * Samples the CPU time of the running programs, null if the CPU time of processes can't be read.
+     */
+    private final ScheduledExecutorService cpuSampler;
+
+    private final long cpuSampleMillis;
+
+    private String startedServiceURL;
 
     /**
      * Instantiates a new Debug manager.
      */
     protected LaunchManager() {
-
+        AtomicInteger threadCount = new AtomicInteger();
+        this.streamPumps = new ThreadPoolExecutor(0, Integer.getInteger(SYS_STREAM_THREADS, DEFAULT_STREAM_THREADS),
+                60, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "composer-launcher-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.maxProgramsPerSession = Integer.getInteger(SYS_MAX_PROGRAMS_PER_SESSION,
+                DEFAULT_MAX_PROGRAMS_PER_SESSION);
+        // warm processes are started by the ballerina command, as the programs run in them would be
+        this.warmProcessPool = new WarmProcessPool(Integer.getInteger(SYS_WARM_POOL_SIZE, DEFAULT_WARM_POOL_SIZE),
+                workingDir -> createProcessBuilder(new String[]{Command.getBallerinaExecutable()}, workingDir));
+        this.cpuSampler = LaunchUtils.isCpuTimeAvailable() ? Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "composer-launcher-cpu-sampler");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+        this.cpuSampleMillis = Integer.getInteger(SYS_CPU_SAMPLE_MILLIS, DEFAULT_CPU_SAMPLE_MILLIS);
     }
 
     /**
@@ -79,15 +147,19 @@ public class LaunchManager {
         if (this.launchServer == null) {
             this.launchServer = new LaunchServer(port);
             this.launchServer.startServer();
+            if (this.warmProcessPool.isEnabled()) {
+                // idle warm processes wait for a program, hence they are stopped along with the composer
+                Runtime.getRuntime().addShutdownHook(new Thread(this.warmProcessPool::close,
+                        "composer-launcher-warm-pool-shutdown"));
+                this.warmProcessPool.prestart(null);
+            }
         }
 
         // set URL to invoke the started service.
         this.startedServiceURL = startedServiceURL;
     }
 
-    private void run(Command command) {
-        Process program = null;
-        this.command = command;
+    private void run(LaunchSession launchSession, String programId, Command command) {
         // send a message if ballerina home is not set
         if (null == System.getProperty("ballerina.home") || System.getProperty("ballerina.home").isEmpty()) {
             pushMessageToClient(launchSession, LauncherConstants.ERROR, LauncherConstants.ERROR, LauncherConstants
@@ -97,131 +169,211 @@ public class LaunchManager {
             return;
         }
 
+        // a program launched again replaces the running one
+        LaunchedProgram previous = launchSession.getProgram(programId);
+        if (previous != null) {
+            // messages of the replaced program would be taken for messages of the new one, as they share the identifier
+            previous.markStopped();
+            stopProgram(previous);
+        }
+        if (launchSession.getPrograms().size() >= maxProgramsPerSession) {
+            MessageDTO message = new MessageDTO();
+            message.setCode(LauncherConstants.EXIT);
+            message.setType(LauncherConstants.ERROR);
+            message.setMessage(String.format(LauncherConstants.TOO_MANY_PROGRAMS_MESSAGE, maxProgramsPerSession));
+            message.setProgramId(programId);
+            pushMessageToClient(launchSession, message);
+            return;
+        }
+
+        LaunchedProgram launchedProgram = new LaunchedProgram(programId, launchSession, command,
+                message -> writeMessageToClient(launchSession, message));
         try {
-            String[] cmdArray = command.getCommandArray();
-            if (command.getPackageDir() == null) {
-                program = Runtime.getRuntime().exec(cmdArray);
-            } else {
-                program = Runtime.getRuntime().exec(cmdArray, null, new File(command.getPackageDir()));
+            String[] commandArray = command.getCommandArray();
+            File workingDir = command.getPackageDir() != null ? new File(command.getPackageDir()) : null;
+            Process program = warmProcessPool.take(commandArray, workingDir);
+            if (program == null) {
+                program = createProcessBuilder(commandArray, workingDir).start();
             }
-
             command.setProgram(program);
+            launchSession.addProgram(launchedProgram);
 
-
-            pushMessageToClient(launchSession, LauncherConstants.EXECUTION_STARTED, LauncherConstants.INFO,
-                        String.format(LauncherConstants.RUN_MESSAGE, command.getFileName()));
+            pushMessageToClient(launchSession, launchedProgram.createMessage(LauncherConstants.EXECUTION_STARTED,
+                    LauncherConstants.INFO, String.format(LauncherConstants.RUN_MESSAGE, command.getFileName())));
 
             if (command.isDebug()) {
-                MessageDTO debugMessage = new MessageDTO();
-                debugMessage.setCode(LauncherConstants.DEBUG);
+                MessageDTO debugMessage = launchedProgram.createMessage(LauncherConstants.DEBUG, null, null);
                 debugMessage.setPort(command.getPort());
                 pushMessageToClient(launchSession, debugMessage);
             }
 
-            // start a new thread to stream command output.
-            Runnable output = new Runnable() {
-                public void run() {
-                    LaunchManager.this.streamOutput();
-                }
-            };
-            (new Thread(output)).start();
-            Runnable error = new Runnable() {
-                public void run() {
-                    LaunchManager.this.streamError();
-                }
-            };
-            (new Thread(error)).start();
-
+            if (cpuSampler != null) {
+                launchedProgram.startCpuSampling(cpuSampler, cpuSampleMillis);
+            }
+            streamPumps.execute(() -> streamOutput(launchedProgram));
+            streamPumps.execute(() -> streamError(launchedProgram));
+        } catch (RejectedExecutionException e) {
+            logger.error("No threads left to stream the output of " + command.getScriptLocation(), e);
+            launchedProgram.stopCpuSampling();
+            stopProgram(launchedProgram);
+            pushMessageToClient(launchSession, launchedProgram.createMessage(LauncherConstants.EXIT,
+                    LauncherConstants.ERROR, LauncherConstants.LAUNCHER_BUSY_MESSAGE));
         } catch (IOException e) {
-            pushMessageToClient(launchSession, LauncherConstants.EXIT, LauncherConstants.ERROR, e.getMessage());
+            pushMessageToClient(launchSession, launchedProgram.createMessage(LauncherConstants.EXIT,
+                    LauncherConstants.ERROR, e.getMessage()));
         }
     }
 
-    public void streamOutput() {
-        BufferedReader reader = null;
-        try {
-            reader = new BufferedReader(new InputStreamReader(this.command.getProgram().getInputStream(), Charset
-                    .defaultCharset()));
-            String line = "";
-            while ((line = reader.readLine()) != null) {
-                // improve "server connector started" log message to have the service URL in it.
-                // This is to handle the cloud use case.
-                if (line.startsWith(LauncherConstants.SERVER_CONNECTOR_STARTED_AT_HTTP_CLOUD)
-                        && startedServiceURL != null) {
-                    this.updatePort(startedServiceURL);
-                    line = LauncherConstants.SERVER_CONNECTOR_STARTED_AT_HTTP_CLOUD + " " + startedServiceURL;
-                }
+    /**
+     * Creates the process builder of a command. The program runs in the directory of its package, if any, and prints
+     * its output in UTF-8, which is how the output is decoded.
+     *
+     * @param commandArray command array to run
+     * @param workingDir   directory of the package of the program, null if it is not in a package
+     * @return process builder
+     */
+    private ProcessBuilder createProcessBuilder(String[] commandArray, File workingDir) {
+        ProcessBuilder processBuilder = new ProcessBuilder(commandArray).directory(workingDir);
+        Map<String, String> environment = processBuilder.environment();
+        environment.put(BALLERINA_HOME_ENV, System.getProperty("ballerina.home"));
+        String javaOpts = environment.get(JAVA_OPTS_ENV);
+        environment.put(JAVA_OPTS_ENV, (javaOpts == null ? "" : javaOpts + " ") + FILE_ENCODING_OPTION);
+        return processBuilder;
+    }
 
-                // This is to handle local service run use case.
-                if (line.startsWith(LauncherConstants.SERVER_CONNECTOR_STARTED_AT_HTTP_LOCAL)
-                        && startedServiceURL == null) {
-                    this.updatePort(line);
-                    line = LauncherConstants.SERVER_CONNECTOR_STARTED_AT_HTTP_LOCAL + " " +
-                            String.format(LauncherConstants.LOCAL_TRY_IT_URL, LauncherConstants.LOCALHOST, this.port);
-                    pushMessageToClient(launchSession, LauncherConstants.OUTPUT, LauncherConstants.DATA, line);
-                } else {
-                    pushMessageToClient(launchSession, LauncherConstants.OUTPUT, LauncherConstants.DATA, line);
-                }
+    private void streamOutput(LaunchedProgram launchedProgram) {
+        Command command = launchedProgram.getCommand();
+        OutputBatcher batcher = launchedProgram.getOutputBatcher();
+        OutputDecoder decoder = new OutputDecoder(CHUNK_SIZE, line -> {
+            // improve "server connector started" log message to have the service URL in it.
+            // This is to handle the cloud use case.
+            if (line.startsWith(LauncherConstants.SERVER_CONNECTOR_STARTED_AT_HTTP_CLOUD)
+                    && startedServiceURL != null) {
+                updatePort(launchedProgram, startedServiceURL);
+                line = LauncherConstants.SERVER_CONNECTOR_STARTED_AT_HTTP_CLOUD + " " + startedServiceURL;
+            }
 
+            // This is to handle local service run use case.
+            if (line.startsWith(LauncherConstants.SERVER_CONNECTOR_STARTED_AT_HTTP_LOCAL)
+                    && startedServiceURL == null) {
+                updatePort(launchedProgram, line);
+                line = LauncherConstants.SERVER_CONNECTOR_STARTED_AT_HTTP_LOCAL + " " +
+                        String.format(LauncherConstants.LOCAL_TRY_IT_URL, LauncherConstants.LOCALHOST,
+                                StringUtils.defaultString(launchedProgram.getServicePort()));
+            }
+
+            // the client looks for the service URL and the debug port in lines of their own
+            if (line.startsWith(LauncherConstants.SERVER_CONNECTOR_STARTED_AT_HTTP_LOCAL)
+                    || (command.isDebug() && line.endsWith(String.valueOf(command.getPort())))) {
+                batcher.addStandalone(line);
+            } else {
+                batcher.add(line);
+            }
+        });
+        try {
+            pump(command.getProgram().getInputStream(), decoder);
+            batcher.close();
+            MessageDTO stopped = launchedProgram.createMessage(LauncherConstants.EXECUTION_STOPPED,
+                    LauncherConstants.INFO, LauncherConstants.END_MESSAGE);
+            stopped.setExitCode(command.getProgram().waitFor());
+            launchedProgram.stopCpuSampling();
+            if (launchedProgram.getCpuTimeMillis() >= 0) {
+                stopped.setCpuTimeMillis(launchedProgram.getCpuTimeMillis());
+            }
+            // a program stopped by the client, or replaced by a program of the same identifier, is already reported
+            if (!launchedProgram.isStopped()) {
+                pushMessageToClient(launchedProgram.getSession(), stopped);
             }
-            pushMessageToClient(launchSession, LauncherConstants.EXECUTION_STOPPED, LauncherConstants.INFO,
-                    LauncherConstants.END_MESSAGE);
         } catch (IOException e) {
             logger.error("Error while sending output stream to client.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         } finally {
-            if (reader != null) {
-                IOUtils.closeQuietly(reader);
-            }
+            launchedProgram.stopCpuSampling();
+            launchedProgram.getSession().removeProgram(launchedProgram);
         }
     }
 
-    public void streamError() {
-        BufferedReader reader = null;
-        try {
-            reader = new BufferedReader(new InputStreamReader(
-                    this.command.getProgram().getErrorStream(), Charset.defaultCharset()));
-            String line = "";
-            while ((line = reader.readLine()) != null) {
-                if (this.command.isErrorOutputEnabled()) {
-                    pushMessageToClient(launchSession, LauncherConstants.OUTPUT, LauncherConstants.ERROR, line);
-                }
+    private void streamError(LaunchedProgram launchedProgram) {
+        Command command = launchedProgram.getCommand();
+        OutputBatcher batcher = launchedProgram.getErrorBatcher();
+        OutputDecoder decoder = new OutputDecoder(CHUNK_SIZE, line -> {
+            if (command.isErrorOutputEnabled()) {
+                batcher.add(line);
             }
+        });
+        try {
+            pump(command.getProgram().getErrorStream(), decoder);
+            batcher.close();
         } catch (IOException e) {
             logger.error("Error while sending error stream to client.", e);
-        } finally {
-            if (reader != null) {
-                IOUtils.closeQuietly(reader);
+        }
+    }
+
+    /**
+     * Reads a stream of a program in chunks until the program closes it, decoding each chunk as soon as it is read.
+     *
+     * @param stream  output or error stream of a program
+     * @param decoder decoder of the stream
+     * @throws IOException if the stream can't be read
+     */
+    private static void pump(InputStream stream, OutputDecoder decoder) throws IOException {
+        try {
+            byte[] chunk = new byte[CHUNK_SIZE];
+            int length;
+            while ((length = stream.read(chunk)) != -1) {
+                decoder.decode(chunk, length);
             }
+            decoder.finish();
+        } finally {
+            IOUtils.closeQuietly(stream);
         }
     }
 
     /**
-     * Stop a running ballerina program.
+     * Stop the running ballerina programs of a session.
+     *
+     * @param launchSession the launch session
+     */
+    public void stopPrograms(LaunchSession launchSession) {
+        launchSession.getPrograms().forEach(this::stopProgram);
+    }
+
+    /**
+     * Stop a running ballerina program. Only the process of the program and its descendants are killed, and no more
+     * messages are sent about the program once it is stopped.
+     *
+     * @param launchedProgram the program to stop
      */
-    public void stopProcess() {
-        int pid = -1;
-        if (this.command != null && this.command.getProgram().isAlive()) {
+    public void stopProgram(LaunchedProgram launchedProgram) {
+        LaunchSession launchSession = launchedProgram.getSession();
+        Command command = launchedProgram.getCommand();
+        launchSession.removeProgram(launchedProgram);
+        if (command.getProgram() != null && command.getProgram().isAlive()) {
             //shutdown error streaming to prevent kill message displaying to user.
-            this.command.setErrorOutputEnabled(false);
+            command.setErrorOutputEnabled(false);
 
             String os = getOperatingSystem();
             if (os == null) {
                 logger.error("unsupported operating system");
-                pushMessageToClient(launchSession, LauncherConstants.UNSUPPORTED_OPERATING_SYSTEM,
-                        LauncherConstants.ERROR, LauncherConstants.TERMINATE_MESSAGE);
+                pushMessageToClient(launchSession, launchedProgram.createMessage(
+                        LauncherConstants.UNSUPPORTED_OPERATING_SYSTEM, LauncherConstants.ERROR,
+                        LauncherConstants.TERMINATE_MESSAGE));
                 return;
             }
-            Terminator terminator = new TerminatorFactory().getTerminator(os, this.command);
+            Terminator terminator = new TerminatorFactory().getTerminator(os, command);
             if (terminator == null) {
                 logger.error("unsupported operating system");
-                pushMessageToClient(launchSession, LauncherConstants.UNSUPPORTED_OPERATING_SYSTEM,
-                        LauncherConstants.ERROR, LauncherConstants.TERMINATE_MESSAGE);
+                pushMessageToClient(launchSession, launchedProgram.createMessage(
+                        LauncherConstants.UNSUPPORTED_OPERATING_SYSTEM, LauncherConstants.ERROR,
+                        LauncherConstants.TERMINATE_MESSAGE));
                 return;
             }
 
+            launchedProgram.markStopped();
             terminator.terminate();
-            pushMessageToClient(launchSession, LauncherConstants.EXECUTION_TERMINATED, LauncherConstants.INFO,
-                    LauncherConstants.TERMINATE_MESSAGE);
+            pushMessageToClient(launchSession, launchedProgram.createMessage(LauncherConstants.EXECUTION_TERMINATED,
+                    LauncherConstants.INFO, LauncherConstants.TERMINATE_MESSAGE));
         }
     }
 
@@ -241,23 +393,54 @@ public class LaunchManager {
         return null;
     }
 
-    public void addLaunchSession(Channel channel) {
-        this.launchSession = new LaunchSession(channel);
+    /**
+     * Adds the session of a client connection. The programs of the session are stopped once the client disconnects.
+     *
+     * @param channel  channel of the client
+     * @param clientId identifier of the client
+     */
+    public void addLaunchSession(Channel channel, String clientId) {
+        LaunchSession launchSession = new LaunchSession(channel, clientId);
+        launchSessions.put(channel.id(), launchSession);
+        channel.closeFuture().addListener(future -> {
+            launchSessions.remove(channel.id(), launchSession);
+            stopPrograms(launchSession);
+        });
+    }
+
+    /**
+     * Returns the session of a client connection.
+     *
+     * @param channel channel of the client
+     * @return launch session, or null if the client is not connected
+     */
+    public LaunchSession getLaunchSession(Channel channel) {
+        return launchSessions.get(channel.id());
     }
 
-    public void processCommand(String json) {
-        Gson gson = new Gson();
-        CommandDTO command = gson.fromJson(json, CommandDTO.class);
+    public void processCommand(Channel channel, String json) {
+        LaunchSession launchSession = getLaunchSession(channel);
+        if (launchSession == null) {
+            return;
+        }
+        CommandDTO command = GSON.fromJson(json, CommandDTO.class);
+        String programId = command.getProgramId() != null ? command.getProgramId() : DEFAULT_PROGRAM_ID;
         MessageDTO message;
         switch (command.getCommand()) {
             case LauncherConstants.RUN_PROGRAM:
-                run(new Command(command.getFileName(), command.getFilePath(), command.getCommandArgs(), false));
+                run(launchSession, programId, new Command(command.getFileName(), command.getFilePath(),
+                        command.getCommandArgs(), false));
                 break;
             case LauncherConstants.DEBUG_PROGRAM:
-                run(new Command(command.getFileName(), command.getFilePath(), command.getCommandArgs(), true));
+                run(launchSession, programId, new Command(command.getFileName(), command.getFilePath(),
+                        command.getCommandArgs(), true));
                 break;
             case LauncherConstants.TERMINATE:
-                stopProcess();
+                if (command.getProgramId() == null) {
+                    stopPrograms(launchSession);
+                } else if (launchSession.getProgram(programId) != null) {
+                    stopProgram(launchSession.getProgram(programId));
+                }
                 break;
             case LauncherConstants.PING:
                 message = new MessageDTO();
@@ -279,10 +462,7 @@ public class LaunchManager {
      * @param status  the status
      */
     public void pushMessageToClient(LaunchSession session, MessageDTO status) {
-        Gson gson = new Gson();
-        String json = gson.toJson(status);
-        session.getChannel().write(new TextWebSocketFrame(json));
-        session.getChannel().flush();
+        session.getChannel().writeAndFlush(new TextWebSocketFrame(GSON.toJson(status)));
     }
 
     public void pushMessageToClient(LaunchSession session, String code, String type, String text) {
@@ -293,27 +473,54 @@ public class LaunchManager {
         pushMessageToClient(session, message);
     }
 
+    /**
+     * Writes a message to the client without flushing the channel, to flush several messages at once.
+     *
+     * @param session the launch session
+     * @param message the message
+     */
+    private void writeMessageToClient(LaunchSession session, MessageDTO message) {
+        session.getChannel().write(new TextWebSocketFrame(GSON.toJson(message)));
+    }
+
     /**
      * Gets the port of the from console log that starts with
-     * LauncherConstants.SERVER_CONNECTOR_STARTED_AT_HTTP_LOCAL.
+     * LauncherConstants.SERVER_CONNECTOR_STARTED_AT_HTTP_LOCAL, as the port of the service run by the program.
      *
-     * @param line The log line.
+     * @param launchedProgram program which logged the line
+     * @param line            The log line.
      */
-    private void updatePort(String line) {
+    private static void updatePort(LaunchedProgram launchedProgram, String line) {
         String hostPort = StringUtils.substringAfterLast(line,
                 LauncherConstants.SERVER_CONNECTOR_STARTED_AT_HTTP_LOCAL).trim();
         String port = StringUtils.substringAfterLast(hostPort, ":");
         if (StringUtils.isNotBlank(port)) {
-            this.port = port;
+            launchedProgram.setServicePort(port);
         }
     }
 
     /**
-     * Getter for running port.
+     * Getter for the port of a service run by a client.
      *
-     * @return The port.
+     * @param clientId  identifier of the client, as of its launch sessions
+     * @param programId identifier of the program running the service, or null for the service the client started last
+     * @return The port, or an empty string if the client runs no such service.
      */
-    public String getPort() {
-        return this.port;
+    public String getPort(String clientId, String programId) {
+        LaunchedProgram service = null;
+        for (LaunchSession launchSession : launchSessions.values()) {
+            if (!launchSession.getClientId().equals(clientId)) {
+                continue;
+            }
+            for (LaunchedProgram program : launchSession.getPrograms()) {
+                if (program.getServicePort() == null || (programId != null && !programId.equals(program.getId()))) {
+                    continue;
+                }
+                if (service == null || program.getServiceStartedAt() - service.getServiceStartedAt() > 0) {
+                    service = program;
+                }
+            }
+        }
+        return service != null ? service.getServicePort() : StringUtils.EMPTY;
     }
 }
@@ -20,8 +20,10 @@ import com.google.gson.Gson;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.WriteBufferWaterMark;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
@@ -37,6 +39,9 @@ import org.ballerinalang.composer.service.workspace.launcher.dto.MessageDTO;
  */
 public class LaunchServer {
 
+    private static final int WRITE_BUFFER_LOW_WATER_MARK = 32 * 1024;
+    private static final int WRITE_BUFFER_HIGH_WATER_MARK = 64 * 1024;
+
     private int port;
 
     LaunchServer(int port) {
@@ -76,7 +81,10 @@ public class LaunchServer {
                     .channel(NioServerSocketChannel.class)
                     //todo enable log in debug mode
                     //.handler(new LoggingHandler(LogLevel.INFO))
-                    .childHandler(new LaunchServerInitializer());
+                    .childHandler(new LaunchServerInitializer())
+                    // the output of a program is buffered by the launcher while the client is not writable
+                    .childOption(ChannelOption.WRITE_BUFFER_WATER_MARK,
+                            new WriteBufferWaterMark(WRITE_BUFFER_LOW_WATER_MARK, WRITE_BUFFER_HIGH_WATER_MARK));
             Channel ch = b.bind(port).sync().channel();
 
             ch.closeFuture().sync();
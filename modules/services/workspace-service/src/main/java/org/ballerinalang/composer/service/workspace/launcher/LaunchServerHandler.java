@@ -35,6 +35,7 @@ import io.netty.handler.codec.http.websocketx.WebSocketFrame;
 import io.netty.handler.codec.http.websocketx.WebSocketServerHandshaker;
 import io.netty.handler.codec.http.websocketx.WebSocketServerHandshakerFactory;
 import io.netty.util.CharsetUtil;
+import org.ballerinalang.composer.service.workspace.util.CompilerExecutor;
 
 import static io.netty.handler.codec.http.HttpMethod.GET;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
@@ -91,7 +92,10 @@ public class LaunchServerHandler extends SimpleChannelInboundHandler<Object> {
             WebSocketServerHandshakerFactory.sendUnsupportedVersionResponse(ctx.channel());
         } else {
             LaunchManager launchManager = LaunchManager.getInstance();
-            launchManager.addLaunchSession(ctx.channel());
+            // identified as in the try-it service, which invokes the services of the client
+            String clientId = CompilerExecutor.getClientId(ctx.channel().remoteAddress(),
+                    req.headers().get(CompilerExecutor.FORWARDED_FOR_HEADER));
+            launchManager.addLaunchSession(ctx.channel(), clientId);
             handshaker.handshake(ctx.channel(), req);
         }
     }
@@ -100,8 +104,11 @@ public class LaunchServerHandler extends SimpleChannelInboundHandler<Object> {
 
         // Check for closing frame
         if (frame instanceof CloseWebSocketFrame) {
+            LaunchSession launchSession = LaunchManager.getInstance().getLaunchSession(ctx.channel());
+            if (launchSession != null) {
+                LaunchManager.getInstance().stopPrograms(launchSession);
+            }
             handshaker.close(ctx.channel(), (CloseWebSocketFrame) frame.retain());
-            LaunchManager.getInstance().stopProcess();
             return;
         }
         if (frame instanceof PingWebSocketFrame) {
@@ -116,7 +123,7 @@ public class LaunchServerHandler extends SimpleChannelInboundHandler<Object> {
 
         String request = ((TextWebSocketFrame) frame).text();
         LaunchManager launchManager = LaunchManager.getInstance();
-        launchManager.processCommand(request);
+        launchManager.processCommand(ctx.channel(), request);
     }
 
     private static void sendHttpResponse(
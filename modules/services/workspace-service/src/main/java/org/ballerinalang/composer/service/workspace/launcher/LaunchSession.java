@@ -18,15 +18,33 @@ package org.ballerinalang.composer.service.workspace.launcher;
 
 import io.netty.channel.Channel;
 
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 /**
  * Launch session which holds the client information.
+ * <p>
+ * A session holds the programs launched by a client connection, by their identifiers. Programs of a session run
+ * concurrently, as do the programs of different sessions.
  */
 public class LaunchSession {
 
     private Channel channel = null;
 
-    public LaunchSession(Channel channel) {
+    private final String clientId;
+
+    private final ConcurrentMap<String, LaunchedProgram> programs = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param channel  channel of the client connection
+     * @param clientId identifier of the client, which tells its sessions apart from the sessions of other clients
+     */
+    public LaunchSession(Channel channel, String clientId) {
         this.channel = channel;
+        this.clientId = clientId;
     }
 
     public Channel getChannel() {
@@ -36,4 +54,46 @@ public class LaunchSession {
     public void setChannel(Channel channel) {
         this.channel = channel;
     }
+
+    public String getClientId() {
+        return clientId;
+    }
+
+    /**
+     * Returns a running program of this session.
+     *
+     * @param programId identifier of the program
+     * @return program, or null if no program with the given identifier is running
+     */
+    public LaunchedProgram getProgram(String programId) {
+        return programs.get(programId);
+    }
+
+    /**
+     * Returns the running programs of this session.
+     *
+     * @return programs
+     */
+    public Collection<LaunchedProgram> getPrograms() {
+        return programs.values();
+    }
+
+    /**
+     * Adds a launched program to this session, replacing the program with the same identifier, if any.
+     *
+     * @param program launched program
+     * @return replaced program, or null if no program with the same identifier was running
+     */
+    LaunchedProgram addProgram(LaunchedProgram program) {
+        return programs.put(program.getId(), program);
+    }
+
+    /**
+     * Removes a program from this session, unless it was already replaced by another program.
+     *
+     * @param program program to remove
+     */
+    void removeProgram(LaunchedProgram program) {
+        programs.remove(program.getId(), program);
+    }
 }
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.launcher;
+
+import org.ballerinalang.composer.service.workspace.launcher.dto.MessageDTO;
+import org.ballerinalang.composer.service.workspace.launcher.util.LaunchUtils;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * A program launched by a client, along with the batchers of its output and error streams.
+ */
+public class LaunchedProgram {
+
+    private final String id;
+
+    private final LaunchSession session;
+
+    private final Command command;
+
+    private final OutputBatcher outputBatcher;
+
+    private final OutputBatcher errorBatcher;
+
+    /**
+     * Set once the program is stopped by the client or replaced by a program launched with the same identifier, after
+     * which no more messages are sent about this program.
+     */
+    private volatile boolean stopped;
+
+    /**
+     * Port of the service run by the program, set once the program logs that the service is started.
+     */
+    private volatile String servicePort;
+
+    private volatile long serviceStartedAt;
+
+    /**
+     * CPU time used by the program as of the last sample, -1 if it is not sampled.
+     */
+    private volatile long cpuTimeMillis = -1;
+
+    private ScheduledFuture<?> cpuSampling;
+
+    /**
+     * Constructor.
+     *
+     * @param id            identifier of the program, unique within the session
+     * @param session       session of the client which launched the program
+     * @param command       command the program is launched with
+     * @param messageWriter writes a message to the client without flushing the channel
+     */
+    LaunchedProgram(String id, LaunchSession session, Command command, Consumer<MessageDTO> messageWriter) {
+        this.id = id;
+        this.session = session;
+        this.command = command;
+        Consumer<MessageDTO> programMessageWriter = message -> {
+            if (!stopped) {
+                message.setProgramId(id);
+                messageWriter.accept(message);
+            }
+        };
+        this.outputBatcher = new OutputBatcher(session.getChannel(), LauncherConstants.OUTPUT, LauncherConstants.DATA,
+                programMessageWriter);
+        this.errorBatcher = new OutputBatcher(session.getChannel(), LauncherConstants.OUTPUT, LauncherConstants.ERROR,
+                programMessageWriter);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public LaunchSession getSession() {
+        return session;
+    }
+
+    public Command getCommand() {
+        return command;
+    }
+
+    public OutputBatcher getOutputBatcher() {
+        return outputBatcher;
+    }
+
+    public OutputBatcher getErrorBatcher() {
+        return errorBatcher;
+    }
+
+    public String getServicePort() {
+        return servicePort;
+    }
+
+    /**
+     * Returns when the service of the program was started, as by {@link System#nanoTime()}.
+     *
+     * @return start time of the service, meaningful only if the program runs a service
+     */
+    public long getServiceStartedAt() {
+        return serviceStartedAt;
+    }
+
+    /**
+     * Records the port of the service run by the program.
+     *
+     * @param servicePort port of the service
+     */
+    void setServicePort(String servicePort) {
+        this.serviceStartedAt = System.nanoTime();
+        this.servicePort = servicePort;
+    }
+
+    public long getCpuTimeMillis() {
+        return cpuTimeMillis;
+    }
+
+    /**
+     * Starts sampling the CPU time used by the program, which can't be read once the program has exited.
+     *
+     * @param sampler        executor to sample with
+     * @param intervalMillis interval between samples
+     */
+    synchronized void startCpuSampling(ScheduledExecutorService sampler, long intervalMillis) {
+        cpuSampling = sampler.scheduleWithFixedDelay(this::sampleCpuTime, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops sampling the CPU time used by the program, keeping the last sample.
+     */
+    synchronized void stopCpuSampling() {
+        if (cpuSampling != null) {
+            cpuSampling.cancel(false);
+            cpuSampling = null;
+        }
+    }
+
+    private void sampleCpuTime() {
+        Process program = command.getProgram();
+        long sample = program != null ? LaunchUtils.getCpuTimeMillis(program) : -1;
+        // the processes of the program exit one by one, hence the last sample may miss some of them
+        if (sample > cpuTimeMillis) {
+            cpuTimeMillis = sample;
+        }
+    }
+
+    public boolean isStopped() {
+        return stopped;
+    }
+
+    /**
+     * Marks the program as stopped, suppressing the messages of its streams which are still being read.
+     */
+    void markStopped() {
+        stopped = true;
+    }
+
+    /**
+     * Creates a message about this program.
+     *
+     * @param code code of the message
+     * @param type type of the message
+     * @param text text of the message
+     * @return message
+     */
+    public MessageDTO createMessage(String code, String type, String text) {
+        MessageDTO message = new MessageDTO();
+        message.setCode(code);
+        message.setType(type);
+        message.setMessage(text);
+        message.setProgramId(id);
+        return message;
+    }
+}
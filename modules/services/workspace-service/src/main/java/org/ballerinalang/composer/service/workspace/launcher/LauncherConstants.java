@@ -59,6 +59,11 @@ public class LauncherConstants {
     // TODO: Update cloud URL.
     public static final String SERVER_CONNECTOR_STARTED_AT_HTTP_CLOUD = "ballerina: started HTTP/WS server connector";
     public static final String TERMINATE_MESSAGE = "Program Terminated.";
+    public static final String TOO_MANY_PROGRAMS_MESSAGE = "ERROR: Unable to run program, %d programs are " +
+                                                           "already running.";
+    public static final String LAUNCHER_BUSY_MESSAGE = "ERROR: Unable to run program, too many programs are running.";
+    public static final String LINES_DROPPED_MESSAGE = "... %d lines dropped as the output is printed faster than " +
+                                                       "it can be shown ...";
     public static final String UNSUPPORTED_OPERATING_SYSTEM = "Unsupported operating system";
     public static final String LOCAL_TRY_IT_URL = "http://%s:%s";
 
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.launcher;
+
+import io.netty.channel.Channel;
+import org.ballerinalang.composer.service.workspace.launcher.dto.MessageDTO;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Batches the lines printed by a program into the messages sent to the client.
+ * <p>
+ * Lines are coalesced into a single message until the message reaches {@link #MAX_MESSAGE_CHARS} characters or
+ * {@link #FLUSH_MILLIS} milliseconds pass since the first line of the message was printed, hence a program printing
+ * thousands of lines per second doesn't cost a frame and a flush per line. Messages are sent only while the channel of
+ * the client is writable. Lines printed meanwhile are kept in a ring buffer of {@link #MAX_BUFFERED_LINES} lines, of
+ * which the oldest lines are dropped if the client can't keep up, and the client is told how many lines were dropped.
+ */
+public class OutputBatcher {
+
+    public static final String SYS_MAX_BUFFERED_LINES = "composer.launcher.output.maxBufferedLines";
+    public static final String SYS_MAX_MESSAGE_CHARS = "composer.launcher.output.maxMessageChars";
+    public static final String SYS_FLUSH_MILLIS = "composer.launcher.output.flushMillis";
+
+    public static final int MAX_BUFFERED_LINES = Integer.getInteger(SYS_MAX_BUFFERED_LINES, 10000);
+    public static final int MAX_MESSAGE_CHARS = Integer.getInteger(SYS_MAX_MESSAGE_CHARS, 16 * 1024);
+    public static final int FLUSH_MILLIS = Integer.getInteger(SYS_FLUSH_MILLIS, 50);
+
+    /**
+     * Flushes the batches of all programs.
+     */
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "composer-launcher-output");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Channel channel;
+
+    private final String code;
+
+    private final String type;
+
+    private final Consumer<MessageDTO> messageSender;
+
+    private final Deque<String> lines = new ArrayDeque<>();
+
+    private int bufferedChars;
+
+    private long droppedLines;
+
+    private boolean flushScheduled;
+
+    /**
+     * Constructor.
+     *
+     * @param channel       channel of the client, of which the writability is respected
+     * @param code          code of the messages sent
+     * @param type          type of the messages sent
+     * @param messageSender sends a message to the client without flushing the channel
+     */
+    public OutputBatcher(Channel channel, String code, String type, Consumer<MessageDTO> messageSender) {
+        this.channel = channel;
+        this.code = code;
+        this.type = type;
+        this.messageSender = messageSender;
+    }
+
+    /**
+     * Adds a line printed by the program, which is sent along with the lines printed after it.
+     *
+     * @param line printed line
+     */
+    public synchronized void add(String line) {
+        if (lines.size() >= MAX_BUFFERED_LINES) {
+            bufferedChars -= lines.removeFirst().length() + 1;
+            droppedLines++;
+        }
+        lines.addLast(line);
+        bufferedChars += line.length() + 1;
+        if (bufferedChars >= MAX_MESSAGE_CHARS) {
+            flush(false);
+        } else if (!flushScheduled) {
+            scheduleFlush();
+        }
+    }
+
+    /**
+     * Sends a line in a message of its own, after the lines printed before it. Used for lines the client looks for,
+     * e.g. the URL of a started service.
+     *
+     * @param line printed line
+     */
+    public synchronized void addStandalone(String line) {
+        flush(true);
+        messageSender.accept(createMessage(line));
+        channel.flush();
+    }
+
+    /**
+     * Sends all the lines printed so far regardless of the writability of the channel, e.g. once the program exits.
+     */
+    public synchronized void close() {
+        flush(true);
+    }
+
+    /**
+     * Returns the number of lines dropped since the client couldn't keep up.
+     *
+     * @return number of dropped lines
+     */
+    public synchronized long getDroppedLines() {
+        return droppedLines;
+    }
+
+    private void scheduleFlush() {
+        flushScheduled = true;
+        SCHEDULER.schedule(() -> {
+            synchronized (this) {
+                flushScheduled = false;
+                flush(false);
+            }
+        }, FLUSH_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Sends the buffered lines in messages of up to {@link #MAX_MESSAGE_CHARS} characters, as long as the channel is
+     * writable. Lines left in the buffer are sent by a later flush.
+     *
+     * @param force whether to send all the lines regardless of the writability of the channel
+     */
+    private void flush(boolean force) {
+        if (!channel.isActive()) {
+            lines.clear();
+            bufferedChars = 0;
+            return;
+        }
+        boolean written = false;
+        if (droppedLines > 0 && (force || channel.isWritable())) {
+            MessageDTO marker = new MessageDTO();
+            marker.setCode(code);
+            marker.setType(LauncherConstants.INFO);
+            marker.setMessage(String.format(LauncherConstants.LINES_DROPPED_MESSAGE, droppedLines));
+            messageSender.accept(marker);
+            droppedLines = 0;
+            written = true;
+        }
+        StringBuilder message = new StringBuilder();
+        while (!lines.isEmpty() && (force || channel.isWritable())) {
+            String line = lines.removeFirst();
+            bufferedChars -= line.length() + 1;
+            if (message.length() > 0) {
+                message.append('\n');
+            }
+            message.append(line);
+            if (message.length() >= MAX_MESSAGE_CHARS) {
+                messageSender.accept(createMessage(message.toString()));
+                message.setLength(0);
+                written = true;
+            }
+        }
+        if (message.length() > 0) {
+            messageSender.accept(createMessage(message.toString()));
+            written = true;
+        }
+        if (written) {
+            channel.flush();
+        }
+        if (!lines.isEmpty() && !flushScheduled) {
+            // the channel is not writable, hence the lines are sent once the client reads what was sent so far
+            scheduleFlush();
+        }
+    }
+
+    private MessageDTO createMessage(String text) {
+        MessageDTO message = new MessageDTO();
+        message.setCode(code);
+        message.setType(type);
+        message.setMessage(text);
+        return message;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.launcher;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Decodes the UTF-8 output of a program, read in chunks of bytes, into lines.
+ * <p>
+ * A chunk may end in the middle of a multi-byte character, of which the bytes read so far are kept until the next
+ * chunk is decoded. Likewise a chunk may end in the middle of a line, which is passed on once the rest of the line is
+ * read or the output ends. Malformed input is replaced rather than failing the stream.
+ */
+public class OutputDecoder {
+
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+    private final Consumer<String> lineConsumer;
+
+    private ByteBuffer bytes = ByteBuffer.allocate(0);
+
+    private final CharBuffer chars;
+
+    private final StringBuilder line = new StringBuilder();
+
+    /**
+     * Constructor.
+     *
+     * @param chunkSize    maximum number of bytes decoded at once
+     * @param lineConsumer consumer of the decoded lines, without line terminators
+     */
+    public OutputDecoder(int chunkSize, Consumer<String> lineConsumer) {
+        this.chars = CharBuffer.allocate(chunkSize + 1);
+        this.lineConsumer = lineConsumer;
+    }
+
+    /**
+     * Decodes a chunk of bytes.
+     *
+     * @param chunk  bytes read
+     * @param length number of bytes read into the chunk
+     */
+    public void decode(byte[] chunk, int length) {
+        ByteBuffer input;
+        if (bytes.hasRemaining()) {
+            // prepend the bytes of the character the previous chunk ended in the middle of
+            input = ByteBuffer.allocate(bytes.remaining() + length);
+            input.put(bytes).put(chunk, 0, length).flip();
+        } else {
+            input = ByteBuffer.wrap(chunk, 0, length);
+        }
+        while (true) {
+            chars.clear();
+            boolean overflow = decoder.decode(input, chars, false).isOverflow();
+            chars.flip();
+            append(chars);
+            if (!overflow) {
+                break;
+            }
+        }
+        bytes = input.hasRemaining() ? ByteBuffer.allocate(input.remaining()).put(input) : ByteBuffer.allocate(0);
+        bytes.flip();
+    }
+
+    /**
+     * Decodes the bytes left once the output ends and passes on the last line, if it is not terminated.
+     */
+    public void finish() {
+        chars.clear();
+        decoder.decode(bytes, chars, true);
+        decoder.flush(chars);
+        chars.flip();
+        append(chars);
+        bytes = ByteBuffer.allocate(0);
+        if (line.length() > 0) {
+            lineConsumer.accept(line.toString());
+            line.setLength(0);
+        }
+        decoder.reset();
+    }
+
+    private void append(CharBuffer decoded) {
+        while (decoded.hasRemaining()) {
+            char c = decoded.get();
+            if (c == '\n') {
+                int length = line.length();
+                lineConsumer.accept(length > 0 && line.charAt(length - 1) == '\r'
+                        ? line.substring(0, length - 1) : line.toString());
+                line.setLength(0);
+            } else {
+                line.append(c);
+            }
+        }
+    }
+}
@@ -17,75 +17,46 @@
 package org.ballerinalang.composer.service.workspace.launcher;
 
 import org.apache.commons.io.IOUtils;
+import org.ballerinalang.composer.service.workspace.launcher.util.LaunchUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Launcher Terminator Implementation for Unix.
+ * <p>
+ * Only the process launched for the program and its descendants are killed, so programs launched by other sessions
+ * from the same file are left running.
  */
 public class TerminatorUnix implements Terminator {
     private Command command;
     private static final Logger logger = LoggerFactory.getLogger(TerminatorUnix.class);
 
-    TerminatorUnix() {
-
-    }
-
     TerminatorUnix(Command command) {
         this.command = command;
     }
 
-    /**
-     * Get find process command.
-     *
-     * @param script absolute path of ballerina file running
-     * @return find process command
-     */
-    private String[] getFindProcessCommand(String script) {
-
-        String[] cmd = {
-                "/bin/sh",
-                "-c",
-                "ps -ef -o pid,args | grep " +
-                        script + " | grep run | grep ballerina | grep -v 'grep' | awk '{print $1}'"
-        };
-        return cmd;
-    }
-
     /**
      * Terminate running ballerina program.
      */
     public void terminate() {
-        String cmd = command.getCommandIdentifier();
-        int processID;
-        String[] findProcessCommand = getFindProcessCommand(cmd);
-        BufferedReader reader = null;
-        try {
-            Process findProcess = Runtime.getRuntime().exec(findProcessCommand);
-            findProcess.waitFor();
-            reader = new BufferedReader(new InputStreamReader(findProcess.getInputStream(), Charset.defaultCharset()));
-
-            String line;
-            while ((line = reader.readLine()) != null) {
-                try {
-                    processID = Integer.parseInt(line);
-                    killChildProcesses(processID);
-                    kill(processID);
-                } catch (Throwable e) {
-                    logger.error("Launcher was unable to kill process " + line + ".");
-                }
-            }
-        } catch (Throwable e) {
-            logger.error("Launcher was unable to find the process ID for " + cmd + ".");
-        } finally {
-            if (reader != null) {
-                IOUtils.closeQuietly(reader);
-            }
+        Process process = command.getProgram();
+        long processID = LaunchUtils.getProcessId(process);
+        if (processID > 0) {
+            // descendants are found before killing any of them, as killed processes lose their children
+            List<Long> descendants = new ArrayList<>();
+            findChildProcesses(processID, descendants);
+            descendants.forEach(this::kill);
+        } else {
+            logger.warn("Launcher was unable to find the process ID for " + command.getCommandIdentifier()
+                    + ", its child processes are not terminated.");
         }
+        process.destroyForcibly();
     }
 
     /**
@@ -93,9 +64,8 @@ public class TerminatorUnix implements Terminator {
      *
      * @param pid - process id
      */
-    public void kill(int pid) {
-        //todo need to put aditional validation
-        if (pid < 0) {
+    public void kill(long pid) {
+        if (pid <= 0) {
             return;
         }
         String killCommand = String.format("kill -9 %d", pid);
@@ -108,25 +78,29 @@ public class TerminatorUnix implements Terminator {
     }
 
     /**
-     * Terminate running all child processes for a given pid.
+     * Finds all child processes of a given pid, along with their own child processes.
      *
-     * @param pid - process id
+     * @param pid         - process id
+     * @param descendants - list to add the process ids of the child processes to
      */
-    void killChildProcesses(int pid) {
+    void findChildProcesses(long pid, List<Long> descendants) {
         BufferedReader reader = null;
         try {
             Process findChildProcess = Runtime.getRuntime().exec(String.format("pgrep -P %d", pid));
-            findChildProcess.waitFor();
             reader = new BufferedReader(new InputStreamReader(findChildProcess.getInputStream(),
                     Charset.defaultCharset()));
+            List<Long> children = new ArrayList<>();
             String line;
-            int childProcessID;
             while ((line = reader.readLine()) != null) {
-                childProcessID = Integer.parseInt(line);
-                kill(childProcessID);
+                children.add(Long.parseLong(line.trim()));
+            }
+            findChildProcess.waitFor();
+            for (Long child : children) {
+                descendants.add(child);
+                findChildProcesses(child, descendants);
             }
         } catch (Throwable e) {
-            logger.error("Launcher was unable to find parent for process:" + pid + ".");
+            logger.error("Launcher was unable to find child processes of process:" + pid + ".");
         } finally {
             if (reader != null) {
                 IOUtils.closeQuietly(reader);
@@ -16,11 +16,15 @@
 
 package org.ballerinalang.composer.service.workspace.launcher;
 
+import org.ballerinalang.composer.service.workspace.launcher.util.LaunchUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Launcher Terminator Implementation for Windows. ( Xp professional SP2++).
+ * <p>
+ * Only the process launched for the program and its descendants are killed, so programs launched by other sessions
+ * from the same file are left running.
  */
 public class TerminatorWindows implements Terminator {
 
@@ -34,25 +38,30 @@ public class TerminatorWindows implements Terminator {
 
     /**
      *
-     * @return file process command.
+     * @param pid process id of the launched process
+     * @return kill process tree command.
      */
-    private String getFindProcessCommand() {
-        // escape forward slashes
-        String script = this.command.getCommandIdentifier().replace("\\", "\\\\");
-        return "cmd /c wmic.exe Process where \"Commandline like '%" + script + "%'\" CALL TERMINATE";
+    private String getKillProcessTreeCommand(long pid) {
+        return String.format("taskkill /F /T /PID %d", pid);
     }
 
     /**
      * Terminate running ballerina program.
      */
     public void terminate() {
-        String scriptLocation = command.getScriptLocation();
-        String findProcessCommand = getFindProcessCommand();
-        try {
-            Process findProcess = Runtime.getRuntime().exec(findProcessCommand);
-            findProcess.waitFor();
-        } catch (Throwable e) {
-            logger.error("Launcher was unable to find the process ID for " + scriptLocation + ".");
+        Process process = command.getProgram();
+        long processID = LaunchUtils.getProcessId(process);
+        if (processID > 0) {
+            try {
+                Process killProcess = Runtime.getRuntime().exec(getKillProcessTreeCommand(processID));
+                killProcess.waitFor();
+            } catch (Throwable e) {
+                logger.error("Launcher was unable to terminate process:" + processID + ".");
+            }
+        } else {
+            logger.warn("Launcher was unable to find the process ID for " + command.getCommandIdentifier()
+                    + ", its child processes are not terminated.");
         }
+        process.destroyForcibly();
     }
 }
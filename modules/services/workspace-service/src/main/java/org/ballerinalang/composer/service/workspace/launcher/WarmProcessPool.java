@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.launcher;
+
+import org.apache.commons.io.FileUtils;
+import org.ballerinalang.composer.service.workspace.launcher.util.LaunchUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Pool of pre-started Ballerina runtime processes, which saves the startup of the JVM and the loading of the runtime
+ * from the launch of a program.
+ * <p>
+ * Each process is started by the ballerina command, exactly as for a program, but with a java command of the pool in
+ * place of the one of the JDK. It runs the java command of the JDK with the same arguments, except for the main class
+ * of the runtime, which is replaced by {@link WarmRuntime}. Hence the runtime gets the JVM options, system properties
+ * and class path set by the ballerina command, and prints the same output as a program started by the ballerina
+ * command. {@link WarmRuntime} waits for the arguments of a program on its standard input. A process runs a single
+ * program and is not reused afterwards, hence every process taken from the pool is replaced by a new one in the
+ * background. Since a program runs in the directory of its package, the pool keeps its processes in the
+ * directory of the program launched last, which is the directory of the next program in an edit and run cycle. A
+ * program launched in another directory is started as usual, and moves the pool to its directory.
+ * <p>
+ * The java command of the pool is a shell script, hence the pool is disabled on Windows.
+ */
+public class WarmProcessPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(WarmProcessPool.class);
+
+    public static final String SYS_RUNTIME_MAIN_CLASS = "composer.launcher.warmPool.mainClass";
+
+    public static final String DEFAULT_RUNTIME_MAIN_CLASS = "org.ballerinalang.launcher.Main";
+
+    private static final String JAVA_HOME_ENV = "JAVA_HOME";
+    private static final String JAVA_COMMAND_ENV = "JAVACMD";
+
+    private static final String WARM_JAVA_ENV = "COMPOSER_WARM_JAVA";
+    private static final String WARM_MAIN_CLASS_ENV = "COMPOSER_WARM_MAIN_CLASS";
+    private static final String WARM_RUNTIME_ENV = "COMPOSER_WARM_RUNTIME";
+    private static final String WARM_CLASSES_ENV = "COMPOSER_WARM_CLASSES";
+
+    /**
+     * Java command of the pool, which puts {@link WarmRuntime} in front of the main class of the runtime and adds it to
+     * the class path. Arguments after the main class are arguments of the runtime and are left as they are.
+     */
+    private static final String JAVA_COMMAND = String.join("\n",
+            "#!/bin/sh",
+            "warm=",
+            "classpath=",
+            "for arg do",
+            "    shift",
+            "    if [ -n \"$classpath\" ]; then",
+            "        arg=\"$arg:$" + WARM_CLASSES_ENV + "\"",
+            "        classpath=",
+            "    elif [ -z \"$warm\" ] && [ \"$arg\" = \"$" + WARM_MAIN_CLASS_ENV + "\" ]; then",
+            "        warm=1",
+            "        set -- \"$@\" \"$" + WARM_RUNTIME_ENV + "\"",
+            "    elif [ -z \"$warm\" ] && { [ \"$arg\" = -classpath ] || [ \"$arg\" = -cp ]; }; then",
+            "        classpath=1",
+            "    fi",
+            "    set -- \"$@\" \"$arg\"",
+            "done",
+            "CLASSPATH=\"${CLASSPATH:+$CLASSPATH:}$" + WARM_CLASSES_ENV + "\"",
+            "export CLASSPATH",
+            "exec \"$" + WARM_JAVA_ENV + "\" \"$@\"",
+            "");
+
+    private final int size;
+
+    private final String mainClass;
+
+    private final Function<File, ProcessBuilder> processBuilders;
+
+    /**
+     * Directory of the java command of the pool and of {@link WarmRuntime}, created by the first process started. It
+     * is only used by the thread starting the processes.
+     */
+    private Path javaHome;
+
+    /**
+     * Idle processes, oldest first.
+     */
+    private final Deque<WarmProcess> idleProcesses = new ArrayDeque<>();
+
+    /**
+     * Starts the processes of the pool, one batch at a time, hence the pool never holds more processes than its size.
+     */
+    private final ExecutorService starter = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "composer-launcher-warm-pool");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile boolean closed = false;
+
+    /**
+     * Creates a pool of Ballerina runtime processes.
+     *
+     * @param size            number of idle processes to keep, the pool is disabled if not positive
+     * @param processBuilders creates the process builder of the ballerina command without arguments, in the given
+     *                        directory, with the environment a program is started with
+     */
+    public WarmProcessPool(int size, Function<File, ProcessBuilder> processBuilders) {
+        if (size > 0 && LaunchUtils.isWindows()) {
+            logger.warn("Warm Ballerina runtimes are not supported on Windows, programs are started on launch");
+            size = 0;
+        }
+        this.size = size;
+        this.mainClass = System.getProperty(SYS_RUNTIME_MAIN_CLASS, DEFAULT_RUNTIME_MAIN_CLASS);
+        this.processBuilders = processBuilders;
+    }
+
+    public boolean isEnabled() {
+        return size > 0;
+    }
+
+    /**
+     * Starts the processes of the pool in the background.
+     *
+     * @param workingDir directory to start the processes in, null for the working directory of the composer
+     */
+    public void prestart(File workingDir) {
+        if (isEnabled() && !closed) {
+            starter.execute(() -> refill(workingDir));
+        }
+    }
+
+    /**
+     * Runs a program in an idle process of the pool.
+     *
+     * @param commandArray command array of the program, as run by the ballerina command
+     * @param workingDir   directory to run the program in, null for the working directory of the composer
+     * @return process running the program, or null if the pool has no idle process in the directory
+     */
+    public Process take(String[] commandArray, File workingDir) {
+        if (!isEnabled()) {
+            return null;
+        }
+        WarmProcess warmProcess = null;
+        synchronized (idleProcesses) {
+            Iterator<WarmProcess> iterator = idleProcesses.iterator();
+            while (iterator.hasNext()) {
+                WarmProcess candidate = iterator.next();
+                if (!candidate.process.isAlive()) {
+                    logger.warn("Warm Ballerina runtime exited with " + candidate.process.exitValue());
+                    iterator.remove();
+                } else if (warmProcess == null && Objects.equals(candidate.workingDir, workingDir)) {
+                    iterator.remove();
+                    warmProcess = candidate;
+                }
+            }
+        }
+        prestart(workingDir);
+        if (warmProcess == null) {
+            return null;
+        }
+
+        // the ballerina command itself is replaced by the process
+        String request = WarmRuntime.encodeArguments(Arrays.copyOfRange(commandArray, 1, commandArray.length));
+        try (OutputStream input = warmProcess.process.getOutputStream()) {
+            input.write((request + "\n").getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            logger.warn("Unable to hand over a program to a warm Ballerina runtime", e);
+            warmProcess.process.destroyForcibly();
+            return null;
+        }
+        return warmProcess.process;
+    }
+
+    /**
+     * Stops the idle processes of the pool and deletes the java command of the pool. No processes are started
+     * afterwards.
+     */
+    public void close() {
+        List<WarmProcess> evicted;
+        synchronized (idleProcesses) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            evicted = new ArrayList<>(idleProcesses);
+            idleProcesses.clear();
+        }
+        evicted.forEach(warmProcess -> warmProcess.process.destroyForcibly());
+        // deleted once the processes being started, if any, are started
+        starter.execute(() -> {
+            if (javaHome != null) {
+                FileUtils.deleteQuietly(javaHome.toFile());
+            }
+        });
+        starter.shutdown();
+    }
+
+    /**
+     * Replaces the idle processes in other directories, and starts processes until the pool is full.
+     */
+    private void refill(File workingDir) {
+        List<WarmProcess> evicted = new ArrayList<>();
+        int missing;
+        synchronized (idleProcesses) {
+            Iterator<WarmProcess> iterator = idleProcesses.iterator();
+            while (iterator.hasNext()) {
+                WarmProcess warmProcess = iterator.next();
+                if (!Objects.equals(warmProcess.workingDir, workingDir)) {
+                    iterator.remove();
+                    evicted.add(warmProcess);
+                }
+            }
+            missing = closed ? 0 : size - idleProcesses.size();
+        }
+        evicted.forEach(warmProcess -> warmProcess.process.destroyForcibly());
+
+        for (int i = 0; i < missing; i++) {
+            Process process;
+            try {
+                ProcessBuilder processBuilder = processBuilders.apply(workingDir);
+                useJavaCommand(processBuilder);
+                process = processBuilder.start();
+            } catch (IOException | RuntimeException e) {
+                logger.error("Unable to start a warm Ballerina runtime", e);
+                return;
+            }
+            synchronized (idleProcesses) {
+                if (closed) {
+                    process.destroyForcibly();
+                    return;
+                }
+                idleProcesses.add(new WarmProcess(process, workingDir));
+            }
+        }
+    }
+
+    /**
+     * Makes the ballerina command of a process builder run the java command of the pool, which runs the java command
+     * the ballerina command would run otherwise. As in the ballerina command, that is the command set by JAVACMD, if
+     * any, or the one of the JDK at JAVA_HOME, if set, or the one on the path.
+     *
+     * @param processBuilder process builder of the ballerina command
+     * @throws IOException if the java command of the pool can't be created
+     */
+    private void useJavaCommand(ProcessBuilder processBuilder) throws IOException {
+        Map<String, String> environment = processBuilder.environment();
+        String java = environment.get(JAVA_COMMAND_ENV);
+        if (java == null || java.isEmpty()) {
+            String jdkHome = environment.get(JAVA_HOME_ENV);
+            java = jdkHome != null && !jdkHome.isEmpty() ? Paths.get(jdkHome, "bin", "java").toString() : "java";
+        }
+        Path home = getJavaHome();
+        environment.put(WARM_JAVA_ENV, java);
+        environment.put(WARM_MAIN_CLASS_ENV, mainClass);
+        environment.put(WARM_RUNTIME_ENV, WarmRuntime.class.getName());
+        environment.put(WARM_CLASSES_ENV, home.resolve("classes").toString());
+        environment.put(JAVA_HOME_ENV, home.toString());
+        environment.put(JAVA_COMMAND_ENV, home.resolve("bin").resolve("java").toString());
+    }
+
+    /**
+     * Returns the directory of the java command of the pool, laid out as a JDK, along with the classes it adds to the
+     * class path of the runtime, which are only {@link WarmRuntime}. It is created on first use.
+     */
+    private Path getJavaHome() throws IOException {
+        if (javaHome == null) {
+            Path home = Files.createTempDirectory("composer-warm-runtime");
+            Path runtimeClass = home.resolve("classes").resolve(WarmRuntime.class.getName().replace('.', '/')
+                    + ".class");
+            Files.createDirectories(runtimeClass.getParent());
+            try (InputStream classFile = WarmRuntime.class.getResourceAsStream(WarmRuntime.class.getSimpleName()
+                    + ".class")) {
+                Files.copy(classFile, runtimeClass);
+            }
+            Path java = Files.createDirectories(home.resolve("bin")).resolve("java");
+            Files.write(java, JAVA_COMMAND.getBytes(StandardCharsets.UTF_8));
+            Files.setPosixFilePermissions(java, PosixFilePermissions.fromString("rwxr-xr-x"));
+            javaHome = home;
+        }
+        return javaHome;
+    }
+
+    /**
+     * An idle process of the pool.
+     */
+    private static class WarmProcess {
+
+        private final Process process;
+
+        private final File workingDir;
+
+        private WarmProcess(Process process, File workingDir) {
+            this.process = process;
+            this.workingDir = workingDir;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.launcher;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.UnsupportedEncodingException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Entry point of a pre-started Ballerina runtime process of the {@link WarmProcessPool}.
+ * <p>
+ * The process is started by the ballerina command, of which the java command runs this class in place of the main
+ * class of the runtime. Hence the runtime is loaded by the system class loader, with the JVM options and system
+ * properties of the ballerina command, as in a process started by the ballerina command for a program. The main class
+ * of the runtime is initialized upfront, after which the process waits for the arguments of the program to run on its
+ * standard input, and runs the program as the ballerina command would. A process runs a single program.
+ * <p>
+ * This class runs in a process of its own, hence it must only depend on the JDK.
+ */
+public class WarmRuntime {
+
+    private static final String ARGUMENT_SEPARATOR = " ";
+
+    private WarmRuntime() {
+    }
+
+    /**
+     * Loads the runtime and runs the program received on the standard input.
+     *
+     * @param args name of the main class of the runtime, followed by the arguments the ballerina command passed to it
+     * @throws Exception if the runtime can't be loaded, or the program fails
+     */
+    public static void main(String[] args) throws Exception {
+        Method main = Class.forName(args[0]).getMethod("main", String[].class);
+
+        BufferedReader input = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        String request = input.readLine();
+        if (request == null) {
+            // the launcher exited without handing over a program
+            return;
+        }
+        try {
+            main.invoke(null, (Object) decodeArguments(request));
+        } catch (InvocationTargetException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+    }
+    /**
+     * Encodes the arguments of a program into a single line.
+     *
+     * @param args arguments of the ballerina command
+     * @return encoded arguments
+     */
+    static String encodeArguments(String[] args) {
+        StringBuilder request = new StringBuilder();
+        try {
+            for (String arg : args) {
+                if (request.length() > 0) {
+                    request.append(ARGUMENT_SEPARATOR);
+                }
+                request.append(URLEncoder.encode(arg, StandardCharsets.UTF_8.name()));
+            }
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+        return request.toString();
+    }
+
+    static String[] decodeArguments(String request) throws UnsupportedEncodingException {
+        if (request.isEmpty()) {
+            return new String[0];
+        }
+        String[] args = request.split(ARGUMENT_SEPARATOR, -1);
+        for (int i = 0; i < args.length; i++) {
+            args[i] = URLDecoder.decode(args[i], StandardCharsets.UTF_8.name());
+        }
+        return args;
+    }
+}
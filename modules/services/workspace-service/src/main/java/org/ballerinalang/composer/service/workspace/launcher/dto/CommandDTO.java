@@ -30,6 +30,8 @@ public class CommandDTO {
 
     private String[] commandArgs;
 
+    private String programId;
+
     public CommandDTO(String command, String filePath, String fileName, String[] args) {
         this.command = command;
         this.filePath = filePath;
@@ -68,4 +70,12 @@ public class CommandDTO {
     public void setCommandArgs(String[] commandArgs) {
         this.commandArgs = commandArgs;
     }
+
+    public String getProgramId() {
+        return programId;
+    }
+
+    public void setProgramId(String programId) {
+        this.programId = programId;
+    }
 }
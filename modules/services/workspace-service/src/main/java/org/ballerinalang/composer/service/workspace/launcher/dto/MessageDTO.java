@@ -40,6 +40,17 @@ public class MessageDTO {
 
     private String id;
 
+    private String programId;
+
+    private Integer exitCode;
+
+    /**
+     * CPU time used by a stopped program, in milliseconds. It is absent where the runtime of the composer can't read
+     * the CPU time of processes, which is before Java 9. The memory usage of programs is not reported, as it can't be
+     * read portably.
+     */
+    private Long cpuTimeMillis;
+
     public String getCode() {
         return code;
     }
@@ -79,4 +90,28 @@ public class MessageDTO {
     public String getId() {
         return id;
     }
+
+    public String getProgramId() {
+        return programId;
+    }
+
+    public void setProgramId(String programId) {
+        this.programId = programId;
+    }
+
+    public Integer getExitCode() {
+        return exitCode;
+    }
+
+    public void setExitCode(Integer exitCode) {
+        this.exitCode = exitCode;
+    }
+
+    public Long getCpuTimeMillis() {
+        return cpuTimeMillis;
+    }
+
+    public void setCpuTimeMillis(Long cpuTimeMillis) {
+        this.cpuTimeMillis = cpuTimeMillis;
+    }
 }
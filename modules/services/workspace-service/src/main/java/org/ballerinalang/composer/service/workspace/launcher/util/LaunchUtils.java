@@ -20,7 +20,12 @@ package org.ballerinalang.composer.service.workspace.launcher.util;
 import org.ballerinalang.composer.service.workspace.launcher.LauncherConstants;
 import org.ballerinalang.composer.service.workspace.utils.WorkspaceUtils;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Utility functions used by launcher.
@@ -54,4 +59,71 @@ public class LaunchUtils {
         return -1;
     }
 
+    /**
+     * Returns the process ID of a process started by this JVM. The ID is read with Process#pid where available, and
+     * from the process implementation of Unix JVMs before Java 9 otherwise.
+     *
+     * @param process process started by this JVM
+     * @return process ID, or -1 if it can't be read
+     */
+    public static long getProcessId(Process process) {
+        try {
+            return (Long) Process.class.getMethod("pid").invoke(process);
+        } catch (ReflectiveOperationException e) {
+            // Process#pid is not available before Java 9
+        }
+        try {
+            Field pid = process.getClass().getDeclaredField("pid");
+            pid.setAccessible(true);
+            return pid.getLong(process);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Returns whether the CPU time of processes can be read, which is with ProcessHandle as of Java 9.
+     *
+     * @return true if {@link #getCpuTimeMillis(Process)} reads the CPU time
+     */
+    public static boolean isCpuTimeAvailable() {
+        try {
+            Process.class.getMethod("toHandle");
+            return true;
+        } catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the CPU time used by a process started by this JVM and by the processes it started, such as the JVM
+     * started by the ballerina command. The time is read with ProcessHandle where available, and only while the
+     * processes are running, as the time of a process is gone once it is reaped.
+     *
+     * @param process process started by this JVM
+     * @return CPU time in milliseconds, or -1 if it can't be read
+     */
+    @SuppressWarnings("unchecked")
+    public static long getCpuTimeMillis(Process process) {
+        try {
+            Class<?> handleClass = Class.forName("java.lang.ProcessHandle");
+            Method info = handleClass.getMethod("info");
+            Method totalCpuDuration = Class.forName("java.lang.ProcessHandle$Info").getMethod("totalCpuDuration");
+            Object handle = Process.class.getMethod("toHandle").invoke(process);
+            Stream<Object> handles = Stream.concat(Stream.of(handle),
+                    (Stream<Object>) handleClass.getMethod("descendants").invoke(handle));
+            long cpuTimeMillis = -1;
+            for (Object processHandle : (Iterable<Object>) handles::iterator) {
+                Optional<Duration> cpuDuration = (Optional<Duration>) totalCpuDuration.invoke(info.invoke(
+                        processHandle));
+                if (cpuDuration.isPresent()) {
+                    cpuTimeMillis = Math.max(cpuTimeMillis, 0) + cpuDuration.get().toMillis();
+                }
+            }
+            return cpuTimeMillis;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // ProcessHandle is not available before Java 9
+            return -1;
+        }
+    }
 }
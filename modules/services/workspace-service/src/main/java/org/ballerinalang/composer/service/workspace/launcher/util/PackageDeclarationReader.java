@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.launcher.util;
+
+import org.antlr.v4.runtime.ANTLRInputStream;
+import org.antlr.v4.runtime.Token;
+import org.wso2.ballerinalang.compiler.parser.antlr4.BallerinaLexer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Reads the package declaration of a Ballerina file without compiling it.
+ * <p>
+ * A package declaration can only be preceded by comments and whitespace, hence only the tokens up to the end of the
+ * declaration are lexed, and the rest of the file is never looked at. Unlike a regular expression, the lexer skips a
+ * package declaration which is commented out.
+ */
+public class PackageDeclarationReader {
+
+    private static final String PACKAGE_KEYWORD = "package";
+    private static final String NAME_SEPARATOR = ".";
+    private static final String STATEMENT_TERMINATOR = ";";
+
+    private PackageDeclarationReader() {
+    }
+
+    /**
+     * Returns the components of the name of the package a Ballerina file belongs to.
+     *
+     * @param file Ballerina file
+     * @return package name components, empty if the file doesn't declare a package
+     * @throws IOException if the file can't be read
+     */
+    public static List<String> getPackageNameComponents(Path file) throws IOException {
+        return getPackageNameComponents(new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the components of the name of the package declared in Ballerina source.
+     *
+     * @param source Ballerina source
+     * @return package name components, empty if the source doesn't declare a package, or the declaration is malformed
+     */
+    public static List<String> getPackageNameComponents(String source) {
+        BallerinaLexer lexer = new BallerinaLexer(new ANTLRInputStream(source));
+        lexer.removeErrorListeners();
+        Token token = nextToken(lexer);
+        if (token.getType() == Token.EOF || !PACKAGE_KEYWORD.equals(token.getText())) {
+            return Collections.emptyList();
+        }
+        List<String> nameComponents = new ArrayList<>();
+        boolean expectName = true;
+        for (token = nextToken(lexer); token.getType() != Token.EOF; token = nextToken(lexer)) {
+            String text = token.getText();
+            if (STATEMENT_TERMINATOR.equals(text)) {
+                return expectName ? Collections.emptyList() : nameComponents;
+            } else if (expectName && isIdentifier(text)) {
+                nameComponents.add(text);
+                expectName = false;
+            } else if (!expectName && NAME_SEPARATOR.equals(text)) {
+                expectName = true;
+            } else {
+                break;
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * Returns the next token of the source which is not a comment or whitespace.
+     */
+    private static Token nextToken(BallerinaLexer lexer) {
+        Token token = lexer.nextToken();
+        while (token.getType() != Token.EOF && token.getChannel() != Token.DEFAULT_CHANNEL) {
+            token = lexer.nextToken();
+        }
+        return token;
+    }
+
+    private static boolean isIdentifier(String text) {
+        if (text.isEmpty() || !Character.isJavaIdentifierStart(text.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < text.length(); i++) {
+            if (!Character.isJavaIdentifierPart(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
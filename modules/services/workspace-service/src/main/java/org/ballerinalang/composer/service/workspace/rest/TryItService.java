@@ -18,6 +18,7 @@ package org.ballerinalang.composer.service.workspace.rest;
 
 import com.google.gson.JsonObject;
 import org.ballerinalang.composer.service.workspace.launcher.LaunchManager;
+import org.ballerinalang.composer.service.workspace.rest.datamodel.BLangFileRestService;
 import org.ballerinalang.composer.service.workspace.tryit.TryItClient;
 import org.ballerinalang.composer.service.workspace.tryit.TryItClientFactory;
 import org.wso2.msf4j.Request;
@@ -29,6 +30,7 @@ import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
@@ -52,6 +54,7 @@ public class TryItService {
      * Invokes a service.
      * @param request The http request.
      * @param protocol The protocol of the service.
+     * @param programId The program running the service, or null for the service started last by the client.
      * @param clientArgs The arguments for the proxy client.
      * @return An http response.
      */
@@ -59,11 +62,10 @@ public class TryItService {
     @Path("/{protocol}")
     @Consumes(MediaType.TEXT_PLAIN)
     @Produces(MediaType.APPLICATION_JSON)
-    public Response tryIt(@Context Request request, @PathParam("protocol") String protocol, String clientArgs) {
+    public Response tryIt(@Context Request request, @PathParam("protocol") String protocol,
+                          @QueryParam("programId") String programId, String clientArgs) {
         try {
-            String hostName = getHostName(request);
-            String hostAndPort = "".equals(LaunchManager.getInstance().getPort()) ? hostName :
-                                                                hostName + ":" + LaunchManager.getInstance().getPort();
+            String hostAndPort = getHostAndPort(request, programId);
             TryItClient tryItClient = tryItClientFactory.getClient(protocol, hostAndPort, clientArgs);
             String responseContent = tryItClient.execute();
             
@@ -88,16 +90,15 @@ public class TryItService {
     /**
      * Gets the backend url used in try-it executions.
      * @param request The http request.
+     * @param programId The program running the service, or null for the service started last by the client.
      * @return The url in a json object.
      */
     @GET
     @Path("/url")
     @Produces(MediaType.APPLICATION_JSON)
-    public Response getUrl(@Context Request request) {
+    public Response getUrl(@Context Request request, @QueryParam("programId") String programId) {
         try {
-            String hostName = getHostName(request);
-            String hostAndPort = "".equals(LaunchManager.getInstance().getPort()) ? hostName :
-                                 hostName + ":" + LaunchManager.getInstance().getPort();
+            String hostAndPort = getHostAndPort(request, programId);
             JsonObject response = new JsonObject();
             response.addProperty("url", hostAndPort);
         
@@ -136,6 +137,19 @@ public class TryItService {
         
     }
     
+    /**
+     * Gets the host and port of a service run by the client sending the request. The services of a client are run by
+     * the launcher on the host of the composer.
+     * @param request The http request.
+     * @param programId The program running the service, or null for the service started last by the client.
+     * @return The host and port.
+     */
+    private String getHostAndPort(Request request, String programId) {
+        String hostName = getHostName(request);
+        String port = LaunchManager.getInstance().getPort(BLangFileRestService.getClientId(request), programId);
+        return "".equals(port) ? hostName : hostName + ":" + port;
+    }
+    
     /**
      * Gets the host name from the http request.
      * @param request The http request.
@@ -37,6 +37,12 @@ public class BFile {
 
     private boolean includeProgramDir = false;
 
+    /**
+     * Identifier of the editor the content comes from. It is given only by editors which use just the result of the
+     * latest content they sent, so validations of older content from the same editor can be superseded.
+     */
+    private String documentId;
+
     public String getContent() {
         return content;
     }
@@ -92,4 +98,12 @@ public class BFile {
     public void setIncludeProgramDir(boolean includeProgramDir) {
         this.includeProgramDir = includeProgramDir;
     }
+
+    public String getDocumentId() {
+        return documentId;
+    }
+
+    public void setDocumentId(String documentId) {
+        this.documentId = documentId;
+    }
 }
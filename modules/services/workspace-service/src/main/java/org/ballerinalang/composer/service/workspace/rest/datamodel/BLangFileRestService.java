@@ -20,15 +20,17 @@ package org.ballerinalang.composer.service.workspace.rest.datamodel;
 
 import com.google.common.base.CaseFormat;
 import com.google.gson.Gson;
-import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
-import com.google.gson.JsonNull;
-import com.google.gson.JsonObject;
-import org.apache.commons.lang3.ClassUtils;
+import com.google.gson.internal.bind.JsonTreeWriter;
+import com.google.gson.stream.JsonWriter;
 import org.apache.commons.lang3.StringEscapeUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.ballerinalang.compiler.CompilerPhase;
+import org.ballerinalang.composer.service.workspace.common.Utils;
 import org.ballerinalang.composer.service.workspace.langserver.model.ModelPackage;
+import org.ballerinalang.composer.service.workspace.launcher.util.PackageDeclarationReader;
+import org.ballerinalang.composer.service.workspace.util.CoalescingTaskQueue;
+import org.ballerinalang.composer.service.workspace.util.CompilerExecutor;
 import org.ballerinalang.composer.service.workspace.util.WorkspaceUtils;
 import org.ballerinalang.model.Whitespace;
 import org.ballerinalang.model.elements.Flag;
@@ -46,30 +48,31 @@ import org.wso2.ballerinalang.compiler.tree.BLangNode;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.tree.BLangStruct;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangInvocation;
+import org.wso2.msf4j.Request;
 
 import java.io.File;
 import java.io.IOException;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.io.OutputStreamWriter;
+import java.net.SocketAddress;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.OPTIONS;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
+import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 /**
  * Basic classes which exposes ballerina language object model over REST service.
@@ -81,16 +84,26 @@ public class BLangFileRestService {
     private static final String SYMBOL_TYPE = "symbolType";
     private static final String INVOCATION_TYPE = "invocationType";
     public static final String UNESCAPED_VALUE = "unescapedValue";
-    public static final String PACKAGE_REGEX = "package\\s+([a-zA_Z_][\\.\\w]*);";
+    private static final Gson GSON = new Gson();
+
+    private static final String REMOTE_ADDRESS_PROPERTY = "REMOTE_ADDRESS";
+
+    public static final String SYS_VALIDATION_DEBOUNCE_MILLIS = "composer.validation.debounceMillis";
+    public static final long DEFAULT_VALIDATION_DEBOUNCE_MILLIS = 0;
+
+    /**
+     * Validations of the same document are coalesced, so that only the latest content of a document gets compiled.
+     */
+    private static final CoalescingTaskQueue<StreamingOutput> VALIDATION_QUEUE = new CoalescingTaskQueue<>(
+            Long.getLong(SYS_VALIDATION_DEBOUNCE_MILLIS, DEFAULT_VALIDATION_DEBOUNCE_MILLIS));
 
     @POST
     @Path("/file/validate-and-parse")
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
-    public Response validateAndParseBFile(BFile bFileRequest) throws IOException, InvocationTargetException,
-            IllegalAccessException {
+    public Response validateAndParseBFile(@Context Request request, BFile bFileRequest) throws IOException {
         return Response.status(Response.Status.OK)
-                .entity(validateAndParse(bFileRequest))
+                .entity(validateAndParse(getClientId(request), bFileRequest))
                 .header("Access-Control-Allow-Origin", '*').type(MediaType.APPLICATION_JSON).build();
     }
 
@@ -110,8 +123,10 @@ public class BLangFileRestService {
     @Path("/model/parse-fragment")
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
-    public Response getBallerinaJsonDataModelGivenFragment(BLangSourceFragment sourceFragment) throws IOException {
-        String response = BLangFragmentParser.parseFragment(sourceFragment);
+    public Response getBallerinaJsonDataModelGivenFragment(@Context Request request,
+                                                           BLangSourceFragment sourceFragment) throws IOException {
+        String response = CompilerExecutor.getInstance().execute(getClientId(request),
+                () -> BLangFragmentParser.parseFragment(sourceFragment));
         return Response.ok(response, MediaType.APPLICATION_JSON).header("Access-Control-Allow-Origin", '*').build();
     }
 
@@ -127,78 +142,102 @@ public class BLangFileRestService {
                 .header("Access-Control-Allow-Headers", "Content-Type, Accept, X-Requested-With").build();
     }
 
-    public static JsonElement generateJSON(Node node, Map<String, Node> anonStructs)
-            throws InvocationTargetException, IllegalAccessException {
+    /**
+     * Returns the JSON model of the given node, written by {@link #writeJSON(Node, Map, JsonWriter)} straight into a
+     * JSON tree.
+     *
+     * @param node        node to serialize
+     * @param anonStructs anonymous structs of the compilation unit, keyed by name
+     * @return JSON model of the node
+     */
+    public static JsonElement generateJSON(Node node, Map<String, Node> anonStructs) {
+        JsonTreeWriter writer = new JsonTreeWriter();
+        writer.setLenient(true);
+        try {
+            writeJSON(node, anonStructs, writer);
+        } catch (IOException e) {
+            // This should never occur as the tree writer doesn't do any I/O.
+            throw new AssertionError("Error while serializing node to JSON.", e);
+        }
+        return writer.get();
+    }
+
+    /**
+     * Writes the JSON model of the given node straight to the given writer, without building a JSON tree.
+     * <p>
+     * A property name is written once per object. If several properties of a node map to the same name, such as a
+     * flag named after another property, the first one written is kept.
+     *
+     * @param node        node to serialize
+     * @param anonStructs anonymous structs of the compilation unit, keyed by name
+     * @param writer      writer to write the model to
+     * @throws IOException if writing to the underlying stream fails
+     */
+    public static void writeJSON(Node node, Map<String, Node> anonStructs, JsonWriter writer) throws IOException {
+        writeJSON(node, anonStructs, writer, false);
+    }
+
+    private static void writeJSON(Node node, Map<String, Node> anonStructs, JsonWriter writer, boolean isAnonStruct)
+            throws IOException {
         if (node == null) {
-            return JsonNull.INSTANCE;
+            writer.nullValue();
+            return;
+        }
+        writer.beginObject();
+        Set<String> names = new HashSet<>();
+        if (isAnonStruct) {
+            name(writer, names, "anonStruct").value(true);
         }
-        Set<Method> methods = ClassUtils.getAllInterfaces(node.getClass()).stream()
-                .flatMap(aClass -> Arrays.stream(aClass.getMethods()))
-                .collect(Collectors.toSet());
-        JsonObject nodeJson = new JsonObject();
 
-        JsonArray wsJsonArray = new JsonArray();
         Set<Whitespace> ws = node.getWS();
         if (ws != null && !ws.isEmpty()) {
+            name(writer, names, "ws").beginArray();
             for (Whitespace whitespace : ws) {
-                JsonObject wsJson = new JsonObject();
-                wsJson.addProperty("ws", whitespace.getWs());
-                wsJson.addProperty("i", whitespace.getIndex());
-                wsJson.addProperty("text", whitespace.getPrevious());
-                wsJson.addProperty("static", whitespace.isStatic());
-                wsJsonArray.add(wsJson);
+                writer.beginObject();
+                writer.name("ws").value(whitespace.getWs());
+                writer.name("i").value(whitespace.getIndex());
+                writer.name("text").value(whitespace.getPrevious());
+                writer.name("static").value(whitespace.isStatic());
+                writer.endObject();
             }
-            nodeJson.add("ws", wsJsonArray);
+            writer.endArray();
         }
         Diagnostic.DiagnosticPosition position = node.getPosition();
         if (position != null) {
-            JsonObject positionJson = new JsonObject();
-            positionJson.addProperty("startColumn", position.getStartColumn());
-            positionJson.addProperty("startLine", position.getStartLine());
-            positionJson.addProperty("endColumn", position.getEndColumn());
-            positionJson.addProperty("endLine", position.getEndLine());
-            nodeJson.add("position", positionJson);
+            name(writer, names, "position").beginObject();
+            writer.name("startColumn").value(position.getStartColumn());
+            writer.name("startLine").value(position.getStartLine());
+            writer.name("endColumn").value(position.getEndColumn());
+            writer.name("endLine").value(position.getEndLine());
+            writer.endObject();
         }
 
         /* Virtual props */
 
-        JsonArray type = getType(node);
-        if (type != null) {
-            nodeJson.add(SYMBOL_TYPE, type);
-        }
+        writeType(node, writer, names);
         if (node.getKind() == NodeKind.INVOCATION) {
             assert node instanceof BLangInvocation : node.getClass();
             BLangInvocation invocation = (BLangInvocation) node;
             if (invocation.symbol != null && invocation.symbol.kind != null) {
-                nodeJson.addProperty(INVOCATION_TYPE, invocation.symbol.kind.toString());
+                name(writer, names, INVOCATION_TYPE).value(invocation.symbol.kind.toString());
             }
         }
 
-        for (Method m : methods) {
-            String name = m.getName();
-
-            if (name.equals("getWS") || name.equals("getPosition")) {
-                continue;
-            }
-
-            String jsonName;
-            if (name.startsWith("get")) {
-                jsonName = toJsonName(name, 3);
-            } else if (name.startsWith("is")) {
-                jsonName = toJsonName(name, 2);
-            } else {
-                continue;
-            }
-
-            Object prop = m.invoke(node);
+        for (NodePropertyAccessors.NodeProperty property : NodePropertyAccessors.getProperties(node.getClass())) {
+            String jsonName = property.getJsonName();
+            Object prop = property.get(node);
 
             /* Literal class - This class is escaped in backend to address cases like "ss\"" and 8.0 and null */
             if (node.getKind() == NodeKind.LITERAL && "value".equals(jsonName)) {
                 if (prop instanceof String) {
-                    nodeJson.addProperty(jsonName, '"' + StringEscapeUtils.escapeJava((String) prop) + '"');
-                    nodeJson.addProperty(UNESCAPED_VALUE, String.valueOf(prop));
-                } else {
-                    nodeJson.addProperty(jsonName, String.valueOf(prop));
+                    if (names.add(jsonName)) {
+                        writer.name(jsonName).value('"' + StringEscapeUtils.escapeJava((String) prop) + '"');
+                    }
+                    if (names.add(UNESCAPED_VALUE)) {
+                        writer.name(UNESCAPED_VALUE).value(String.valueOf(prop));
+                    }
+                } else if (names.add(jsonName)) {
+                    writer.name(jsonName).value(String.valueOf(prop));
                 }
                 continue;
             }
@@ -208,9 +247,10 @@ public class BLangFileRestService {
                 Node structNode;
                 if (typeNode.getValue().startsWith("$anonStruct$") &&
                     (structNode = anonStructs.remove(typeNode.getValue())) != null) {
-                    JsonObject anonStruct = generateJSON(structNode, anonStructs).getAsJsonObject();
-                    anonStruct.addProperty("anonStruct", true);
-                    nodeJson.add("anonStruct", anonStruct);
+                    if (names.add("anonStruct")) {
+                        writer.name("anonStruct");
+                        writeJSON(structNode, anonStructs, writer, true);
+                    }
                     continue;
                 }
             }
@@ -220,14 +260,29 @@ public class BLangFileRestService {
                 continue;
             }
 
+            if (prop instanceof Set && jsonName.equals("flags")) {
+                Set flags = (Set) prop;
+                for (Flag flag : Flag.values()) {
+                    String flagName = StringUtils.lowerCase(flag.toString());
+                    if (names.add(flagName)) {
+                        writer.name(flagName).value(flags.contains(flag));
+                    }
+                }
+                continue;
+            }
+            if (prop == null || names.contains(jsonName)) {
+                continue;
+            }
+
 
             /* Node classes */
+            names.add(jsonName);
             if (prop instanceof Node) {
-                nodeJson.add(jsonName, generateJSON((Node) prop, anonStructs));
+                writer.name(jsonName);
+                writeJSON((Node) prop, anonStructs, writer, false);
             } else if (prop instanceof List) {
                 List listProp = (List) prop;
-                JsonArray listPropJson = new JsonArray();
-                nodeJson.add(jsonName, listPropJson);
+                writer.name(jsonName).beginArray();
                 for (Object listPropItem : listProp) {
                     if (listPropItem instanceof Node) {
                         /* Remove top level anon func and struct */
@@ -242,120 +297,154 @@ public class BLangFileRestService {
                                 continue;
                             }
                         }
-                        listPropJson.add(generateJSON((Node) listPropItem, anonStructs));
+                        writeJSON((Node) listPropItem, anonStructs, writer, false);
                     } else {
                         logger.debug("Can't serialize " + jsonName + ", has a an array of " + listPropItem);
                     }
                 }
+                writer.endArray();
 
 
             /* Runtime model classes */
-            } else if (prop instanceof Set && jsonName.equals("flags")) {
-                Set flags = (Set) prop;
-                for (Flag flag : Flag.values()) {
-                    nodeJson.addProperty(StringUtils.lowerCase(flag.toString()), flags.contains(flag));
-                }
             } else if (prop instanceof Set) {
                 // TODO : limit this else if to getInputs getOutputs of transform.
                 Set vars = (Set) prop;
-                JsonArray listVarJson = new JsonArray();
-                nodeJson.add(jsonName, listVarJson);
+                writer.name(jsonName).beginArray();
                 for (Object obj : vars) {
-                    listVarJson.add(obj.toString());
+                    writer.value(obj.toString());
                 }
+                writer.endArray();
             } else if (prop instanceof NodeKind) {
                 String kindName = CaseFormat.UPPER_UNDERSCORE.to(CaseFormat.UPPER_CAMEL, prop.toString());
-                nodeJson.addProperty(jsonName, kindName);
+                writer.name(jsonName).value(kindName);
             } else if (prop instanceof OperatorKind) {
-                nodeJson.addProperty(jsonName, prop.toString());
+                writer.name(jsonName).value(prop.toString());
 
 
             /* Generic classes */
             } else if (prop instanceof String) {
-                nodeJson.addProperty(jsonName, (String) prop);
+                writer.name(jsonName).value((String) prop);
             } else if (prop instanceof Number) {
-                nodeJson.addProperty(jsonName, (Number) prop);
+                writer.name(jsonName).value((Number) prop);
             } else if (prop instanceof Boolean) {
-                nodeJson.addProperty(jsonName, (Boolean) prop);
+                writer.name(jsonName).value(((Boolean) prop).booleanValue());
             } else if (prop instanceof Enum) {
-                nodeJson.addProperty(jsonName, StringUtils.lowerCase(((Enum) prop).name()));
-            } else if (prop != null) {
-                nodeJson.addProperty(jsonName, prop.toString());
+                writer.name(jsonName).value(StringUtils.lowerCase(((Enum) prop).name()));
+            } else {
+                writer.name(jsonName).value(prop.toString());
                 String message = "Node " + node.getClass().getSimpleName() +
                         " contains unknown type prop: " + jsonName + " of type " + prop.getClass();
                 logger.error(message);
             }
         }
-        return nodeJson;
+        writer.endObject();
+    }
+
+    /**
+     * Writes a property name, which must not have been written to the current object yet.
+     */
+    private static JsonWriter name(JsonWriter writer, Set<String> names, String name) throws IOException {
+        names.add(name);
+        return writer.name(name);
     }
 
-    private static JsonArray getType(Node node) {
+    private static void writeType(Node node, JsonWriter writer, Set<String> names) throws IOException {
         BType type = ((BLangNode) node).type;
         if (node instanceof BLangInvocation) {
-            JsonArray jsonElements = new JsonArray();
+            name(writer, names, SYMBOL_TYPE).beginArray();
             for (BType returnType : ((BLangInvocation) node).types) {
-                jsonElements.add(returnType.getKind().typeName());
+                writer.value(returnType.getKind().typeName());
             }
-            return jsonElements;
+            writer.endArray();
         } else if (type != null) {
-            JsonArray jsonElements = new JsonArray();
-            jsonElements.add(type.getKind().typeName());
-            return jsonElements;
+            name(writer, names, SYMBOL_TYPE).beginArray();
+            writer.value(type.getKind().typeName());
+            writer.endArray();
         }
-        return null;
-    }
-
-    private static String toJsonName(String name, int prefixLen) {
-        return Character.toLowerCase(name.charAt(prefixLen)) + name.substring(prefixLen + 1);
     }
 
     /**
      * Validates a given ballerina input.
+     * <p>
+     * The result is serialized straight into a buffer without building a JSON tree, before the response is
+     * committed, so that a failure while serializing is reported as an error rather than as a truncated response.
+     * If newer content of the same document arrives meanwhile, this validation is abandoned and the result of the
+     * newer content is returned instead, see {@link #getValidationKey(String, BFile)}.
      *
      * @param bFileRequest - Object which holds data about Ballerina content.
-     * @return List of errors if any
+     * @return Streaming output writing the model, list of errors if any and package info
      */
-    private JsonObject validateAndParse(BFile bFileRequest) throws InvocationTargetException, IllegalAccessException {
+    private StreamingOutput validateAndParse(String clientId, BFile bFileRequest) {
+        return VALIDATION_QUEUE.submit(getValidationKey(clientId, bFileRequest),
+                ticket -> CompilerExecutor.getInstance().execute(clientId,
+                        () -> validateAndParse(bFileRequest, ticket)));
+    }
+
+    /**
+     * Returns the key validations are coalesced by. Validations of a document whose editor only uses the latest
+     * result of the document are coalesced by the document, so that older content of it is superseded by newer
+     * content. Any other validation is coalesced only with validations of the same content, as its caller uses the
+     * result of the content it sent.
+     *
+     * @param clientId     identifier of the client
+     * @param bFileRequest validation request
+     * @return coalescing key
+     */
+    static String getValidationKey(String clientId, BFile bFileRequest) {
+        String fileKey = String.join(File.pathSeparator, clientId, bFileRequest.getFilePath(),
+                bFileRequest.getFileName());
+        String documentId = bFileRequest.getDocumentId();
+        if (documentId != null && !documentId.isEmpty()) {
+            return fileKey + File.pathSeparator + "document:" + documentId;
+        }
+        return fileKey + File.pathSeparator + "content:" + bFileRequest.getContent();
+    }
+
+    /**
+     * Returns the identifier of the client sending the given request, which is used to share the compiler fairly
+     * between clients. Clients are identified as by {@link CompilerExecutor#getClientId(SocketAddress, String)}.
+     *
+     * @param request http request
+     * @return client identifier
+     */
+    public static String getClientId(Request request) {
+        if (request == null) {
+            return CompilerExecutor.getClientId(null, null);
+        }
+        Object remoteAddress = request.getProperty(REMOTE_ADDRESS_PROPERTY);
+        return CompilerExecutor.getClientId(remoteAddress instanceof SocketAddress ? (SocketAddress) remoteAddress
+                : null, request.getHeader(CompilerExecutor.FORWARDED_FOR_HEADER));
+    }
+
+    private StreamingOutput validateAndParse(BFile bFileRequest, CoalescingTaskQueue.Ticket ticket) {
         final String filePath = bFileRequest.getFilePath();
         final String fileName = bFileRequest.getFileName();
         final String content = bFileRequest.getContent();
 
-        Pattern pkgPattern = Pattern.compile(PACKAGE_REGEX);
-        Matcher pkgMatcher = pkgPattern.matcher(content);
         String programDir = null;
         String unitToCompile = fileName;
-        if (pkgMatcher.find()) {
-            final String packageName = pkgMatcher.group(1);
-            if (bFileRequest.needProgramDir() && packageName != null) {
-                List<String> pathParts = Arrays.asList(filePath.split(Pattern.quote(File.separator)));
-                List<String> pkgParts = Arrays.asList(packageName.split(Pattern.quote(".")));
-                Collections.reverse(pkgParts);
-                boolean foundProgramDir = true;
-                for (int i = 1; i <= pkgParts.size(); i++) {
-                    if (!pathParts.get(pathParts.size() - i).equals(pkgParts.get(i - 1))) {
-                        foundProgramDir = false;
-                        break;
-                    }
-                }
-                if (foundProgramDir) {
-                    List<String> programDirParts = pathParts.subList(0, pathParts.size() - pkgParts.size());
-                    programDir = String.join(File.separator, programDirParts);
-                    unitToCompile = packageName;
-                }
+        List<String> pkgNameComps = PackageDeclarationReader.getPackageNameComponents(content);
+        if (bFileRequest.needProgramDir() && !pkgNameComps.isEmpty()) {
+            java.nio.file.Path pkgProgramDir = Utils.getProgramDirectory(pkgNameComps, Paths.get(filePath, fileName));
+            if (pkgProgramDir != null) {
+                programDir = pkgProgramDir.toString();
+                unitToCompile = String.join(".", pkgNameComps);
             }
         }
-        // compile package in disk to resolve constructs in complete package (including constructs from other files)
-        final BLangPackage packageFromDisk = Files.exists(Paths.get(filePath, fileName))
-                ? WorkspaceUtils.getBallerinaFile(programDir != null ? programDir : filePath, unitToCompile)
-                    .getBLangPackage()
-                : null;
-        // always use dirty content from editor to generate model
-        // TODO: Remove this once in-memory file resolver with dirty content for compiler is implemented
-        final BallerinaFile balFileFromDirtyContent = WorkspaceUtils.getBallerinaFileForContent(fileName, content,
-                CompilerPhase.CODE_ANALYZE);
-        // always get compilation unit and diagnostics from dirty content
-        final BLangPackage model = balFileFromDirtyContent.getBLangPackage();
-        final List<Diagnostic> diagnostics = balFileFromDirtyContent.getDiagnostics();
+        ticket.checkSuperseded();
+        // compile the package in disk with the dirty content of the current file, which resolves the constructs in
+        // the complete package (including constructs from other files) along with the model of the current file
+        final BallerinaFile ballerinaFile = Files.exists(Paths.get(filePath, fileName))
+                ? WorkspaceUtils.getBallerinaFileForDirtyContent(programDir != null ? programDir : filePath,
+                        unitToCompile, fileName, content)
+                : WorkspaceUtils.getBallerinaFileForContent(fileName, content, CompilerPhase.CODE_ANALYZE);
+        ticket.checkSuperseded();
+        final BLangPackage model = ballerinaFile.getBLangPackage();
+        // diagnostics of other files in the package are not shown in the editor of the current file
+        final List<Diagnostic> diagnostics = ballerinaFile.getDiagnostics().stream()
+                .filter(diagnostic -> diagnostic.getPosition() == null
+                        || diagnostic.getSource().getCompilationUnitName().equals(fileName))
+                .collect(Collectors.toList());
 
         ErrorCategory errorCategory = ErrorCategory.NONE;
         if (!diagnostics.isEmpty()) {
@@ -365,64 +454,60 @@ public class BLangFileRestService {
                 errorCategory = ErrorCategory.SEMANTIC;
             }
         }
-        JsonArray errors = new JsonArray();
-        final String errorCategoryName = errorCategory.name();
-        diagnostics.forEach(diagnostic -> {
 
-            JsonObject error = new JsonObject();
-            Diagnostic.DiagnosticPosition position = diagnostic.getPosition();
-            if (position != null) {
-                if (!diagnostic.getSource().getCompilationUnitName().equals(fileName)) {
-                    return;
-                }
+        // adding current package info whenever we have a parsed model
+        final Map<String, ModelPackage> modelPackage = new HashMap<>();
+        WorkspaceUtils.loadPackageMap("Current Package", model, modelPackage);
 
-                error.addProperty("row", position.getStartLine());
-                error.addProperty("column", position.getStartColumn());
-                error.addProperty("type", "error");
-                error.addProperty("category", errorCategoryName);
-            } else {
-                // position == null means it's a bug in core side.
-                error.addProperty("category", ErrorCategory.RUNTIME.name());
+        final String errorCategoryName = errorCategory.name();
+        final String programDirPath = programDir;
+        // the validation is done at this point, the result is written straight to the response once it is sent
+        return output -> {
+            JsonWriter writer = new JsonWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+            writer.setLenient(true);
+            writer.setSerializeNulls(false);
+            writer.beginObject();
+
+            writer.name("errors").beginArray();
+            for (Diagnostic diagnostic : diagnostics) {
+                Diagnostic.DiagnosticPosition position = diagnostic.getPosition();
+                writer.beginObject();
+                if (position != null) {
+                    writer.name("row").value(position.getStartLine());
+                    writer.name("column").value(position.getStartColumn());
+                    writer.name("type").value("error");
+                    writer.name("category").value(errorCategoryName);
+                } else {
+                    // position == null means it's a bug in core side.
+                    writer.name("category").value(ErrorCategory.RUNTIME.name());
+                }
+                writer.name("text").value(diagnostic.getMessage());
+                writer.endObject();
             }
+            writer.endArray();
 
-            error.addProperty("text", diagnostic.getMessage());
-            errors.add(error);
-        });
-        JsonObject result = new JsonObject();
-        result.add("errors", errors);
-
-        Gson gson = new Gson();
-        JsonElement diagnosticsJson = gson.toJsonTree(diagnostics);
-        result.add("diagnostics", diagnosticsJson);
-
-        if (model != null && bFileRequest.needTree()) {
-            BLangCompilationUnit compilationUnit = model.getCompilationUnits().stream().
-                    filter(compUnit -> fileName.equals(compUnit.getName())).findFirst().get();
-            JsonElement modelElement = generateJSON(compilationUnit, new HashMap<>());
-            result.add("model", modelElement);
-        }
+            writer.name("diagnostics");
+            GSON.toJson(diagnostics, diagnostics.getClass(), writer);
 
-        // adding current package info whenever we have a parsed model
-        final Map<String, ModelPackage> modelPackage = new HashMap<>();
-        // file is in a package, load constructs from package in disk
-        if (packageFromDisk != null) {
-            WorkspaceUtils.loadPackageMap("Current Package", packageFromDisk, modelPackage);
-            // remove constructs from current file and later add them from dirty content
-            WorkspaceUtils.removeConstructsOfFile("Current Package", fileName, modelPackage);
-        }
-        // add constructs in current file's dirty content to package map
-        WorkspaceUtils.loadPackageMap("Current Package", balFileFromDirtyContent.getBLangPackage(),
-                modelPackage);
-        // Add 'packageInfo' only if there are any packages.
-        Optional<ModelPackage> packageInfoJson = modelPackage.values().stream().findFirst();
-        if (packageInfoJson.isPresent() && bFileRequest.needPackageInfo()) {
-            JsonElement packageInfo = gson.toJsonTree(packageInfoJson.get());
-            result.add("packageInfo", packageInfo);
-        }
-        if (programDir != null) {
-            result.addProperty("programDirPath", programDir);
-        }
-        return result;
+            if (model != null && bFileRequest.needTree()) {
+                BLangCompilationUnit compilationUnit = model.getCompilationUnits().stream().
+                        filter(compUnit -> fileName.equals(compUnit.getName())).findFirst().get();
+                writer.name("model");
+                writeJSON(compilationUnit, new HashMap<>(), writer);
+            }
+
+            // Add 'packageInfo' only if there are any packages.
+            Optional<ModelPackage> packageInfoJson = modelPackage.values().stream().findFirst();
+            if (packageInfoJson.isPresent() && bFileRequest.needPackageInfo()) {
+                writer.name("packageInfo");
+                GSON.toJson(packageInfoJson.get(), ModelPackage.class, writer);
+            }
+            if (programDirPath != null) {
+                writer.name("programDirPath").value(programDirPath);
+            }
+            writer.endObject();
+            writer.flush();
+        };
     }
 
     /**
@@ -0,0 +1,146 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+
+package org.ballerinalang.composer.service.workspace.rest.datamodel;
+
+import org.ballerinalang.model.elements.PackageID;
+import org.ballerinalang.repository.PackageEntity;
+import org.ballerinalang.repository.PackageSource;
+import org.ballerinalang.repository.PackageSourceEntry;
+import org.ballerinalang.repository.fs.GeneralFSPackageRepository;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Package repository which serves the packages in the file-system, with the content of a single file replaced by
+ * the unsaved content of that file in the editor.
+ * <p>
+ * This allows compiling a package with the dirty content of one of its files, so a single compilation gives the
+ * model of the edited file along with the constructs and diagnostics of the complete package.
+ */
+public class DirtyContentPackageRepository extends GeneralFSPackageRepository {
+
+    private final String packageName;
+    private final String fileName;
+    private final byte[] code;
+
+    /**
+     * Constructor.
+     *
+     * @param programDir  Path of the program directory
+     * @param packageName name of the package the file belongs to, or the file name if it isn't in a package
+     * @param fileName    name of the edited file
+     * @param code        unsaved content of the edited file
+     */
+    public DirtyContentPackageRepository(Path programDir, String packageName, String fileName, byte[] code) {
+        super(programDir);
+        this.packageName = packageName;
+        this.fileName = fileName;
+        this.code = code.clone();
+    }
+
+    @Override
+    public PackageEntity loadPackage(PackageID pkgID) {
+        // file name of a file outside a package is received as the package name
+        if (fileName.equals(pkgID.name.value)) {
+            return new DirtyContentPackageSource(pkgID, Collections.singletonList(new DirtySourceEntry(pkgID)));
+        }
+        PackageEntity pkgEntity = super.loadPackage(pkgID);
+        if (packageName.equals(pkgID.name.value)) {
+            return overlay(pkgID, pkgEntity);
+        }
+        return pkgEntity;
+    }
+
+    @Override
+    public PackageEntity loadPackage(PackageID pkgID, String entryName) {
+        if (fileName.equals(entryName)) {
+            return new DirtyContentPackageSource(pkgID, Collections.singletonList(new DirtySourceEntry(pkgID)));
+        }
+        return super.loadPackage(pkgID, entryName);
+    }
+
+    /**
+     * Replaces the entry of the edited file in the given package with its dirty content. The dirty content is added
+     * as a new entry if the file is not saved in the package yet.
+     */
+    private PackageEntity overlay(PackageID pkgID, PackageEntity pkgEntity) {
+        List<PackageSourceEntry> entries = new ArrayList<>();
+        if (pkgEntity instanceof PackageSource) {
+            entries.addAll(((PackageSource) pkgEntity).getPackageSourceEntries().stream()
+                    .filter(entry -> !fileName.equals(entry.getEntryName()))
+                    .collect(Collectors.toList()));
+        }
+        entries.add(new DirtySourceEntry(pkgID));
+        return new DirtyContentPackageSource(pkgID, entries);
+    }
+
+    /**
+     * Package source backed by a given list of source entries.
+     */
+    public class DirtyContentPackageSource extends FSPackageSource {
+
+        private final List<PackageSourceEntry> entries;
+
+        public DirtyContentPackageSource(PackageID pkgID, List<PackageSourceEntry> entries) {
+            super(pkgID, null);
+            this.entries = entries;
+        }
+
+        @Override
+        public List<PackageSourceEntry> getPackageSourceEntries() {
+            return entries;
+        }
+
+        @Override
+        public List<String> getEntryNames() {
+            return entries.stream().map(PackageSourceEntry::getEntryName).collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Source entry holding the dirty content of the edited file.
+     */
+    public class DirtySourceEntry implements PackageSourceEntry {
+
+        private final PackageID pkgID;
+
+        public DirtySourceEntry(PackageID pkgID) {
+            this.pkgID = pkgID;
+        }
+
+        @Override
+        public PackageID getPackageID() {
+            return pkgID;
+        }
+
+        @Override
+        public String getEntryName() {
+            return fileName;
+        }
+
+        @Override
+        public byte[] getCode() {
+            return code.clone();
+        }
+    }
+}
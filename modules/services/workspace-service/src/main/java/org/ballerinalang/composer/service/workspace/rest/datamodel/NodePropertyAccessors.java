@@ -0,0 +1,134 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+
+package org.ballerinalang.composer.service.workspace.rest.datamodel;
+
+import org.apache.commons.lang3.ClassUtils;
+import org.ballerinalang.model.tree.Node;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+/**
+ * Per node class table of the properties exposed to the JSON model.
+ * <p>
+ * Resolving the getters of a node class requires walking all of its interfaces, which is far too expensive to do for
+ * every node of a large compilation unit. The table for a given class is built on first use and then reused for
+ * every other node of the same class.
+ */
+public class NodePropertyAccessors {
+
+    private static final ConcurrentMap<Class<?>, List<NodeProperty>> ACCESSORS = new ConcurrentHashMap<>();
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Node.class);
+
+    private NodePropertyAccessors() {
+    }
+
+    /**
+     * Returns the JSON properties of the given node class.
+     *
+     * @param nodeClass class of the node
+     * @return immutable list of properties
+     */
+    public static List<NodeProperty> getProperties(Class<? extends Node> nodeClass) {
+        return ACCESSORS.computeIfAbsent(nodeClass, NodePropertyAccessors::resolveProperties);
+    }
+
+    private static List<NodeProperty> resolveProperties(Class<?> nodeClass) {
+        Set<Method> methods = ClassUtils.getAllInterfaces(nodeClass).stream()
+                .flatMap(aClass -> Arrays.stream(aClass.getMethods()))
+                .collect(Collectors.toSet());
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        List<NodeProperty> properties = new ArrayList<>();
+        for (Method m : methods) {
+            String name = m.getName();
+            if (Modifier.isStatic(m.getModifiers()) || m.getParameterCount() != 0
+                    || name.equals("getWS") || name.equals("getPosition")) {
+                continue;
+            }
+
+            String jsonName;
+            if (name.startsWith("get")) {
+                jsonName = toJsonName(name, 3);
+            } else if (name.startsWith("is")) {
+                jsonName = toJsonName(name, 2);
+            } else {
+                continue;
+            }
+
+            try {
+                MethodHandle getter = lookup.unreflect(m).asType(GETTER_TYPE);
+                properties.add(new NodeProperty(jsonName, getter));
+            } catch (IllegalAccessException e) {
+                // Interfaces of the tree model are public, hence this should never occur.
+                throw new AssertionError("Cannot access " + m + " of " + nodeClass, e);
+            }
+        }
+        return Collections.unmodifiableList(properties);
+    }
+
+    private static String toJsonName(String name, int prefixLen) {
+        return Character.toLowerCase(name.charAt(prefixLen)) + name.substring(prefixLen + 1);
+    }
+
+    /**
+     * A single JSON property of a node, backed by a pre-resolved getter.
+     */
+    public static class NodeProperty {
+
+        private final String jsonName;
+        private final MethodHandle getter;
+
+        NodeProperty(String jsonName, MethodHandle getter) {
+            this.jsonName = jsonName;
+            this.getter = getter;
+        }
+
+        public String getJsonName() {
+            return jsonName;
+        }
+
+        /**
+         * Reads this property from the given node.
+         *
+         * @param node node to read from
+         * @return value of the property
+         */
+        public Object get(Node node) {
+            try {
+                return (Object) getter.invokeExact(node);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Error while reading " + jsonName + " of " + node.getClass(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+
+package org.ballerinalang.composer.service.workspace.rest.exception;
+
+import com.google.gson.JsonObject;
+import org.ballerinalang.composer.service.workspace.util.CompilerOverloadedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.ExceptionMapper;
+
+/**
+ * Exception mapper class for compilations rejected due to overload.
+ */
+public class CompilerOverloadedExceptionMapper implements ExceptionMapper<CompilerOverloadedException> {
+    private static final Logger logger = LoggerFactory.getLogger(CompilerOverloadedExceptionMapper.class);
+
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    @Override
+    public Response toResponse(CompilerOverloadedException exception) {
+        logger.warn("warn: " + exception.getMessage());
+        JsonObject entity = new JsonObject();
+        entity.addProperty("errorMessage", exception.getMessage());
+        int status = exception.getReason() == CompilerOverloadedException.Reason.CLIENT_LIMIT
+                ? TOO_MANY_REQUESTS : Response.Status.SERVICE_UNAVAILABLE.getStatusCode();
+        return Response.status(status)
+                .header("Access-Control-Allow-Origin", '*')
+                .header("Retry-After", exception.getRetryAfterSeconds())
+                .entity(entity)
+                .type(MediaType.APPLICATION_JSON_TYPE)
+                .build();
+    }
+}
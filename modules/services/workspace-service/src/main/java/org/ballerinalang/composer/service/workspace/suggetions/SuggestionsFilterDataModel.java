@@ -43,6 +43,7 @@ public class SuggestionsFilterDataModel {
     private BLangNode symbolEnvNode;
     private Set<Map.Entry<String, ModelPackage>> packages;
     private SymbolTable symbolTable;
+    private String prefix = "";
 
     /**
      * Constructor for SuggestionsFilterDataModel.
@@ -132,4 +133,20 @@ public class SuggestionsFilterDataModel {
     public void setSymbolTable(SymbolTable symbolTable) {
         this.symbolTable = symbolTable;
     }
+
+    /**
+     * Get the prefix of the identifier typed at the cursor.
+     * @return {@link String} prefix, empty if no identifier is typed at the cursor
+     */
+    public String getPrefix() {
+        return prefix;
+    }
+
+    /**
+     * Set the prefix of the identifier typed at the cursor.
+     * @param prefix - identifier prefix
+     */
+    public void setPrefix(String prefix) {
+        this.prefix = prefix == null ? "" : prefix;
+    }
 }
@@ -66,7 +66,8 @@ public class SwaggerConverterUtils {
             model = ballerinaFile.getBLangPackage();
         
         } else {
-            BallerinaFile ballerinaFile = WorkspaceUtils.getBallerinaFile(filePath, fileName);
+            BallerinaFile ballerinaFile = WorkspaceUtils.getDiskPackageCache().get(filePath, fileName)
+                    .getBallerinaFile();
             model = ballerinaFile.getBLangPackage();
         }
     
@@ -16,10 +16,14 @@
 package org.ballerinalang.composer.service.workspace.swagger.impl;
 
 import com.google.gson.JsonObject;
+import org.ballerinalang.composer.service.workspace.rest.datamodel.BLangFileRestService;
 import org.ballerinalang.composer.service.workspace.swagger.SwaggerConverterUtils;
 import org.ballerinalang.composer.service.workspace.swagger.model.SwaggerServiceContainer;
+import org.ballerinalang.composer.service.workspace.util.CompilerExecutor;
+import org.ballerinalang.composer.service.workspace.util.CompilerOverloadedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.wso2.msf4j.Request;
 
 import javax.ws.rs.Consumes;
 import javax.ws.rs.OPTIONS;
@@ -27,6 +31,7 @@ import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
@@ -51,16 +56,21 @@ public class SwaggerApiServiceImpl {
     @Path("/ballerina-to-swagger")
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
-    public Response convertToSwagger(SwaggerServiceContainer swaggerServiceContainer,
+    public Response convertToSwagger(@Context Request request, SwaggerServiceContainer swaggerServiceContainer,
                                      @QueryParam("serviceName") String serviceName) {
         try {
             // Get the ballerina source.
             String ballerinaSource = swaggerServiceContainer.getBallerinaDefinition();
             
             // Generate the swagger definitions using ballerina source.
-            String swaggerDefinition = SwaggerConverterUtils.generateSwaggerDefinitions(ballerinaSource, serviceName);
+            String swaggerDefinition = CompilerExecutor.getInstance().execute(
+                    BLangFileRestService.getClientId(request),
+                    () -> SwaggerConverterUtils.generateSwaggerDefinitions(ballerinaSource, serviceName));
             swaggerServiceContainer.setSwaggerDefinition(swaggerDefinition);
             return Response.ok().entity(swaggerServiceContainer).header("Access-Control-Allow-Origin", '*').build();
+        } catch (CompilerOverloadedException ex) {
+            // mapped to a response asking the client to retry later
+            throw ex;
         } catch (Exception ex) {
             logger.error("error: while processing service definition at converter service: " + ex.getMessage(), ex);
             JsonObject entity = new JsonObject();
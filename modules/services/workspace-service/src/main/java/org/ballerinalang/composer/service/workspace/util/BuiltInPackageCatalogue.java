@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.util;
+
+import com.google.gson.Gson;
+import org.ballerinalang.composer.service.workspace.langserver.model.AnnotationDef;
+import org.ballerinalang.composer.service.workspace.langserver.model.Connector;
+import org.ballerinalang.composer.service.workspace.langserver.model.Enum;
+import org.ballerinalang.composer.service.workspace.langserver.model.Function;
+import org.ballerinalang.composer.service.workspace.langserver.model.ModelPackage;
+import org.ballerinalang.composer.service.workspace.langserver.model.Struct;
+import org.ballerinalang.model.elements.PackageID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Catalogue of the native packages shipped with the runtime.
+ * <p>
+ * The catalogue is built from an index of the package names, which is cheap to create as no package has to be
+ * loaded for it. The index also holds the names of the constructs of each package, which are read once in the
+ * background warm up, so that a client can tell which package to import for a construct without loading the
+ * packages. A single package is loaded only when it is asked for, e.g. when it is imported or expanded in the tool
+ * palette, into a compiler context of its own which is dropped once its constructs are read, and is kept in a bounded
+ * cache of loaded packages.
+ * <p>
+ * The complete set of packages is loaded only when it is asked for as a whole. Native packages never change while the
+ * workspace service is running, hence the complete set is loaded only once and is also kept serialized to JSON, so it
+ * can be sent to clients without serializing every package again on each request.
+ */
+public class BuiltInPackageCatalogue {
+
+    private static final Logger logger = LoggerFactory.getLogger(BuiltInPackageCatalogue.class);
+
+    public static final String SYS_MAX_LOADED_PACKAGES = "composer.package.catalogue.maxLoadedPackages";
+    public static final int DEFAULT_MAX_LOADED_PACKAGES = 16;
+
+    private static volatile BuiltInPackageCatalogue instance;
+
+    private final String builtInPackageName;
+    private final Map<String, PackageID> nativePackages;
+    private final List<String> packageNames;
+    private final Map<String, ModelPackage> loadedPackages;
+
+    private volatile Map<String, List<String>> symbolNames;
+    private volatile Map<String, ModelPackage> packages;
+    private volatile String packagesJson;
+
+    private BuiltInPackageCatalogue(int maxLoadedPackages) {
+        this.builtInPackageName = BuiltInPackageEnvironment.getInstance().getBuiltInPackageName();
+        this.nativePackages = WorkspaceUtils.listNativePackages();
+        List<String> names = new ArrayList<>(nativePackages.keySet());
+        names.add(builtInPackageName);
+        Collections.sort(names);
+        this.packageNames = Collections.unmodifiableList(names);
+        this.loadedPackages = new LinkedHashMap<String, ModelPackage>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ModelPackage> eldest) {
+                return size() > maxLoadedPackages;
+            }
+        };
+    }
+
+    /**
+     * Returns the catalogue of native packages, indexing the package names on first use.
+     *
+     * @return native package catalogue
+     */
+    public static BuiltInPackageCatalogue getInstance() {
+        if (instance == null) {
+            synchronized (BuiltInPackageCatalogue.class) {
+                if (instance == null) {
+                    instance = new BuiltInPackageCatalogue(
+                            Integer.getInteger(SYS_MAX_LOADED_PACKAGES, DEFAULT_MAX_LOADED_PACKAGES));
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the names of the native packages.
+     *
+     * @return immutable sorted list of package names
+     */
+    public List<String> getPackageNames() {
+        return packageNames;
+    }
+
+    /**
+     * Checks whether the given package is a native package, without loading it.
+     *
+     * @param packageName name of the package
+     * @return true if the package is the builtin package, a package within it or a native package
+     */
+    public boolean isNativePackage(String packageName) {
+        return builtInPackageName.equals(packageName) || packageName.startsWith(builtInPackageName + ".")
+                || nativePackages.containsKey(packageName);
+    }
+
+    /**
+     * Returns the names of the constructs of each native package, reading them from the packages on first use. Only
+     * the names are kept, the packages they are read from are released afterwards.
+     *
+     * @return immutable map of package name to the sorted names of its constructs
+     */
+    public Map<String, List<String>> getSymbolNames() {
+        if (symbolNames == null) {
+            synchronized (this) {
+                if (symbolNames == null) {
+                    long start = System.currentTimeMillis();
+                    Map<String, ModelPackage> allPackages = packages != null
+                            ? packages
+                            : WorkspaceUtils.loadAllPackages();
+                    Map<String, List<String>> names = new TreeMap<>();
+                    packageNames.forEach(packageName -> names.put(packageName,
+                            getSymbolNames(allPackages.get(packageName))));
+                    symbolNames = Collections.unmodifiableMap(names);
+                    logger.debug("Indexed native package constructs in " + (System.currentTimeMillis() - start)
+                            + "ms");
+                }
+            }
+        }
+        return symbolNames;
+    }
+
+    private static List<String> getSymbolNames(ModelPackage modelPackage) {
+        if (modelPackage == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(Stream.of(
+                modelPackage.getFunctions().stream().map(Function::getName),
+                modelPackage.getConnectors().stream().map(Connector::getName),
+                modelPackage.getStructs().stream().map(Struct::getName),
+                modelPackage.getEnums().stream().map(Enum::getName),
+                modelPackage.getAnnotations().stream().map(AnnotationDef::getName))
+                .flatMap(names -> names)
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns a single native package, loading only that package if it is not loaded yet.
+     *
+     * @param packageName name of the package
+     * @return package, or null if there is no such package or it has no constructs
+     */
+    public ModelPackage getPackage(String packageName) {
+        Map<String, ModelPackage> allPackages = packages;
+        if (allPackages != null) {
+            return allPackages.get(packageName);
+        }
+        if (!builtInPackageName.equals(packageName) && !nativePackages.containsKey(packageName)) {
+            return null;
+        }
+        synchronized (loadedPackages) {
+            ModelPackage modelPackage = loadedPackages.get(packageName);
+            if (modelPackage != null) {
+                return modelPackage;
+            }
+        }
+        ModelPackage modelPackage = builtInPackageName.equals(packageName)
+                ? WorkspaceUtils.loadBuiltInModelPackage()
+                : WorkspaceUtils.loadModelPackage(nativePackages.get(packageName));
+        if (modelPackage != null) {
+            synchronized (loadedPackages) {
+                loadedPackages.put(packageName, modelPackage);
+            }
+        }
+        return modelPackage;
+    }
+
+    /**
+     * Returns all native packages, loading them on first use.
+     *
+     * @return immutable map of package name to package
+     */
+    public Map<String, ModelPackage> getPackages() {
+        if (packages == null) {
+            synchronized (this) {
+                if (packages == null) {
+                    long start = System.currentTimeMillis();
+                    Map<String, ModelPackage> allPackages = WorkspaceUtils.loadAllPackages();
+                    packagesJson = new Gson().toJson(allPackages.values());
+                    packages = Collections.unmodifiableMap(allPackages);
+                    // every package is served from the complete set from now on
+                    synchronized (loadedPackages) {
+                        loadedPackages.clear();
+                    }
+                    logger.debug("Loaded native packages in " + (System.currentTimeMillis() - start) + "ms");
+                }
+            }
+        }
+        return packages;
+    }
+
+    /**
+     * Returns all native packages serialized as a JSON array, loading them on first use.
+     *
+     * @return JSON array of packages
+     */
+    public String getPackagesJson() {
+        getPackages();
+        return packagesJson;
+    }
+}
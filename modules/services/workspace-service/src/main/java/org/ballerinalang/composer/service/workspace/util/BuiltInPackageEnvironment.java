@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.util;
+
+import org.ballerinalang.compiler.CompilerPhase;
+import org.ballerinalang.composer.service.workspace.langserver.dto.SymbolInformation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BTypeSymbol;
+import org.wso2.ballerinalang.compiler.tree.BLangIdentifier;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Builtin packages, loaded only once to list the native packages and to serve the builtin package and types.
+ * <p>
+ * Loading ballerina.builtin and ballerina.builtin.core requires parsing and analyzing both packages, hence the
+ * compiler context holding them, the builtin package model and the builtin types are created once and reused by
+ * every request needing them. The compiler context is not thread safe, so any further use of it has to be done while
+ * holding the lock of this environment.
+ * <p>
+ * Compilations of Ballerina sources don't use this environment. {@code Compiler.compile} loads the builtin packages
+ * into the context it compiles in, and the analyzers define symbols in the symbol table of that context, hence a
+ * symbol table can't be shared between compilations.
+ */
+public class BuiltInPackageEnvironment {
+
+    private static final Logger logger = LoggerFactory.getLogger(BuiltInPackageEnvironment.class);
+
+    private static volatile BuiltInPackageEnvironment instance;
+
+    private final CompilerContext context;
+    private final BLangPackage builtInPackage;
+    private final String builtInPackageName;
+    private final List<SymbolInformation> builtinTypes;
+
+    private BuiltInPackageEnvironment() {
+        this.context = WorkspaceUtils.prepareCompilerContext("", "");
+        this.builtInPackage = WorkspaceUtils.loadBuiltInPackage(context);
+        this.builtInPackageName = builtInPackage.getPackageDeclaration().getPackageName().stream()
+                .map(BLangIdentifier::getValue).collect(Collectors.joining("."));
+        // builtin types are resolved from a fresh symbol table, before any package is defined in it
+        this.builtinTypes = Collections.unmodifiableList(resolveBuiltinTypes(
+                SymbolTable.getInstance(WorkspaceUtils.prepareCompilerContext("", ""))));
+    }
+
+    /**
+     * Returns the builtin package environment, loading the builtin packages on first use.
+     *
+     * @return builtin package environment
+     */
+    public static BuiltInPackageEnvironment getInstance() {
+        if (instance == null) {
+            synchronized (BuiltInPackageEnvironment.class) {
+                if (instance == null) {
+                    long start = System.currentTimeMillis();
+                    instance = new BuiltInPackageEnvironment();
+                    logger.debug("Loaded builtin packages in " + (System.currentTimeMillis() - start) + "ms");
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Loads the builtin package environment and the index of native packages, including the names of their
+     * constructs, and warms up the compiler in a background thread, so that the first request doesn't have to pay for
+     * it.
+     */
+    public static void warmUp() {
+        Thread warmUpThread = new Thread(() -> {
+            try {
+                getInstance();
+                BuiltInPackageCatalogue.getInstance().getSymbolNames();
+                WorkspaceUtils.getBallerinaFileForContent("untitled.bal", "", CompilerPhase.CODE_ANALYZE);
+            } catch (Exception e) {
+                logger.warn("Error while warming up the compiler", e);
+            }
+        }, "composer-compiler-warmup");
+        warmUpThread.setDaemon(true);
+        warmUpThread.start();
+    }
+
+    /**
+     * Returns the compiler context holding the builtin packages. Callers must hold the lock of this environment
+     * while using it.
+     *
+     * @return compiler context
+     */
+    public CompilerContext getContext() {
+        return context;
+    }
+
+    public BLangPackage getBuiltInPackage() {
+        return builtInPackage;
+    }
+
+    public String getBuiltInPackageName() {
+        return builtInPackageName;
+    }
+
+    /**
+     * Returns the builtin types.
+     *
+     * @return immutable list of builtin types
+     */
+    public List<SymbolInformation> getBuiltinTypes() {
+        return builtinTypes;
+    }
+
+    private static List<SymbolInformation> resolveBuiltinTypes(SymbolTable symbolTable) {
+        List<SymbolInformation> symbolInformationList = new ArrayList<>();
+        // TODO: Need to fill the default values
+        symbolTable.rootScope.entries.forEach((key, value) -> {
+            if (value.symbol instanceof BTypeSymbol) {
+                SymbolInformation symbolInfo = new SymbolInformation();
+                String symbolName = value.symbol.getName().getValue();
+                if (!symbolName.equals(BuiltInType.INVALID_TYPE)) {
+                    symbolInfo.setName(symbolName);
+                    WorkspaceUtils.setDefaultValuesForType(symbolName, symbolInfo);
+                    symbolInformationList.add(symbolInfo);
+                }
+            }
+        });
+        return symbolInformationList;
+    }
+}
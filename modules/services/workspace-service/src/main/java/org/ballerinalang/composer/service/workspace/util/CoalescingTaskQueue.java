@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Per key queue of tasks where only the latest submitted task of a key is worth running.
+ * <p>
+ * Tasks of the same key run one at a time. A task which is still waiting when a newer task of the same key arrives
+ * is never run, and a running task gets superseded so that it can stop at its next checkpoint. Either way, the
+ * caller of a superseded task receives the result of the newer task, hence tasks of the same key must either compute
+ * the same result, or be submitted by callers which only use the latest result of the key. A task can further be
+ * debounced, so that a burst of submissions for the same key results in a single run.
+ *
+ * @param <T> result type of the tasks
+ */
+public class CoalescingTaskQueue<T> {
+
+    private static final Logger logger = LoggerFactory.getLogger(CoalescingTaskQueue.class);
+
+    private final ConcurrentMap<String, KeyState<T>> states = new ConcurrentHashMap<>();
+    private final long debounceMillis;
+
+    public CoalescingTaskQueue(long debounceMillis) {
+        this.debounceMillis = debounceMillis;
+    }
+
+    /**
+     * Runs the given task unless a newer task of the same key arrives before it gets to run.
+     *
+     * @param key  key of the task, e.g. the document the task is about
+     * @param task task to run, which should call {@link Ticket#checkSuperseded()} between its stages
+     * @return result of the given task, or of the newest task of the same key if the given task got superseded
+     */
+    public T submit(String key, Function<Ticket, T> task) {
+        Request<T> request = register(key, task);
+        KeyState<T> state = request.state;
+        try {
+            if (debounceMillis > 0) {
+                try {
+                    request.result.get(debounceMillis, TimeUnit.MILLISECONDS);
+                } catch (TimeoutException e) {
+                    // no newer task arrived while debouncing
+                }
+            }
+            if (!request.result.isDone()) {
+                state.lock.lockInterruptibly();
+                try {
+                    boolean latest;
+                    synchronized (state) {
+                        latest = state.pending == request;
+                        if (latest) {
+                            state.pending = null;
+                        }
+                    }
+                    if (latest) {
+                        request.run();
+                    }
+                } finally {
+                    state.lock.unlock();
+                }
+            }
+            return request.result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for " + key);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            release(key, state);
+        }
+    }
+
+    /**
+     * Returns the number of keys having tasks in the queue.
+     *
+     * @return number of keys
+     */
+    public int size() {
+        return states.size();
+    }
+
+    private Request<T> register(String key, Function<Ticket, T> task) {
+        while (true) {
+            KeyState<T> state = states.computeIfAbsent(key, k -> new KeyState<>());
+            synchronized (state) {
+                if (state.removed) {
+                    // state got removed by the last user of it in between, retry with a new state
+                    continue;
+                }
+                state.users++;
+                Request<T> request = new Request<>(state, task);
+                if (state.latest != null) {
+                    state.latest.supersede(request);
+                    logger.debug("Superseded a queued task");
+                }
+                state.latest = request;
+                state.pending = request;
+                registered(key);
+                return request;
+            }
+        }
+    }
+
+    /**
+     * Called once a task is registered under the given key, before it waits for its turn. Tests override this to find
+     * out when a task is queued.
+     *
+     * @param key key of the task
+     */
+    void registered(String key) {
+    }
+
+    private void release(String key, KeyState<T> state) {
+        synchronized (state) {
+            if (--state.users == 0) {
+                state.removed = true;
+                states.remove(key, state);
+            }
+        }
+    }
+
+    /**
+     * Handle given to a running task to find out whether a newer task of the same key has arrived.
+     */
+    public interface Ticket {
+
+        /**
+         * Returns whether a newer task of the same key has arrived.
+         *
+         * @return true if the task got superseded
+         */
+        boolean isSuperseded();
+
+        /**
+         * Stops the running task if a newer task of the same key has arrived.
+         *
+         * @throws CancellationException if the task got superseded
+         */
+        default void checkSuperseded() {
+            if (isSuperseded()) {
+                throw new CancellationException("Superseded by a newer task");
+            }
+        }
+    }
+
+    /**
+     * Tasks of a single key.
+     */
+    private static class KeyState<T> {
+
+        private final ReentrantLock lock = new ReentrantLock(true);
+        private Request<T> latest;
+        private Request<T> pending;
+        private int users;
+        private boolean removed;
+    }
+
+    /**
+     * A submitted task along with its result.
+     */
+    private static class Request<T> implements Ticket {
+
+        private final KeyState<T> state;
+        private final Function<Ticket, T> task;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private volatile boolean superseded;
+
+        Request(KeyState<T> state, Function<Ticket, T> task) {
+            this.state = state;
+            this.task = task;
+        }
+
+        /**
+         * Marks this request as superseded by the given request, whose result becomes the result of this request.
+         */
+        void supersede(Request<T> newer) {
+            superseded = true;
+            newer.result.whenComplete((value, error) -> {
+                if (error != null) {
+                    result.completeExceptionally(error);
+                } else {
+                    result.complete(value);
+                }
+            });
+        }
+
+        void run() {
+            try {
+                T value = task.apply(this);
+                if (!superseded) {
+                    result.complete(value);
+                }
+            } catch (RuntimeException | Error e) {
+                // a superseded request gets the result of the newer request instead
+                if (!superseded) {
+                    result.completeExceptionally(e);
+                }
+            }
+        }
+
+        @Override
+        public boolean isSuperseded() {
+            return superseded;
+        }
+    }
+}
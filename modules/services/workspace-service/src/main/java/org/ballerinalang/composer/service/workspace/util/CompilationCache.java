@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.util;
+
+import org.ballerinalang.compiler.CompilerPhase;
+import org.ballerinalang.composer.service.workspace.rest.datamodel.BallerinaFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded LRU cache of compiled Ballerina content.
+ * <p>
+ * Entries are keyed by file name, a SHA-256 hash of the content and the compiler phase, so re-validating content
+ * which was already compiled (undo/redo, focus changes etc.) returns the previous {@link BallerinaFile}. The cache is
+ * bounded both by the number of entries and by the total size of the cached sources, which is used as an
+ * approximation of the memory held by the cached models.
+ */
+public class CompilationCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompilationCache.class);
+
+    public static final String SYS_MAX_ENTRIES = "composer.compilation.cache.maxEntries";
+    public static final String SYS_MAX_SOURCE_BYTES = "composer.compilation.cache.maxSourceBytes";
+
+    public static final int DEFAULT_MAX_ENTRIES = 64;
+    public static final long DEFAULT_MAX_SOURCE_BYTES = 16 * 1024 * 1024;
+
+    private final int maxEntries;
+    private final long maxSourceBytes;
+    private final LinkedHashMap<Key, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long sourceBytes;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public CompilationCache() {
+        this(Integer.getInteger(SYS_MAX_ENTRIES, DEFAULT_MAX_ENTRIES),
+                Long.getLong(SYS_MAX_SOURCE_BYTES, DEFAULT_MAX_SOURCE_BYTES));
+    }
+
+    public CompilationCache(int maxEntries, long maxSourceBytes) {
+        this.maxEntries = maxEntries;
+        this.maxSourceBytes = maxSourceBytes;
+    }
+
+    /**
+     * Returns the cached compilation of the given content, compiling it with the given compiler on a miss.
+     *
+     * @param fileName      name of the file
+     * @param source        Ballerina source content
+     * @param compilerPhase phase the content is compiled up to
+     * @param compiler      compiles the content on a cache miss
+     * @return BallerinaFile - Object which contains Ballerina model and Diagnostic information
+     */
+    public BallerinaFile get(String fileName, String source, CompilerPhase compilerPhase,
+                             Supplier<BallerinaFile> compiler) {
+        byte[] sourceBytes = source.getBytes(StandardCharsets.UTF_8);
+        Key key = new Key(fileName, hash(sourceBytes), compilerPhase);
+        synchronized (this) {
+            CacheEntry entry = entries.get(key);
+            if (entry != null) {
+                hits.incrementAndGet();
+                logStats();
+                return entry.ballerinaFile;
+            }
+        }
+        misses.incrementAndGet();
+        BallerinaFile ballerinaFile = compiler.get();
+        if (sourceBytes.length <= maxSourceBytes && maxEntries > 0) {
+            put(key, new CacheEntry(ballerinaFile, sourceBytes.length));
+        }
+        logStats();
+        return ballerinaFile;
+    }
+
+    private synchronized void put(Key key, CacheEntry entry) {
+        CacheEntry previous = entries.put(key, entry);
+        if (previous != null) {
+            sourceBytes -= previous.size;
+        }
+        sourceBytes += entry.size;
+        Iterator<Map.Entry<Key, CacheEntry>> iterator = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || sourceBytes > maxSourceBytes) && iterator.hasNext()) {
+            sourceBytes -= iterator.next().getValue().size;
+            iterator.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    /**
+     * Removes all cached compilations.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        sourceBytes = 0;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getSourceBytes() {
+        return sourceBytes;
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    private void logStats() {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Compilation cache - hits: " + hits.get() + ", misses: " + misses.get() + ", evictions: "
+                    + evictions.get() + ", entries: " + size() + ", source bytes: " + getSourceBytes());
+        }
+    }
+
+    static String hash(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is guaranteed to be available in every JVM.
+            throw new AssertionError("SHA-256 is not supported", e);
+        }
+    }
+
+    /**
+     * Cache key of a compilation.
+     */
+    private static class Key {
+
+        private final String fileName;
+        private final String contentHash;
+        private final CompilerPhase compilerPhase;
+
+        Key(String fileName, String contentHash, CompilerPhase compilerPhase) {
+            this.fileName = fileName;
+            this.contentHash = contentHash;
+            this.compilerPhase = compilerPhase;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return Objects.equals(fileName, key.fileName) && contentHash.equals(key.contentHash)
+                    && compilerPhase == key.compilerPhase;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(fileName, contentHash, compilerPhase);
+        }
+    }
+
+    /**
+     * Cached compilation along with the size of its source.
+     */
+    private static class CacheEntry {
+
+        private final BallerinaFile ballerinaFile;
+        private final long size;
+
+        CacheEntry(BallerinaFile ballerinaFile, long size) {
+            this.ballerinaFile = ballerinaFile;
+            this.size = size;
+        }
+    }
+}
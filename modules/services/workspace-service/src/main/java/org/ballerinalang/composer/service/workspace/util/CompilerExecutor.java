@@ -0,0 +1,341 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Dedicated executor for compilations requested by the REST services and the language server sessions.
+ * <p>
+ * Compilations run on a fixed number of threads with a bounded queue, so a burst of requests cannot run an unbounded
+ * number of compilations at once. A single client can have only a limited number of compilations running or waiting
+ * at a time, so that one client cannot fill the queue for every other client. Requests beyond these limits are
+ * rejected with a {@link CompilerOverloadedException} instead of being queued.
+ */
+public class CompilerExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompilerExecutor.class);
+
+    public static final String SYS_THREADS = "composer.compiler.threads";
+    public static final String SYS_QUEUE_SIZE = "composer.compiler.queueSize";
+    public static final String SYS_MAX_PER_CLIENT = "composer.compiler.maxPerClient";
+    public static final String SYS_RETRY_AFTER_SECONDS = "composer.compiler.retryAfterSeconds";
+
+    /**
+     * Whether the workspace is behind a proxy which adds the address of the client to the X-Forwarded-For header.
+     */
+    public static final String SYS_TRUST_FORWARDED_FOR = "composer.trustForwardedFor";
+
+    public static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+    private static final String LOCAL_CLIENT_ID = "local";
+
+    public static final int DEFAULT_QUEUE_SIZE = 64;
+    public static final int DEFAULT_MAX_PER_CLIENT = 8;
+    public static final int DEFAULT_RETRY_AFTER_SECONDS = 2;
+
+    private static volatile CompilerExecutor instance;
+
+    private final ThreadPoolExecutor executor;
+    private final int maxPerClient;
+    private final int retryAfterSeconds;
+    private final ConcurrentMap<String, Integer> clientTasks = new ConcurrentHashMap<>();
+
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    public CompilerExecutor(int threads, int queueSize, int maxPerClient, int retryAfterSeconds) {
+        this.maxPerClient = maxPerClient;
+        this.retryAfterSeconds = retryAfterSeconds;
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "composer-compiler-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Returns the compiler executor of the workspace service, configured through system properties.
+     *
+     * @return compiler executor
+     */
+    public static CompilerExecutor getInstance() {
+        if (instance == null) {
+            synchronized (CompilerExecutor.class) {
+                if (instance == null) {
+                    instance = new CompilerExecutor(
+                            Integer.getInteger(SYS_THREADS, Runtime.getRuntime().availableProcessors()),
+                            Integer.getInteger(SYS_QUEUE_SIZE, DEFAULT_QUEUE_SIZE),
+                            Integer.getInteger(SYS_MAX_PER_CLIENT, DEFAULT_MAX_PER_CLIENT),
+                            Integer.getInteger(SYS_RETRY_AFTER_SECONDS, DEFAULT_RETRY_AFTER_SECONDS));
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the identifier of a client, which the limits of the executor are applied by. The REST services and the
+     * language server sessions identify their clients the same way, so that a client gets the same share of the
+     * compiler through either of them. Clients are told apart by the address they connect from. A workspace behind a
+     * proxy has to set {@link #SYS_TRUST_FORWARDED_FOR}, in which case clients are told apart by the address the proxy
+     * adds to the X-Forwarded-For header. The header is ignored otherwise, as any client can send it.
+     *
+     * @param remoteAddress address the client connects from, if known
+     * @param forwardedFor  X-Forwarded-For header of the request of the client, if any
+     * @return client identifier
+     */
+    public static String getClientId(SocketAddress remoteAddress, String forwardedFor) {
+        if (Boolean.getBoolean(SYS_TRUST_FORWARDED_FOR) && forwardedFor != null && !forwardedFor.trim().isEmpty()) {
+            // the proxy appends the address of the client, any address before it is sent by the client itself
+            String[] addresses = forwardedFor.split(",");
+            return addresses[addresses.length - 1].trim();
+        }
+        if (remoteAddress instanceof InetSocketAddress) {
+            InetSocketAddress socketAddress = (InetSocketAddress) remoteAddress;
+            return socketAddress.getAddress() != null
+                    ? socketAddress.getAddress().getHostAddress()
+                    : socketAddress.getHostString();
+        }
+        return LOCAL_CLIENT_ID;
+    }
+
+    /**
+     * Runs the given task on a compiler thread and waits for its result.
+     *
+     * @param clientId identifier of the client requesting the task
+     * @param task     task to run
+     * @param <T>      result type of the task
+     * @param <E>      exception type of the task
+     * @return result of the task
+     * @throws E                           if the task fails
+     * @throws CompilerOverloadedException if the client or the executor has too many pending tasks
+     */
+    @SuppressWarnings("unchecked")
+    public <T, E extends Exception> T execute(String clientId, CompilerTask<T, E> task) throws E {
+        admit(clientId);
+        CompletableFuture<T> result = new CompletableFuture<>();
+        if (!schedule(clientId, result, task)) {
+            throw rejectQueueFull();
+        }
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            // the task releases the slot of the client once it is done, so an abandoned task still counts against
+            // the client while it occupies a compiler thread
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for compilation");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw (E) cause;
+        }
+    }
+
+    /**
+     * Runs the given task on a compiler thread without waiting for it. The same limits as of
+     * {@link #execute(String, CompilerTask)} apply, but a rejected task completes the returned future with a
+     * {@link CompilerOverloadedException} instead of throwing it. A task of which the future is completed, e.g.
+     * cancelled, before a compiler thread picks it up is not run.
+     *
+     * @param clientId identifier of the client requesting the task
+     * @param task     task to run
+     * @param <T>      result type of the task
+     * @return future completed with the result of the task
+     */
+    public <T> CompletableFuture<T> submit(String clientId, Supplier<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            admit(clientId);
+        } catch (CompilerOverloadedException e) {
+            result.completeExceptionally(e);
+            return result;
+        }
+        if (!schedule(clientId, result, task::get)) {
+            result.completeExceptionally(rejectQueueFull());
+        }
+        return result;
+    }
+
+    /**
+     * Queues an admitted task, which completes the given future and releases the slot of the client when it is done.
+     *
+     * @return false if the queue is full, in which case the slot is released right away
+     */
+    private <T> boolean schedule(String clientId, CompletableFuture<T> result, CompilerTask<T, ?> task) {
+        long submittedAt = System.nanoTime();
+        try {
+            executor.execute(() -> {
+                T value = null;
+                Throwable failure = null;
+                try {
+                    recordWait(System.nanoTime() - submittedAt);
+                    if (!result.isDone()) {
+                        value = task.call();
+                    }
+                } catch (Exception | Error e) {
+                    failure = e;
+                } finally {
+                    // released before the future completes, so that a client sending its next task as soon as this
+                    // one completes is not counted twice
+                    release(clientId);
+                }
+                if (failure != null) {
+                    result.completeExceptionally(failure);
+                } else {
+                    result.complete(value);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            release(clientId);
+            return false;
+        }
+    }
+
+    /**
+     * Counts a task of the given client, rejecting it if the client already has the maximum number of tasks pending.
+     */
+    private void admit(String clientId) {
+        // the count of a client is only updated atomically through the map, so a count reaching zero is removed
+        // without a concurrent task of the same client getting hold of the removed count
+        int pending = clientTasks.merge(clientId, 1, Integer::sum);
+        if (pending > maxPerClient) {
+            release(clientId);
+            rejected.incrementAndGet();
+            throw new CompilerOverloadedException("Too many compilations requested by " + clientId,
+                    CompilerOverloadedException.Reason.CLIENT_LIMIT, retryAfterSeconds);
+        }
+    }
+
+    private void release(String clientId) {
+        clientTasks.computeIfPresent(clientId, (id, count) -> count > 1 ? count - 1 : null);
+        logStats();
+    }
+
+    private CompilerOverloadedException rejectQueueFull() {
+        rejected.incrementAndGet();
+        return new CompilerOverloadedException("Compiler queue is full", CompilerOverloadedException.Reason.QUEUE_FULL,
+                retryAfterSeconds);
+    }
+
+    private void recordWait(long waitNanos) {
+        completed.incrementAndGet();
+        totalWaitNanos.addAndGet(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    /**
+     * Returns the number of tasks waiting for a compiler thread.
+     *
+     * @return queue depth
+     */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    /**
+     * Returns the number of tasks of the given client which are running or waiting for a compiler thread.
+     *
+     * @param clientId identifier of the client
+     * @return number of pending tasks
+     */
+    public int getPendingCount(String clientId) {
+        return clientTasks.getOrDefault(clientId, 0);
+    }
+
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    /**
+     * Returns the average time tasks waited for a compiler thread.
+     *
+     * @return average wait time in milliseconds
+     */
+    public long getAverageWaitMillis() {
+        long count = completed.get();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalWaitNanos.get() / count);
+    }
+
+    /**
+     * Returns the longest time a task waited for a compiler thread.
+     *
+     * @return maximum wait time in milliseconds
+     */
+    public long getMaxWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get());
+    }
+
+    /**
+     * Stops the compiler threads once the running and queued tasks are done.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void logStats() {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Compiler executor - active: " + getActiveCount() + ", queued: " + getQueueDepth()
+                    + ", rejected: " + getRejectedCount() + ", average wait: " + getAverageWaitMillis()
+                    + "ms, max wait: " + getMaxWaitMillis() + "ms");
+        }
+    }
+
+    /**
+     * A task run by the compiler executor.
+     *
+     * @param <T> result type of the task
+     * @param <E> exception type of the task
+     */
+    @FunctionalInterface
+    public interface CompilerTask<T, E extends Exception> {
+
+        T call() throws E;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.util;
+
+/**
+ * Thrown when a compilation is rejected because the {@link CompilerExecutor} is overloaded.
+ */
+public class CompilerOverloadedException extends RuntimeException {
+
+    /**
+     * Reason for rejecting a compilation.
+     */
+    public enum Reason {
+        /**
+         * The client already has the maximum number of compilations pending.
+         */
+        CLIENT_LIMIT,
+        /**
+         * The queue of the compiler executor is full.
+         */
+        QUEUE_FULL
+    }
+
+    private final Reason reason;
+    private final int retryAfterSeconds;
+
+    public CompilerOverloadedException(String message, Reason reason, int retryAfterSeconds) {
+        super(message);
+        this.reason = reason;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
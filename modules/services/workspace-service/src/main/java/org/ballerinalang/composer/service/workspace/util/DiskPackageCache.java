@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.util;
+
+import org.ballerinalang.composer.service.workspace.rest.datamodel.BallerinaFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache of Ballerina packages compiled from the file-system.
+ * <p>
+ * A package is compiled either as it is saved in the file-system, or with the unsaved content of one of its files
+ * replacing the saved content of that file. Only the latest compilation of each package is kept, and it is reused for
+ * as long as none of the source files of the package is added, removed or modified, which is detected by comparing
+ * the modification time and size of the source files, and the unsaved content, if any, stays the same. Unsaved content
+ * which equals the saved content of the file is compiled as the saved package, so validating a file right after it is
+ * saved and reading the saved package share a single compilation.
+ */
+public class DiskPackageCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(DiskPackageCache.class);
+
+    public static final String SYS_MAX_PACKAGES = "composer.package.cache.maxPackages";
+    public static final int DEFAULT_MAX_PACKAGES = 16;
+
+    private static final String BAL_FILE_EXTENSION = ".bal";
+
+    private final PackageCompiler compiler;
+    private final Map<String, CompiledPackage> packages;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public DiskPackageCache() {
+        this(Integer.getInteger(SYS_MAX_PACKAGES, DEFAULT_MAX_PACKAGES), WorkspaceUtils::compilePackage);
+    }
+
+    public DiskPackageCache(int maxPackages) {
+        this(maxPackages, WorkspaceUtils::compilePackage);
+    }
+
+    DiskPackageCache(int maxPackages, PackageCompiler compiler) {
+        this.compiler = compiler;
+        this.packages = new LinkedHashMap<String, CompiledPackage>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompiledPackage> eldest) {
+                return size() > maxPackages;
+            }
+        };
+    }
+
+    /**
+     * Returns the package as saved in the file-system, recompiling it only if its sources have changed since the last
+     * compilation.
+     *
+     * @param programDir          Path of the program directory.
+     * @param compilationUnitName compilationUnitName name. Either a file name or a package name.
+     * @return compiled package
+     */
+    public CompiledPackage get(String programDir, String compilationUnitName) {
+        return get(programDir, compilationUnitName, null, null);
+    }
+
+    /**
+     * Returns the package with the saved content of the given file replaced by the given unsaved content, recompiling
+     * it only if its sources or the unsaved content have changed since the last compilation.
+     *
+     * @param programDir          Path of the program directory.
+     * @param compilationUnitName compilationUnitName name. Either a file name or a package name.
+     * @param fileName            Name of the edited file, or null to compile the package as saved.
+     * @param source              Unsaved content of the edited file, or null to compile the package as saved.
+     * @return compiled package
+     */
+    public CompiledPackage get(String programDir, String compilationUnitName, String fileName, String source) {
+        String key = programDir + File.pathSeparator + compilationUnitName;
+        String stamp = getSourceStamp(programDir, compilationUnitName);
+        String contentHash = null;
+        if (fileName != null && source != null) {
+            byte[] content = source.getBytes(StandardCharsets.UTF_8);
+            if (!Arrays.equals(content, readSavedContent(programDir, compilationUnitName, fileName))) {
+                contentHash = CompilationCache.hash(content);
+            }
+        }
+        synchronized (packages) {
+            CompiledPackage compiledPackage = packages.get(key);
+            if (compiledPackage != null && compiledPackage.stamp.equals(stamp)
+                    && Objects.equals(compiledPackage.contentHash, contentHash)
+                    && (contentHash == null || compiledPackage.fileName.equals(fileName))) {
+                hits.incrementAndGet();
+                return compiledPackage;
+            }
+        }
+        misses.incrementAndGet();
+        logger.debug("Compiling package " + compilationUnitName + " in " + programDir
+                + (contentHash != null ? " with unsaved content of " + fileName : ""));
+        CompiledPackage compiledPackage = contentHash != null
+                ? new CompiledPackage(stamp, fileName, contentHash,
+                        compiler.compile(programDir, compilationUnitName, fileName, source))
+                : new CompiledPackage(stamp, null, null,
+                        compiler.compile(programDir, compilationUnitName, null, null));
+        synchronized (packages) {
+            packages.put(key, compiledPackage);
+        }
+        return compiledPackage;
+    }
+
+    /**
+     * Removes all cached packages.
+     */
+    public void clear() {
+        synchronized (packages) {
+            packages.clear();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Returns a stamp of the source files of the given compilation unit, which changes whenever a source file is
+     * added, removed or modified.
+     */
+    static String getSourceStamp(String programDir, String compilationUnitName) {
+        Map<String, String> sources = new TreeMap<>();
+        Path unitPath = getUnitPath(programDir, compilationUnitName);
+        if (Files.isDirectory(unitPath)) {
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(unitPath, "*" + BAL_FILE_EXTENSION)) {
+                for (Path source : stream) {
+                    sources.put(source.getFileName().toString(), getFileStamp(source));
+                }
+            } catch (IOException e) {
+                // a unique stamp makes sure the package is compiled again
+                logger.debug("Error while listing sources of " + unitPath, e);
+                return String.valueOf(System.nanoTime());
+            }
+        } else {
+            sources.put(unitPath.toString(), getFileStamp(unitPath));
+        }
+        return sources.toString();
+    }
+
+    private static Path getUnitPath(String programDir, String compilationUnitName) {
+        return compilationUnitName.endsWith(BAL_FILE_EXTENSION)
+                ? Paths.get(programDir, compilationUnitName)
+                : Paths.get(programDir, compilationUnitName.split("\\."));
+    }
+
+    private static String getFileStamp(Path source) {
+        File file = source.toFile();
+        return file.lastModified() + ":" + file.length();
+    }
+
+    /**
+     * Returns the saved content of the given file of the compilation unit, or null if the file is not saved.
+     */
+    private static byte[] readSavedContent(String programDir, String compilationUnitName, String fileName) {
+        Path unitPath = getUnitPath(programDir, compilationUnitName);
+        Path filePath = Files.isDirectory(unitPath) ? unitPath.resolve(fileName) : unitPath;
+        if (!Files.isRegularFile(filePath)) {
+            return null;
+        }
+        try {
+            return Files.readAllBytes(filePath);
+        } catch (IOException e) {
+            logger.debug("Error while reading " + filePath, e);
+            return null;
+        }
+    }
+
+    /**
+     * Compiles a package from the file-system, optionally with the unsaved content of one of its files.
+     */
+    @FunctionalInterface
+    interface PackageCompiler {
+
+        BallerinaFile compile(String programDir, String compilationUnitName, String fileName, String source);
+    }
+
+    /**
+     * A package compiled from the file-system.
+     */
+    public static class CompiledPackage {
+
+        private final String stamp;
+        private final String fileName;
+        private final String contentHash;
+        private final BallerinaFile ballerinaFile;
+
+        CompiledPackage(String stamp, String fileName, String contentHash, BallerinaFile ballerinaFile) {
+            this.stamp = stamp;
+            this.fileName = fileName;
+            this.contentHash = contentHash;
+            this.ballerinaFile = ballerinaFile;
+        }
+
+        public BallerinaFile getBallerinaFile() {
+            return ballerinaFile;
+        }
+    }
+}
@@ -30,6 +30,7 @@ import org.ballerinalang.composer.service.workspace.langserver.model.Struct;
 import org.ballerinalang.composer.service.workspace.langserver.model.StructField;
 import org.ballerinalang.composer.service.workspace.rest.datamodel.BallerinaFile;
 import org.ballerinalang.composer.service.workspace.rest.datamodel.ComposerDiagnosticListener;
+import org.ballerinalang.composer.service.workspace.rest.datamodel.DirtyContentPackageRepository;
 import org.ballerinalang.composer.service.workspace.rest.datamodel.InMemoryPackageRepository;
 import org.ballerinalang.model.elements.Flag;
 import org.ballerinalang.model.elements.PackageID;
@@ -47,7 +48,6 @@ import org.wso2.ballerinalang.compiler.desugar.Desugar;
 import org.wso2.ballerinalang.compiler.semantics.analyzer.CodeAnalyzer;
 import org.wso2.ballerinalang.compiler.semantics.analyzer.SemanticAnalyzer;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
-import org.wso2.ballerinalang.compiler.semantics.model.symbols.BTypeSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BConnectorType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.tree.BLangAction;
@@ -71,6 +71,7 @@ import org.wso2.ballerinalang.compiler.util.Names;
 import org.wso2.ballerinalang.compiler.util.diagnotic.BDiagnostic;
 
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -90,6 +91,10 @@ public class WorkspaceUtils {
 
     private static final Logger logger = LoggerFactory.getLogger(WorkspaceUtils.class);
 
+    private static final CompilationCache COMPILATION_CACHE = new CompilationCache();
+
+    private static final DiskPackageCache DISK_PACKAGE_CACHE = new DiskPackageCache();
+
     /**
      * This method is designed to generate the Ballerina model and Diagnostic information for a given Ballerina file.
      * saved in the file-system.
@@ -111,6 +116,7 @@ public class WorkspaceUtils {
     /**
      * This method is designed to generate the Ballerina model and Diagnostic information for a given Ballerina content.
      * Ideal use case is generating Ballerina model and Diagnostic information for unsaved Ballerina files.
+     * Results are cached by file name, content and compiler phase, hence the returned model must not be modified.
      *
      * @param fileName      - File name. This can be any arbitrary name as as we haven't save the file yet.
      * @param source        - Ballerina source content that needs to be parsed.
@@ -119,13 +125,80 @@ public class WorkspaceUtils {
      */
     public static BallerinaFile getBallerinaFileForContent(String fileName, String source,
                                                            CompilerPhase compilerPhase) {
-        CompilerContext context = prepareCompilerContext(fileName, source);
+        return COMPILATION_CACHE.get(fileName, source, compilerPhase, () -> {
+            CompilerContext context = prepareCompilerContext(fileName, source);
+            CompilerOptions options = CompilerOptions.getInstance(context);
+            options.put(COMPILER_PHASE, compilerPhase.toString());
+            options.put(PRESERVE_WHITESPACE, Boolean.TRUE.toString());
+            options.put(SKIP_PACKAGE_VALIDATION, Boolean.TRUE.toString());
+
+            return getBallerinaFile(fileName, context);
+        });
+    }
+
+    /**
+     * This method is designed to generate the Ballerina model and Diagnostic information for the unsaved content of a
+     * Ballerina file saved in the file-system. The compilation unit is compiled from the file-system with the content
+     * of the given file replaced by the given content, hence the constructs and diagnostics of the complete package
+     * are resolved with a single compilation.
+     * Results are kept in the disk package cache until the sources in the file-system or the content change, hence
+     * the returned model must not be modified.
+     *
+     * @param programDir          - Path of the program directory.
+     * @param compilationUnitName - compilationUnitName name. Either a file name or a package name.
+     * @param fileName            - Name of the edited file.
+     * @param source              - Unsaved Ballerina source content of the edited file.
+     * @return BallerinaFile - Object which contains Ballerina model and Diagnostic information
+     */
+    public static BallerinaFile getBallerinaFileForDirtyContent(String programDir, String compilationUnitName,
+                                                                String fileName, String source) {
+        return DISK_PACKAGE_CACHE.get(programDir, compilationUnitName, fileName, source).getBallerinaFile();
+    }
+
+    /**
+     * Compiles a compilation unit from the file-system, with the content of the given file replaced by the given
+     * content if there is one. Results are not cached.
+     *
+     * @param programDir          - Path of the program directory.
+     * @param compilationUnitName - compilationUnitName name. Either a file name or a package name.
+     * @param fileName            - Name of the edited file, or null to compile the saved sources.
+     * @param source              - Unsaved Ballerina source content of the edited file, or null.
+     * @return BallerinaFile - Object which contains Ballerina model and Diagnostic information
+     */
+    static BallerinaFile compilePackage(String programDir, String compilationUnitName, String fileName,
+                                        String source) {
+        if (fileName == null || source == null) {
+            return getBallerinaFile(programDir, compilationUnitName);
+        }
+        CompilerContext context = new CompilerContext();
+        context.put(PackageRepository.class, new DirtyContentPackageRepository(Paths.get(programDir),
+                compilationUnitName, fileName, source.getBytes(StandardCharsets.UTF_8)));
         CompilerOptions options = CompilerOptions.getInstance(context);
-        options.put(COMPILER_PHASE, compilerPhase.toString());
+        options.put(SOURCE_ROOT, programDir);
+        options.put(COMPILER_PHASE, CompilerPhase.CODE_ANALYZE.toString());
         options.put(PRESERVE_WHITESPACE, Boolean.TRUE.toString());
         options.put(SKIP_PACKAGE_VALIDATION, Boolean.TRUE.toString());
 
-        return getBallerinaFile(fileName, context);
+        return getBallerinaFile(compilationUnitName, context);
+    }
+
+    /**
+     * Returns the cache holding the compilations of unsaved Ballerina content.
+     *
+     * @return CompilationCache
+     */
+    public static CompilationCache getCompilationCache() {
+        return COMPILATION_CACHE;
+    }
+
+    /**
+     * Returns the cache holding the compilations of Ballerina packages in the file-system, with or without unsaved
+     * content.
+     *
+     * @return DiskPackageCache
+     */
+    public static DiskPackageCache getDiskPackageCache() {
+        return DISK_PACKAGE_CACHE;
     }
 
     /**
@@ -135,7 +208,7 @@ public class WorkspaceUtils {
      * @param source   - Ballerina source content that needs to be parsed.
      * @return CompilerContext
      */
-    private static CompilerContext prepareCompilerContext(String fileName, String source) {
+    public static CompilerContext prepareCompilerContext(String fileName, String source) {
         CompilerContext context = new CompilerContext();
         List<Name> names = new ArrayList<>();
         names.add(new org.wso2.ballerinalang.compiler.util.Name("."));
@@ -147,13 +220,14 @@ public class WorkspaceUtils {
     }
 
     /**
-     * Returns an object which contains Ballerina model and Diagnostic information.
+     * Returns an object which contains Ballerina model and Diagnostic information. Results are not cached, hence this
+     * is meant for callers which need the symbols resolved by the compilation from the given context afterwards.
      *
      * @param fileName - File name
      * @param context  - CompilerContext
      * @return BallerinaFile - Object which contains Ballerina model and Diagnostic information
      */
-    private static BallerinaFile getBallerinaFile(String fileName, CompilerContext context) {
+    public static BallerinaFile getBallerinaFile(String fileName, CompilerContext context) {
         List<Diagnostic> diagnostics = new ArrayList<>();
         ComposerDiagnosticListener composerDiagnosticListener = new ComposerDiagnosticListener(diagnostics);
         context.put(DiagnosticListener.class, composerDiagnosticListener);
@@ -173,77 +247,137 @@ public class WorkspaceUtils {
     }
 
     /**
-     * Get All Native Packages.
+     * Get All Native Packages. Packages are loaded only once, hence the returned packages must not be modified.
      *
      * @return {@link Map} Package name, package functions and connectors
      */
     public static Map<String, ModelPackage> getAllPackages() {
+        return BuiltInPackageCatalogue.getInstance().getPackages();
+    }
+
+    /**
+     * Get the names of all native packages. Unlike {@link #getAllPackages()}, this doesn't load the packages.
+     *
+     * @return {@link List} sorted package names
+     */
+    public static List<String> getAllPackageNames() {
+        return BuiltInPackageCatalogue.getInstance().getPackageNames();
+    }
+
+    /**
+     * Loads all native packages from the package repository. The packages are loaded into a compiler context of their
+     * own, which is dropped afterwards, so that the compiled packages are not kept once their constructs are read.
+     *
+     * @return {@link Map} Package name, package functions and connectors
+     */
+    static Map<String, ModelPackage> loadAllPackages() {
         final Map<String, ModelPackage> modelPackage = new HashMap<>();
 
+        // builtin packages - ballerina.builtin and ballerina.builtin.core are loaded once and shared
+        ModelPackage builtInPackage = loadBuiltInModelPackage();
+        if (builtInPackage != null) {
+            modelPackage.put(builtInPackage.getName(), builtInPackage);
+        }
         CompilerContext context = prepareCompilerContext("", "");
-        // load builtin packages - ballerina.builtin and ballerina.builtin.core explicitly
-        BLangPackage builtInPackage = loadBuiltInPackage(context);
-        String builtInPackageName = builtInPackage.getPackageDeclaration().getPackageName().stream()
-                .map(name -> name.getValue()).collect(Collectors.joining("."));
-        loadPackageMap(builtInPackageName, builtInPackage, modelPackage);
-        PackageLoader packageLoader = PackageLoader.getInstance(context);
-        // max depth for the recursive function which search for child directories
-        int maxDepth = 15;
-        Set<PackageID> packages = packageLoader.listPackages(maxDepth);
-        packages.stream().forEach(pkg -> {
-            Name version = pkg.getPackageVersion();
-            BLangIdentifier bLangIdentifier = new BLangIdentifier();
-            bLangIdentifier.setValue(version.getValue());
-
-            List<BLangIdentifier> pkgNameComps = pkg.getNameComps().stream().map(nameToBLangIdentifier)
-                    .collect(Collectors.<BLangIdentifier>toList());
-            try {
-                // we have already loaded ballerina.builtin and ballerina.builtin.core. hence skipping loading those
-                // packages.
-                if (!"ballerina.builtin".equals(pkg.getName().getValue())
-                        && !"ballerina.builtin.core".equals(pkg.getName().getValue())) {
-                    org.wso2.ballerinalang.compiler.tree.BLangPackage bLangPackage = packageLoader
-                            .loadPackage(pkgNameComps, bLangIdentifier);
-                    loadPackageMap(pkg.getName().getValue(), bLangPackage, modelPackage);
-                }
-            } catch (Exception e) {
-                // Its wrong to catch java.lang.Exception. But this is temporary thing and ideally there shouldn't be
-                // any error while loading packages.
-                String pkgName = pkg.getNameComps().stream().map(name -> name.getValue())
-                        .collect(Collectors.joining("."));
-                logger.warn("Error while loading package " + pkgName);
+        loadBuiltInPackage(context);
+        listNativePackages().forEach((pkgName, pkg) -> {
+            ModelPackage nativePackage = loadModelPackage(pkg, context);
+            if (nativePackage != null) {
+                modelPackage.put(pkgName, nativePackage);
             }
         });
         return modelPackage;
     }
 
     /**
-     * Get the builtin types.
+     * Lists the native packages in the package repository, except the builtin packages, without loading them.
      *
-     * @return {@link List} list of builtin types
+     * @return {@link Map} Package name, package ID
      */
-    public static List<SymbolInformation> getBuiltinTypes() {
-        CompilerContext context = prepareCompilerContext("", "");
-        SymbolTable symbolTable = SymbolTable.getInstance(context);
-        List<SymbolInformation> symbolInformationList = new ArrayList<>();
-
-        // TODO: Need to fill the default values
-        symbolTable.rootScope.entries.forEach((key, value) -> {
-            if (value.symbol instanceof BTypeSymbol) {
-                SymbolInformation symbolInfo = new SymbolInformation();
-                String symbolName = value.symbol.getName().getValue();
-                if (!symbolName.equals(BuiltInType.INVALID_TYPE)) {
-                    symbolInfo.setName(symbolName);
-                    setDefaultValuesForType(symbolName, symbolInfo);
-                    symbolInformationList.add(symbolInfo);
-                }
+    static Map<String, PackageID> listNativePackages() {
+        Map<String, PackageID> nativePackages = new HashMap<>();
+        BuiltInPackageEnvironment builtInEnv = BuiltInPackageEnvironment.getInstance();
+        Set<PackageID> packages;
+        synchronized (builtInEnv) {
+            // max depth for the recursive function which search for child directories
+            int maxDepth = 15;
+            packages = PackageLoader.getInstance(builtInEnv.getContext()).listPackages(maxDepth);
+        }
+        packages.forEach(pkg -> {
+            // we have already loaded ballerina.builtin and ballerina.builtin.core. hence skipping loading
+            // those packages.
+            String pkgName = pkg.getName().getValue();
+            if (!"ballerina.builtin".equals(pkgName) && !"ballerina.builtin.core".equals(pkgName)) {
+                nativePackages.put(pkgName, pkg);
             }
         });
+        return nativePackages;
+    }
 
-        return symbolInformationList;
+    /**
+     * Returns the constructs of the builtin package.
+     *
+     * @return {@link ModelPackage} builtin package
+     */
+    static ModelPackage loadBuiltInModelPackage() {
+        BuiltInPackageEnvironment builtInEnv = BuiltInPackageEnvironment.getInstance();
+        Map<String, ModelPackage> modelPackage = new HashMap<>();
+        loadPackageMap(builtInEnv.getBuiltInPackageName(), builtInEnv.getBuiltInPackage(), modelPackage);
+        return modelPackage.get(builtInEnv.getBuiltInPackageName());
+    }
+
+    /**
+     * Loads a single native package and returns its constructs. The package is loaded into a compiler context of its
+     * own, which is dropped afterwards, so that the compiled package is not kept once its constructs are read.
+     *
+     * @param pkg - ID of the package
+     * @return {@link ModelPackage} package, or null if the package has no constructs or could not be loaded
+     */
+    static ModelPackage loadModelPackage(PackageID pkg) {
+        CompilerContext context = prepareCompilerContext("", "");
+        loadBuiltInPackage(context);
+        return loadModelPackage(pkg, context);
+    }
+
+    /**
+     * Loads a native package and returns its constructs.
+     *
+     * @param pkg     - ID of the package
+     * @param context - compiler context, with the builtin packages loaded, to load the package into
+     * @return {@link ModelPackage} package, or null if the package has no constructs or could not be loaded
+     */
+    private static ModelPackage loadModelPackage(PackageID pkg, CompilerContext context) {
+        Map<String, ModelPackage> modelPackage = new HashMap<>();
+        Name version = pkg.getPackageVersion();
+        BLangIdentifier bLangIdentifier = new BLangIdentifier();
+        bLangIdentifier.setValue(version.getValue());
+
+        List<BLangIdentifier> pkgNameComps = pkg.getNameComps().stream().map(nameToBLangIdentifier)
+                .collect(Collectors.<BLangIdentifier>toList());
+        try {
+            org.wso2.ballerinalang.compiler.tree.BLangPackage bLangPackage =
+                    PackageLoader.getInstance(context).loadPackage(pkgNameComps, bLangIdentifier);
+            loadPackageMap(pkg.getName().getValue(), bLangPackage, modelPackage);
+        } catch (Exception e) {
+            // Its wrong to catch java.lang.Exception. But this is temporary thing and ideally there
+            // shouldn't be any error while loading packages.
+            String pkgName = pkg.getNameComps().stream().map(name -> name.getValue())
+                    .collect(Collectors.joining("."));
+            logger.warn("Error while loading package " + pkgName);
+        }
+        return modelPackage.get(pkg.getName().getValue());
+    }
+
+    /**
+     * Get the builtin types.
+     *
+     * @return {@link List} list of builtin types
+     */
+    public static List<SymbolInformation> getBuiltinTypes() {
+        return new ArrayList<>(BuiltInPackageEnvironment.getInstance().getBuiltinTypes());
     }
 
-    private static void setDefaultValuesForType(String type, SymbolInformation symbolInfo) {
+    static void setDefaultValuesForType(String type, SymbolInformation symbolInfo) {
         switch (type) {
             case BuiltInType.INT:
                 symbolInfo.setDefaultValue(BuiltInType.INT_DEFAULT);
@@ -729,7 +863,7 @@ public class WorkspaceUtils {
      * @param context compiler context
      * @return {BLangPackage} builtIn package
      */
-    private static BLangPackage loadBuiltInPackage(CompilerContext context) {
+    static BLangPackage loadBuiltInPackage(CompilerContext context) {
         PackageLoader pkgLoader = PackageLoader.getInstance(context);
         SymbolTable symbolTable = SymbolTable.getInstance(context);
         SemanticAnalyzer semAnalyzer = SemanticAnalyzer.getInstance(context);
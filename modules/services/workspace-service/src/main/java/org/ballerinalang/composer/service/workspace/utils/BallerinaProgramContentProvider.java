@@ -51,4 +51,13 @@ public class BallerinaProgramContentProvider {
     public Map<String, ModelPackage> getAllPackages() {
         return org.ballerinalang.composer.service.workspace.util.WorkspaceUtils.getAllPackages();
     }
+
+    /**
+     * Get the names of all Native Packages, without loading the packages.
+     *
+     * @return {@link List} Package names
+     * */
+    public List<String> getAllPackageNames() {
+        return org.ballerinalang.composer.service.workspace.util.WorkspaceUtils.getAllPackageNames();
+    }
 }
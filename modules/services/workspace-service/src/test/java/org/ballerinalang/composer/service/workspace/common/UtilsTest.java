@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.common;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**
+ * Tests for the common utility functions.
+ */
+public class UtilsTest {
+
+    @Test
+    public void testProgramDirectoryOfPackage() {
+        Path filePath = Paths.get("program", "org", "foo", "bar.bal");
+        Assert.assertEquals(Utils.getProgramDirectory(Arrays.asList("org", "foo"), filePath), Paths.get("program"));
+    }
+
+    @Test
+    public void testProgramDirectoryOfMisplacedPackage() {
+        Path filePath = Paths.get("program", "org", "foo", "bar.bal");
+        Assert.assertNull(Utils.getProgramDirectory(Arrays.asList("org", "baz"), filePath));
+        Assert.assertNull(Utils.getProgramDirectory(Arrays.asList("a", "program", "org", "foo"), filePath));
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.langserver;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for the synchronization of the documents opened by a language server client.
+ */
+public class TextDocumentSynchronizerTest {
+
+    private static final String URI = "untitled:test.bal";
+    private static final String SOURCE = "function main (string[] args) {\n" +
+            "    int a = 1;\n" +
+            "}\n";
+
+    @Test
+    public void testRangeChanges() {
+        TextDocumentSynchronizer synchronizer = new TextDocumentSynchronizer("test", notification -> { });
+        synchronizer.didOpen(parse("{\"textDocument\":{\"uri\":\"" + URI + "\",\"version\":1,\"text\":"
+                + new JsonPrimitive(SOURCE) + "}}"));
+
+        // replaces "1" and inserts a statement at the start of the next line, applied one after the other
+        String content = synchronizer.didChange(parse("{\"textDocument\":{\"uri\":\"" + URI + "\",\"version\":2},"
+                + "\"contentChanges\":[" + change(1, 12, 1, 13, "2") + "," + change(2, 0, 2, 0, "    a = 3;\\n")
+                + "]}"));
+
+        Assert.assertEquals(content, "function main (string[] args) {\n    int a = 2;\n    a = 3;\n}\n");
+        Assert.assertEquals(synchronizer.getContent(URI), content);
+        synchronizer.close();
+    }
+
+    @Test
+    public void testFullContentChange() {
+        JsonObject change = parse("{\"text\":\"function foo () {\\n}\\n\"}");
+        Assert.assertEquals(TextDocumentSynchronizer.applyChange(SOURCE, change), "function foo () {\n}\n");
+    }
+
+    @Test
+    public void testChangeBeyondEndOfLine() {
+        // positions past the end of a line are clamped to the end of the line, as mandated by the protocol
+        JsonObject change = parse(change(1, 14, 1, 40, ";"));
+        Assert.assertEquals(TextDocumentSynchronizer.applyChange(SOURCE, change),
+                "function main (string[] args) {\n    int a = 1;;\n}\n");
+    }
+
+    @Test
+    public void testCloseClearsDiagnostics() {
+        List<String> notifications = new ArrayList<>();
+        TextDocumentSynchronizer synchronizer = new TextDocumentSynchronizer("test", notifications::add);
+        synchronizer.didClose(parse("{\"textDocument\":{\"uri\":\"" + URI + "\"}}"));
+        Assert.assertTrue(notifications.isEmpty());
+
+        synchronizer.didOpen(parse("{\"textDocument\":{\"uri\":\"" + URI + "\",\"text\":\"\"}}"));
+        synchronizer.didClose(parse("{\"textDocument\":{\"uri\":\"" + URI + "\"}}"));
+        JsonObject notification = parse(notifications.get(notifications.size() - 1));
+        Assert.assertEquals(notification.get("method").getAsString(), "textDocument/publishDiagnostics");
+        Assert.assertEquals(notification.getAsJsonObject("params").getAsJsonArray("diagnostics").size(), 0);
+        Assert.assertNull(synchronizer.getContent(URI));
+    }
+
+    private static String change(int startLine, int startCharacter, int endLine, int endCharacter, String text) {
+        return "{\"range\":{\"start\":{\"line\":" + startLine + ",\"character\":" + startCharacter + "},"
+                + "\"end\":{\"line\":" + endLine + ",\"character\":" + endCharacter + "}},\"text\":\"" + text + "\"}";
+    }
+
+    private static JsonObject parse(String json) {
+        return new JsonParser().parse(json).getAsJsonObject();
+    }
+}
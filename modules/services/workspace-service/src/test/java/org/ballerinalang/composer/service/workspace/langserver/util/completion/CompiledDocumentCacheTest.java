@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.langserver.util.completion;
+
+import org.ballerinalang.compiler.CompilerPhase;
+import org.ballerinalang.composer.service.workspace.langserver.dto.Position;
+import org.ballerinalang.composer.service.workspace.rest.datamodel.BallerinaFile;
+import org.ballerinalang.composer.service.workspace.util.WorkspaceUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.ballerinalang.compiler.CompilerOptionName.COMPILER_PHASE;
+
+/**
+ * Tests for the compiled document cache.
+ */
+public class CompiledDocumentCacheTest {
+
+    private static final String URI = "file:///tmp/test.bal";
+
+    @Test
+    public void testReusesCompilationOfSameContent() {
+        CompiledDocumentCache cache = new CompiledDocumentCache(4);
+        AtomicInteger compilations = new AtomicInteger();
+        Function<String, CompiledDocument> compiler = content -> {
+            compilations.incrementAndGet();
+            return new CompiledDocument("test.bal", 0, content, null, null, null);
+        };
+
+        CompiledDocument first = cache.get(URI, 1, "function main() {}", compiler);
+        // only the cursor moved
+        CompiledDocument second = cache.get(URI, 1, "function main() {}", compiler);
+        Assert.assertTrue(first == second);
+        Assert.assertEquals(compilations.get(), 1);
+        Assert.assertEquals(cache.getHitCount(), 1);
+
+        cache.get(URI, 2, "function main() {int a;}", compiler);
+        Assert.assertEquals(compilations.get(), 2);
+
+        cache.remove(URI);
+        cache.get(URI, 2, "function main() {int a;}", compiler);
+        Assert.assertEquals(compilations.get(), 3);
+    }
+
+    @Test
+    public void testOutdatedVersionDoesNotReplaceLatest() {
+        CompiledDocumentCache cache = new CompiledDocumentCache(4);
+        Function<String, CompiledDocument> compiler = content ->
+                new CompiledDocument("test.bal", 0, content, null, null, null);
+
+        CompiledDocument latest = cache.get(URI, 2, "function main() {int a;}", compiler);
+        CompiledDocument outdated = cache.get(URI, 1, "function main() {}", compiler);
+        Assert.assertEquals(outdated.getContent(), "function main() {}");
+        Assert.assertTrue(cache.get(URI, 2, "function main() {int a;}", compiler) == latest);
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsedDocument() {
+        CompiledDocumentCache cache = new CompiledDocumentCache(2);
+        Function<String, CompiledDocument> compiler = content ->
+                new CompiledDocument("test.bal", 0, content, null, null, null);
+        cache.get("a.bal", 1, "a", compiler);
+        cache.get("b.bal", 1, "b", compiler);
+        cache.get("c.bal", 1, "c", compiler);
+        Assert.assertEquals(cache.size(), 2);
+    }
+
+    @Test
+    public void testGetEditedLine() {
+        String previous = "function main() {\n    int a = 1;\n    a = fo\n}\n";
+        Assert.assertEquals(CompiledDocumentCache.getEditedLine(previous,
+                "function main() {\n    int a = 1;\n    a = foo\n}\n"), 3);
+        // adding a line shifts the positions of the compiled nodes
+        Assert.assertEquals(CompiledDocumentCache.getEditedLine(previous,
+                "function main() {\n    int a = 1;\n    a = fo\n\n}\n"), -1);
+        // completing a statement changes the structure of the block
+        Assert.assertEquals(CompiledDocumentCache.getEditedLine(previous,
+                "function main() {\n    int a = 1;\n    a = fo;\n}\n"), -1);
+        Assert.assertEquals(CompiledDocumentCache.getEditedLine(previous,
+                "function main() {\n    int a = 1;\n    a = fo}\n}\n"), -1);
+    }
+
+    @Test
+    public void testEditConfinedToBody() {
+        String source = "function main (string[] args) {\n" +
+                "    int a = 1;\n" +
+                "    if (a > 0) {\n" +
+                "        a = 2;\n" +
+                "    }\n" +
+                "}\n";
+        CompilerContext context = WorkspaceUtils.prepareCompilerContext("test.bal", source);
+        CompilerOptions.getInstance(context).put(COMPILER_PHASE, CompilerPhase.TYPE_CHECK.toString());
+        BallerinaFile ballerinaFile = WorkspaceUtils.getBallerinaFile("test.bal", context);
+        CompiledDocument compiled = new CompiledDocument("test.bal", 1, source, context,
+                ballerinaFile.getBLangPackage(), ballerinaFile.getDiagnostics());
+        Assert.assertTrue(compiled.isResolved());
+
+        // within a block nested in the body of the function
+        Assert.assertTrue(CompiledDocumentCache.isEditConfinedToBody(compiled, source.replace("a = 2", "a = 23")));
+        Assert.assertTrue(CompiledDocumentCache.isEditConfinedToBody(compiled, source.replace("= 1", "= 10")));
+        // on the signature of the function
+        Assert.assertFalse(CompiledDocumentCache.isEditConfinedToBody(compiled, source.replace("args", "argv")));
+    }
+
+    @Test
+    public void testToCompiledPosition() {
+        String compiled = "function main() {\n    a = fo\n    b = 1\n}\n";
+        CompiledDocument document = new CompiledDocument("test.bal", 1, compiled, null, null, null);
+        String current = "function main() {\n    a = foo.bar\n    b = 1\n}\n";
+        // before the edit
+        assertPosition(document.toCompiledPosition(current, position(2, 6)), 2, 6);
+        // after the edit, on the edited line
+        assertPosition(document.toCompiledPosition(current, position(2, 15)), 2, 10);
+        // within the edited text
+        assertPosition(document.toCompiledPosition(current, position(2, 12)), 2, 10);
+        // on the other lines
+        assertPosition(document.toCompiledPosition(current, position(3, 8)), 3, 8);
+        assertPosition(document.toCompiledPosition(compiled, position(2, 8)), 2, 8);
+    }
+
+    private static Position position(int line, int character) {
+        Position position = new Position();
+        position.setLine(line);
+        position.setCharacter(character);
+        return position;
+    }
+
+    private static void assertPosition(Position position, int line, int character) {
+        Assert.assertEquals(position.getLine(), line);
+        Assert.assertEquals(position.getCharacter(), character);
+    }
+}
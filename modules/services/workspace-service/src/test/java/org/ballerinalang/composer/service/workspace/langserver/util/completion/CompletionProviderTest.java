@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ballerinalang.composer.service.workspace.langserver.util.completion;
+
+import org.ballerinalang.composer.service.workspace.langserver.dto.Position;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the completion provider.
+ */
+public class CompletionProviderTest {
+
+    private static final String CONTENT = "function main (string[] args) {\n" +
+            "    int count = 1;\n" +
+            "    cou\n" +
+            "    count = a.b\n" +
+            "}";
+
+    @Test
+    public void testGetPrefix() {
+        Assert.assertEquals(CompletionProvider.getPrefix(CONTENT, position(3, 7)), "cou");
+        Assert.assertEquals(CompletionProvider.getPrefix(CONTENT, position(3, 6)), "co");
+        // the prefix is only the identifier after the last delimiter
+        Assert.assertEquals(CompletionProvider.getPrefix(CONTENT, position(4, 15)), "b");
+        Assert.assertEquals(CompletionProvider.getPrefix(CONTENT, position(4, 14)), "");
+    }
+
+    @Test
+    public void testGetPrefixOutsideContent() {
+        Assert.assertEquals(CompletionProvider.getPrefix(CONTENT, position(1, 0)), "");
+        // a character beyond the end of the line stops at the end of the line
+        Assert.assertEquals(CompletionProvider.getPrefix(CONTENT, position(3, 40)), "cou");
+        Assert.assertEquals(CompletionProvider.getPrefix(CONTENT, position(9, 0)), "");
+        Assert.assertEquals(CompletionProvider.getPrefix("", position(1, 0)), "");
+    }
+
+    private static Position position(int line, int character) {
+        Position position = new Position();
+        position.setLine(line);
+        position.setCharacter(character);
+        return position;
+    }
+}
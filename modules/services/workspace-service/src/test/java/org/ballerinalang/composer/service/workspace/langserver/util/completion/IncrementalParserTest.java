@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.langserver.util.completion;
+
+import org.antlr.v4.runtime.ANTLRInputStream;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.ballerinalang.composer.service.workspace.langserver.dto.Position;
+import org.ballerinalang.composer.service.workspace.suggetions.CapturePossibleTokenStrategy;
+import org.ballerinalang.composer.service.workspace.suggetions.SuggestionsFilterDataModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.parser.antlr4.BallerinaLexer;
+import org.wso2.ballerinalang.compiler.parser.antlr4.BallerinaParser;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+
+import java.util.List;
+
+/**
+ * Tests for the incremental parser of the completion path.
+ */
+public class IncrementalParserTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(IncrementalParserTest.class);
+
+    private static final int FUNCTION_COUNT = 625;
+    private static final int LINES_PER_FUNCTION = 8;
+    private static final int BENCHMARK_ITERATIONS = 20;
+
+    @Test
+    public void testOneCharacterEditRelexesEditedConstruct() {
+        String content = createSource(FUNCTION_COUNT);
+        String edited = insertAt(content, FUNCTION_COUNT / 2, 'x');
+
+        IncrementalParser parser = new IncrementalParser();
+        parser.tokenize("test.bal", content);
+        IncrementalParser.TokenizedDocument document = parser.tokenize("test.bal", edited);
+
+        Assert.assertTrue(document.getRelexedLength() < edited.length() / 100);
+        assertSameTokens(document.getTokens(), IncrementalParser.TokenizedDocument.lexFully(edited).getTokens());
+    }
+
+    @Test
+    public void testEditChangingConstructs() {
+        String content = createSource(3);
+        // opening a block leaves the rest of the document within the edited construct
+        String edited = content.replace("int b = 1;", "int b = 1; if (b > 0) {");
+
+        IncrementalParser parser = new IncrementalParser();
+        parser.tokenize("test.bal", content);
+        IncrementalParser.TokenizedDocument document = parser.tokenize("test.bal", edited);
+
+        assertSameTokens(document.getTokens(), IncrementalParser.TokenizedDocument.lexFully(edited).getTokens());
+        Assert.assertTrue(document.getConstructCount() < IncrementalParser.TokenizedDocument.lexFully(content)
+                .getConstructCount());
+    }
+
+    @Test
+    public void testConstructTokensAtCursor() {
+        String content = createSource(3);
+        IncrementalParser.TokenizedDocument document = IncrementalParser.TokenizedDocument.lexFully(content);
+
+        List<Token> tokens = document.getConstructTokensAt(position(2 + LINES_PER_FUNCTION + 2, 8));
+        String text = toText(tokens);
+        Assert.assertTrue(text.contains("function f1 "));
+        Assert.assertFalse(text.contains("function f0 "));
+        Assert.assertFalse(text.contains("function f2 "));
+    }
+
+    @Test
+    public void testParserContextOfConstructEqualsFullParse() {
+        String content = createSource(3);
+        // an incomplete member access within a nested block
+        assertSameParserContext(content, "function f1 ", "b = a;", "b = a.", "");
+        // an identifier typed at the start of a statement
+        assertSameParserContext(content, "function f1 ", "string s", "in", "\n    string s");
+        // an incomplete statement in the last construct
+        assertSameParserContext(content, "function f2 ", "int b = 1;", "int b = ", "");
+    }
+
+    /**
+     * Measures the parse time of a one character edit, which is only logged, hence the benchmark is excluded from the
+     * test suite.
+     */
+    @Test(groups = "benchmark")
+    public void testOneCharacterEditBenchmark() {
+        String content = createSource(FUNCTION_COUNT);
+        IncrementalParser parser = new IncrementalParser();
+        parser.tokenize("test.bal", content);
+
+        long fullParseTime = 0;
+        long incrementalParseTime = 0;
+        for (int i = 0; i < BENCHMARK_ITERATIONS; i++) {
+            String edited = insertAt(content, FUNCTION_COUNT / 2, i % 2 == 0 ? 'x' : 'y');
+            Position position = position(2 + (FUNCTION_COUNT / 2) * LINES_PER_FUNCTION + 4, 9);
+
+            long start = System.nanoTime();
+            BallerinaParser fullParser = new BallerinaParser(new CommonTokenStream(
+                    new BallerinaLexer(new ANTLRInputStream(edited))));
+            fullParser.removeErrorListeners();
+            fullParser.setErrorHandler(new CapturePossibleTokenStrategy(new CompilerContext(), position,
+                    new SuggestionsFilterDataModel()));
+            fullParser.compilationUnit();
+            fullParseTime += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            parser.captureParserContext("test.bal", edited, position, new SuggestionsFilterDataModel());
+            incrementalParseTime += System.nanoTime() - start;
+        }
+        logger.info("Parse time of a one character edit in a " + FUNCTION_COUNT * LINES_PER_FUNCTION
+                + " line file, full: " + fullParseTime / BENCHMARK_ITERATIONS / 1000 + "us, incremental: "
+                + incrementalParseTime / BENCHMARK_ITERATIONS / 1000 + "us");
+    }
+
+    /**
+     * Replaces the given text within a function with the text typed before and after the cursor, and asserts that
+     * the parser context captured at the cursor by parsing only the top level construct of the cursor is the same as
+     * captured by parsing the whole content.
+     */
+    private static void assertSameParserContext(String source, String function, String text, String beforeCursor,
+                                                String afterCursor) {
+        int offset = source.indexOf(text, source.indexOf(function));
+        String content = source.substring(0, offset) + beforeCursor + afterCursor
+                + source.substring(offset + text.length());
+        offset += beforeCursor.length();
+        int lineStart = content.lastIndexOf('\n', offset - 1) + 1;
+        int line = 1;
+        for (int i = 0; i < lineStart; i++) {
+            if (content.charAt(i) == '\n') {
+                line++;
+            }
+        }
+        Position position = position(line, offset - lineStart);
+
+        SuggestionsFilterDataModel fullContext = new SuggestionsFilterDataModel();
+        BallerinaParser fullParser = new BallerinaParser(new CommonTokenStream(
+                new BallerinaLexer(new ANTLRInputStream(content))));
+        fullParser.removeErrorListeners();
+        fullParser.setErrorHandler(new CapturePossibleTokenStrategy(new CompilerContext(), position, fullContext));
+        fullParser.compilationUnit();
+
+        SuggestionsFilterDataModel constructContext = new SuggestionsFilterDataModel();
+        new IncrementalParser().captureParserContext("test.bal", content, position, constructContext);
+
+        Assert.assertNotNull(fullContext.getParserRuleContext(), "no parser context captured at " + offset);
+        Assert.assertEquals(getRulePath(constructContext.getParserRuleContext()),
+                getRulePath(fullContext.getParserRuleContext()));
+        // resolvers look at the tokens around the cursor
+        Assert.assertEquals(getTokensBefore(constructContext, 5), getTokensBefore(fullContext, 5));
+    }
+
+    private static String getRulePath(ParserRuleContext context) {
+        StringBuilder path = new StringBuilder();
+        for (ParserRuleContext rule = context; rule != null; rule = rule.getParent()) {
+            path.append('/').append(rule.getClass().getSimpleName());
+        }
+        return path.toString();
+    }
+
+    /**
+     * Returns the current token along with the given number of non hidden tokens before it, with their positions.
+     */
+    private static String getTokensBefore(SuggestionsFilterDataModel context, int count) {
+        StringBuilder text = new StringBuilder();
+        int found = 0;
+        for (int i = context.getTokenIndex(); i >= 0 && found <= count; i--) {
+            Token token = context.getTokenStream().get(i);
+            if (i == context.getTokenIndex() || token.getChannel() != Token.HIDDEN_CHANNEL) {
+                text.append(token.getText()).append('@').append(token.getLine()).append(':')
+                        .append(token.getCharPositionInLine()).append(' ');
+                found++;
+            }
+        }
+        return text.toString();
+    }
+
+    private static String createSource(int functionCount) {
+        StringBuilder source = new StringBuilder("package test.pkg;\n\n");
+        for (int i = 0; i < functionCount; i++) {
+            source.append("function f").append(i).append(" (int a) {\n")
+                    .append("    int b = 1;\n")
+                    .append("    if (b > a) {\n")
+                    .append("        b = a;\n")
+                    .append("    }\n")
+                    .append("    string s = \"f").append(i).append("\";\n")
+                    .append("}\n")
+                    .append("\n");
+        }
+        return source.toString();
+    }
+
+    /**
+     * Inserts a character at the start of the statement within the if block of the given function.
+     */
+    private static String insertAt(String content, int function, char character) {
+        int offset = content.indexOf("function f" + function + " ");
+        offset = content.indexOf("b = a;", offset);
+        return content.substring(0, offset) + character + content.substring(offset);
+    }
+
+    private static void assertSameTokens(List<Token> actual, List<Token> expected) {
+        Assert.assertEquals(actual.size(), expected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Token actualToken = actual.get(i);
+            Token expectedToken = expected.get(i);
+            Assert.assertEquals(actualToken.getType(), expectedToken.getType());
+            Assert.assertEquals(actualToken.getText(), expectedToken.getText());
+            Assert.assertEquals(actualToken.getLine(), expectedToken.getLine());
+            Assert.assertEquals(actualToken.getCharPositionInLine(), expectedToken.getCharPositionInLine());
+            Assert.assertEquals(actualToken.getStartIndex(), expectedToken.getStartIndex());
+            Assert.assertEquals(actualToken.getTokenIndex(), expectedToken.getTokenIndex());
+        }
+    }
+
+    private static String toText(List<Token> tokens) {
+        StringBuilder text = new StringBuilder();
+        tokens.forEach(token -> text.append(token.getText()));
+        return text.toString();
+    }
+
+    private static Position position(int line, int character) {
+        Position position = new Position();
+        position.setLine(line);
+        position.setCharacter(character);
+        return position;
+    }
+}
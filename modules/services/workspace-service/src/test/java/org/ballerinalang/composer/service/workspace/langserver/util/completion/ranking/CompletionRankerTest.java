@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.langserver.util.completion.ranking;
+
+import org.ballerinalang.composer.service.workspace.langserver.dto.CompletionItem;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Tests for ranking completion candidates.
+ */
+public class CompletionRankerTest {
+
+    @Test
+    public void testMatchScores() {
+        Assert.assertEquals(CompletionMatcher.score("get", "getSymbolName"), CompletionMatcher.PREFIX_MATCH);
+        Assert.assertEquals(CompletionMatcher.score("GET", "getSymbolName"),
+                CompletionMatcher.PREFIX_IGNORE_CASE_MATCH);
+        Assert.assertEquals(CompletionMatcher.score("gSN", "getSymbolName"), CompletionMatcher.CAMEL_CASE_MATCH);
+        Assert.assertEquals(CompletionMatcher.score("getSN", "getSymbolName"), CompletionMatcher.CAMEL_CASE_MATCH);
+        Assert.assertEquals(CompletionMatcher.score("ymna", "getSymbolName"), CompletionMatcher.FUZZY_MATCH);
+        Assert.assertEquals(CompletionMatcher.score("xyz", "getSymbolName"), CompletionMatcher.NO_MATCH);
+        Assert.assertEquals(CompletionMatcher.score("", "getSymbolName"), 0);
+    }
+
+    @Test
+    public void testTopKCollector() {
+        TopKCollector<Integer> collector = new TopKCollector<>(3, Comparator.<Integer>naturalOrder());
+        Arrays.asList(5, 1, 9, 3, 7, 2, 8).forEach(collector::offer);
+        Assert.assertEquals(collector.size(), 3);
+        Assert.assertEquals(collector.toSortedList(), Arrays.asList(9, 8, 7));
+    }
+
+    @Test
+    public void testRankItems() {
+        List<CompletionItem> items = new ArrayList<>();
+        items.add(item("string", 7));
+        items.add(item("strLength", 2));
+        items.add(item("sortStrings", 2));
+        items.add(item("str", 6));
+        items.add(item("int", 7));
+
+        List<CompletionItem> ranked = CompletionRanker.rankItems(items, "str", 3);
+        Assert.assertEquals(ranked.size(), 3);
+        // prefix matches rank above fuzzy matches, then by the priority of the resolver
+        Assert.assertEquals(ranked.get(0).getLabel(), "string");
+        Assert.assertEquals(ranked.get(1).getLabel(), "str");
+        Assert.assertEquals(ranked.get(2).getLabel(), "strLength");
+        Assert.assertTrue(ranked.get(0).getSortText() > ranked.get(1).getSortText());
+        Assert.assertTrue(ranked.get(1).getSortText() > ranked.get(2).getSortText());
+    }
+
+    @Test
+    public void testRankItemsWithoutPrefix() {
+        List<CompletionItem> items = new ArrayList<>();
+        items.add(item("b", 2));
+        items.add(item("a", 6));
+
+        List<CompletionItem> ranked = CompletionRanker.rankItems(items, "", CompletionRanker.MAX_ITEMS);
+        Assert.assertEquals(ranked.size(), 2);
+        Assert.assertEquals(ranked.get(0).getLabel(), "a");
+    }
+
+    private static CompletionItem item(String label, int priority) {
+        CompletionItem item = new CompletionItem();
+        item.setLabel(label);
+        item.setSortText(priority);
+        return item;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ballerinalang.composer.service.workspace.langserver.util.completion.resolvers;
+
+import org.ballerinalang.composer.service.workspace.langserver.SymbolInfo;
+import org.ballerinalang.composer.service.workspace.langserver.dto.CompletionItem;
+import org.ballerinalang.composer.service.workspace.util.BuiltInPackageEnvironment;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.semantics.model.Scope;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for the catalogue of the completion items of native symbols.
+ */
+public class CompletionItemCatalogueTest {
+
+    private Scope.ScopeEntry builtInEntry;
+
+    @BeforeClass
+    public void setup() {
+        builtInEntry = BuiltInPackageEnvironment.getInstance().getBuiltInPackage().symbol.scope.entries.values()
+                .iterator().next();
+    }
+
+    @Test
+    public void testItemCopiedFromTemplate() {
+        AtomicInteger computed = new AtomicInteger();
+        SymbolInfo symbolInfo = new SymbolInfo("catalogueTestItem", builtInEntry);
+        CompletionItem first = CompletionItemCatalogue.getInstance().getItem(symbolInfo, symbol -> {
+            computed.incrementAndGet();
+            CompletionItem item = new CompletionItem();
+            item.setLabel(symbol.getSymbolName());
+            item.setSortText(2);
+            return item;
+        });
+        // resolvers modify the items they get, which must not change the template
+        first.setSortText(7);
+        CompletionItem second = CompletionItemCatalogue.getInstance().getItem(symbolInfo, symbol -> {
+            computed.incrementAndGet();
+            return new CompletionItem();
+        });
+        Assert.assertEquals(computed.get(), 1);
+        Assert.assertNotSame(second, first);
+        Assert.assertEquals(second.getLabel(), "catalogueTestItem");
+        Assert.assertEquals(second.getSortText(), 2);
+    }
+
+    @Test
+    public void testSymbolNotSuggested() {
+        AtomicInteger computed = new AtomicInteger();
+        SymbolInfo symbolInfo = new SymbolInfo("catalogueTestNoItem", builtInEntry);
+        Assert.assertNull(CompletionItemCatalogue.getInstance().getItem(symbolInfo, symbol -> {
+            computed.incrementAndGet();
+            return null;
+        }));
+        // a symbol which is not suggested is marked as such, rather than being computed again
+        Assert.assertNull(CompletionItemCatalogue.getInstance().getItem(symbolInfo, symbol -> {
+            computed.incrementAndGet();
+            return new CompletionItem();
+        }));
+        Assert.assertEquals(computed.get(), 1);
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.langserver.util.completion.resolvers;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.parser.antlr4.BallerinaParser;
+
+/**
+ * Tests for the resolver registry of the resolve command executor.
+ */
+public class ResolveCommandExecutorTest {
+
+    @Test
+    public void testBuiltInResolversRegistered() {
+        Assert.assertTrue(ResolveCommandExecutor.getResolvers().get(null) instanceof TopLevelResolver);
+        Assert.assertTrue(ResolveCommandExecutor.getResolvers().get(StatementContextResolver.class)
+                instanceof StatementContextResolver);
+        Assert.assertNotNull(ResolveCommandExecutor.getResolvers().get(BallerinaParser.StatementContext.class));
+    }
+
+    @Test
+    public void testRegistryNotRebuiltByExecutors() {
+        AbstractItemResolver resolver = ResolveCommandExecutor.getResolvers().get(StatementContextResolver.class);
+        new ResolveCommandExecutor();
+        Assert.assertSame(ResolveCommandExecutor.getResolvers().get(StatementContextResolver.class), resolver);
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void testRegistryImmutable() {
+        ResolveCommandExecutor.getResolvers().put(StatementContextResolver.class, new DefaultResolver());
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.langserver.util.positioning;
+
+import org.ballerinalang.compiler.CompilerPhase;
+import org.ballerinalang.composer.service.workspace.langserver.dto.Position;
+import org.ballerinalang.composer.service.workspace.rest.datamodel.BallerinaFile;
+import org.ballerinalang.composer.service.workspace.util.WorkspaceUtils;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.tree.BLangFunction;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.tree.statements.BLangBlockStmt;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+
+import static org.ballerinalang.compiler.CompilerOptionName.COMPILER_PHASE;
+
+/**
+ * Tests for the position index.
+ */
+public class PositionIndexTest {
+
+    private static final String FILE_NAME = "test.bal";
+    private static final String SOURCE = "function main (string[] args) {\n" +
+            "    int a = 1;\n" +
+            "    if (a > 0) {\n" +
+            "        int b = 2;\n" +
+            "    }\n" +
+            "}\n" +
+            "\n" +
+            "function foo () {\n" +
+            "    int c = 3;\n" +
+            "}\n";
+
+    private PositionIndex positionIndex;
+
+    @BeforeClass
+    public void setup() {
+        CompilerContext context = WorkspaceUtils.prepareCompilerContext(FILE_NAME, SOURCE);
+        CompilerOptions.getInstance(context).put(COMPILER_PHASE, CompilerPhase.TYPE_CHECK.toString());
+        BallerinaFile ballerinaFile = WorkspaceUtils.getBallerinaFile(FILE_NAME, context);
+        BLangPackage bLangPackage = ballerinaFile.getBLangPackage();
+        positionIndex = PositionIndex.build(bLangPackage, FILE_NAME);
+    }
+
+    @Test
+    public void testInnermostScope() {
+        PositionIndex.ScopeNode scope = positionIndex.getScopeAt(position(4, 12));
+        Assert.assertTrue(scope.getNode() instanceof BLangBlockStmt);
+        // the if block is enclosed by the body of the function
+        Assert.assertTrue(scope.getParent().getNode() instanceof BLangBlockStmt);
+        Assert.assertTrue(scope.getParent().getParent().getNode() instanceof BLangFunction);
+    }
+
+    @Test
+    public void testTopLevelScope() {
+        PositionIndex.ScopeNode scope = positionIndex.getTopLevelScopeAt(position(9, 8));
+        Assert.assertTrue(scope.getNode() instanceof BLangFunction);
+        Assert.assertEquals(((BLangFunction) scope.getNode()).name.value, "foo");
+    }
+
+    @Test
+    public void testPositionOutsideTopLevelNodes() {
+        Assert.assertNull(positionIndex.getScopeAt(position(7, 0)));
+    }
+
+    private static Position position(int line, int character) {
+        Position position = new Position();
+        position.setLine(line);
+        position.setCharacter(character);
+        return position;
+    }
+}
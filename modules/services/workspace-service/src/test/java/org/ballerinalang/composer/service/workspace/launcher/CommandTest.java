@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.launcher;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import org.apache.commons.io.FileUtils;
+import org.ballerinalang.composer.service.workspace.launcher.dto.MessageDTO;
+import org.ballerinalang.composer.service.workspace.launcher.util.LaunchUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for the launcher commands.
+ */
+public class CommandTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(CommandTest.class);
+
+    private static final Gson GSON = new Gson();
+
+    /**
+     * Upper bound of the launch to first output latency. The runtime of the test starts in a few milliseconds, hence
+     * only a launch which compiles the program, or otherwise blocks, takes this long.
+     */
+    private static final long MAX_LAUNCH_MILLIS = 5000;
+
+    private Path programDir;
+    private Path ballerinaHome;
+    private String previousBallerinaHome;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        programDir = Files.createTempDirectory("program");
+        Path packageDir = Files.createDirectories(programDir.resolve("org").resolve("foo"));
+        Files.write(packageDir.resolve("main.bal"), ("// sample program\npackage org.foo;\n\n" +
+                "function main (string[] args) {\n}\n").getBytes(StandardCharsets.UTF_8));
+        Files.write(programDir.resolve("script.bal"), "function main (string[] args) {\n}\n"
+                .getBytes(StandardCharsets.UTF_8));
+
+        // a runtime which prints its arguments, to time the launch of a program without the runtime bootstrap
+        ballerinaHome = Files.createTempDirectory("ballerina-home");
+        Path bin = Files.createDirectories(ballerinaHome.resolve("bin"));
+        Path script = Files.write(bin.resolve("ballerina"), "#!/bin/sh\necho \"$@\"\n"
+                .getBytes(StandardCharsets.UTF_8));
+        if (!LaunchUtils.isWindows()) {
+            Files.setPosixFilePermissions(script, PosixFilePermissions.fromString("rwxr-xr-x"));
+        }
+        previousBallerinaHome = System.getProperty("ballerina.home");
+        System.setProperty("ballerina.home", ballerinaHome.toString());
+    }
+
+    @AfterClass
+    public void cleanup() throws IOException {
+        if (previousBallerinaHome == null) {
+            System.clearProperty("ballerina.home");
+        } else {
+            System.setProperty("ballerina.home", previousBallerinaHome);
+        }
+        FileUtils.deleteDirectory(programDir.toFile());
+        FileUtils.deleteDirectory(ballerinaHome.toFile());
+    }
+
+    @Test
+    public void testCommandArrayOfPackage() {
+        Command command = new Command("main.bal", programDir.resolve("org").resolve("foo").toString(), false);
+        String[] commandArray = command.getCommandArray();
+
+        Assert.assertEquals(commandArray[1], "run");
+        Assert.assertEquals(commandArray[2], "org" + File.separator + "foo");
+        Assert.assertEquals(command.getPackageDir(), programDir.toString());
+    }
+
+    @Test
+    public void testCommandArrayOfScript() {
+        Command command = new Command("script.bal", programDir.toString(), false);
+        String[] commandArray = command.getCommandArray();
+
+        Assert.assertEquals(commandArray[2], programDir.resolve("script.bal").toString());
+        Assert.assertNull(command.getPackageDir());
+    }
+
+    @Test
+    public void testLaunchToFirstOutputLatency() throws InterruptedException {
+        if (LaunchUtils.isWindows()) {
+            return;
+        }
+        LaunchManager launchManager = new LaunchManager();
+        RecordingChannel channel = new RecordingChannel();
+        launchManager.addLaunchSession(channel, "client");
+        JsonObject run = new JsonObject();
+        run.addProperty("command", LauncherConstants.RUN_PROGRAM);
+        run.addProperty("fileName", "main.bal");
+        run.addProperty("filePath", programDir.resolve("org").resolve("foo").toString());
+        try {
+            long start = System.nanoTime();
+            launchManager.processCommand(channel, run.toString());
+            MessageDTO started = channel.takeMessage();
+            long startedAt = System.nanoTime();
+            MessageDTO output = channel.takeMessage();
+            long firstOutputAt = System.nanoTime();
+
+            Assert.assertEquals(started.getCode(), LauncherConstants.EXECUTION_STARTED);
+            Assert.assertEquals(output.getCode(), LauncherConstants.OUTPUT);
+            Assert.assertEquals(output.getMessage(), "run org" + File.separator + "foo");
+            Assert.assertEquals(output.getProgramId(), LaunchManager.DEFAULT_PROGRAM_ID);
+            long launchMillis = TimeUnit.NANOSECONDS.toMillis(firstOutputAt - start);
+            Assert.assertTrue(launchMillis < MAX_LAUNCH_MILLIS, "launch to first output took " + launchMillis + "ms");
+            logger.info("Launch to first output took " + (firstOutputAt - start) / 1000 + "us, of which starting "
+                    + "the program took " + (startedAt - start) / 1000 + "us");
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Channel which records the messages sent to the client, which are sent from the threads reading the output of
+     * the programs as well.
+     */
+    private static class RecordingChannel extends EmbeddedChannel {
+
+        private final BlockingQueue<MessageDTO> messages = new LinkedBlockingQueue<>();
+
+        @Override
+        public ChannelFuture write(Object message) {
+            return record(message);
+        }
+
+        @Override
+        public ChannelFuture writeAndFlush(Object message) {
+            return record(message);
+        }
+
+        MessageDTO takeMessage() throws InterruptedException {
+            MessageDTO message = messages.poll(MAX_LAUNCH_MILLIS, TimeUnit.MILLISECONDS);
+            Assert.assertNotNull(message, "no message sent within " + MAX_LAUNCH_MILLIS + "ms");
+            return message;
+        }
+
+        private ChannelFuture record(Object message) {
+            messages.add(GSON.fromJson(((TextWebSocketFrame) message).text(), MessageDTO.class));
+            return newSucceededFuture();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.launcher;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.ballerinalang.composer.service.workspace.launcher.dto.MessageDTO;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for the registry of the programs of a launch session.
+ */
+public class LaunchSessionTest {
+
+    @Test
+    public void testProgramsRunConcurrently() {
+        LaunchSession session = new LaunchSession(new EmbeddedChannel(), "client");
+        LaunchedProgram first = createProgram(session, "first");
+        LaunchedProgram second = createProgram(session, "second");
+        session.addProgram(first);
+        session.addProgram(second);
+
+        Assert.assertEquals(session.getPrograms().size(), 2);
+        Assert.assertSame(session.getProgram("first"), first);
+        Assert.assertSame(session.getProgram("second"), second);
+    }
+
+    @Test
+    public void testReplacedProgramIsNotRemoved() {
+        LaunchSession session = new LaunchSession(new EmbeddedChannel(), "client");
+        LaunchedProgram previous = createProgram(session, "main");
+        LaunchedProgram current = createProgram(session, "main");
+        session.addProgram(previous);
+        Assert.assertSame(session.addProgram(current), previous);
+
+        // the streams of the replaced program end after the program is replaced
+        session.removeProgram(previous);
+        Assert.assertSame(session.getProgram("main"), current);
+        session.removeProgram(current);
+        Assert.assertTrue(session.getPrograms().isEmpty());
+    }
+
+    @Test
+    public void testMessagesCarryProgramId() {
+        List<MessageDTO> messages = new ArrayList<>();
+        LaunchedProgram program = new LaunchedProgram("main", new LaunchSession(new EmbeddedChannel(), "client"),
+                new Command("main.bal", "/tmp", false), messages::add);
+        program.getOutputBatcher().add("hello");
+        program.getOutputBatcher().close();
+
+        Assert.assertEquals(messages.size(), 1);
+        Assert.assertEquals(messages.get(0).getProgramId(), "main");
+        Assert.assertEquals(program.createMessage(LauncherConstants.EXECUTION_STARTED, LauncherConstants.INFO, "")
+                .getProgramId(), "main");
+    }
+
+    @Test
+    public void testStoppedProgramSendsNoMessages() {
+        List<MessageDTO> messages = new ArrayList<>();
+        LaunchedProgram program = new LaunchedProgram("main", new LaunchSession(new EmbeddedChannel(), "client"),
+                new Command("main.bal", "/tmp", false), messages::add);
+        program.getOutputBatcher().add("before");
+        program.markStopped();
+        // output still being read after the program is replaced is not taken for output of the new program
+        program.getOutputBatcher().add("after");
+        program.getOutputBatcher().close();
+
+        Assert.assertTrue(program.isStopped());
+        Assert.assertTrue(messages.isEmpty());
+    }
+
+    @Test
+    public void testServicePortOfProgram() {
+        LaunchManager launchManager = new LaunchManager();
+        EmbeddedChannel channel = new EmbeddedChannel();
+        EmbeddedChannel otherChannel = new EmbeddedChannel();
+        launchManager.addLaunchSession(channel, "client");
+        launchManager.addLaunchSession(otherChannel, "other");
+        LaunchSession session = launchManager.getLaunchSession(channel);
+        LaunchSession otherSession = launchManager.getLaunchSession(otherChannel);
+        LaunchedProgram first = createProgram(session, "first");
+        LaunchedProgram second = createProgram(session, "second");
+        LaunchedProgram other = createProgram(otherSession, "first");
+        session.addProgram(first);
+        session.addProgram(second);
+        otherSession.addProgram(other);
+        first.setServicePort("9090");
+        second.setServicePort("9091");
+        other.setServicePort("9092");
+
+        // the service of one program, or client, is not taken for the service of another
+        Assert.assertEquals(launchManager.getPort("client", "first"), "9090");
+        Assert.assertEquals(launchManager.getPort("client", null), "9091");
+        Assert.assertEquals(launchManager.getPort("other", null), "9092");
+        session.removeProgram(second);
+        Assert.assertEquals(launchManager.getPort("client", null), "9090");
+        Assert.assertEquals(launchManager.getPort("unknown", null), "");
+    }
+
+    private static LaunchedProgram createProgram(LaunchSession session, String programId) {
+        return new LaunchedProgram(programId, session, new Command(programId + ".bal", "/tmp", false), message -> { });
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.launcher;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.ballerinalang.composer.service.workspace.launcher.dto.MessageDTO;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for the batching of the output of a program.
+ */
+public class OutputBatcherTest {
+
+    @Test
+    public void testLinesAreCoalesced() {
+        List<MessageDTO> messages = new ArrayList<>();
+        OutputBatcher batcher = new OutputBatcher(new TestChannel(true), LauncherConstants.OUTPUT,
+                LauncherConstants.DATA, messages::add);
+        batcher.add("a");
+        batcher.add("b");
+        batcher.add("c");
+        batcher.close();
+
+        Assert.assertEquals(messages.size(), 1);
+        Assert.assertEquals(messages.get(0).getMessage(), "a\nb\nc");
+        Assert.assertEquals(messages.get(0).getType(), LauncherConstants.DATA);
+    }
+
+    @Test
+    public void testStandaloneLine() {
+        List<MessageDTO> messages = new ArrayList<>();
+        OutputBatcher batcher = new OutputBatcher(new TestChannel(true), LauncherConstants.OUTPUT,
+                LauncherConstants.DATA, messages::add);
+        batcher.add("a");
+        batcher.addStandalone(LauncherConstants.SERVER_CONNECTOR_STARTED_AT_HTTP_LOCAL + " http://localhost:9090");
+        batcher.add("b");
+        batcher.close();
+
+        Assert.assertEquals(messages.size(), 3);
+        Assert.assertEquals(messages.get(0).getMessage(), "a");
+        Assert.assertTrue(messages.get(1).getMessage().endsWith("9090"));
+        Assert.assertEquals(messages.get(2).getMessage(), "b");
+    }
+
+    @Test
+    public void testOldestLinesAreDroppedWhileNotWritable() {
+        List<MessageDTO> messages = new ArrayList<>();
+        TestChannel channel = new TestChannel(false);
+        OutputBatcher batcher = new OutputBatcher(channel, LauncherConstants.OUTPUT, LauncherConstants.DATA,
+                messages::add);
+        for (int i = 0; i < OutputBatcher.MAX_BUFFERED_LINES + 5; i++) {
+            batcher.add("line " + i);
+        }
+        Assert.assertTrue(messages.isEmpty());
+        Assert.assertEquals(batcher.getDroppedLines(), 5);
+
+        batcher.close();
+        Assert.assertEquals(messages.get(0).getMessage(),
+                String.format(LauncherConstants.LINES_DROPPED_MESSAGE, 5));
+        Assert.assertTrue(messages.get(1).getMessage().startsWith("line 5\n"));
+        StringBuilder output = new StringBuilder();
+        messages.stream().skip(1).forEach(message -> output.append(message.getMessage()).append('\n'));
+        Assert.assertTrue(output.toString().endsWith("line " + (OutputBatcher.MAX_BUFFERED_LINES + 4) + "\n"));
+        Assert.assertEquals(batcher.getDroppedLines(), 0);
+    }
+
+    /**
+     * Channel of which the writability is set by the test.
+     */
+    private static class TestChannel extends EmbeddedChannel {
+
+        private final boolean writable;
+
+        TestChannel(boolean writable) {
+            this.writable = writable;
+        }
+
+        @Override
+        public boolean isWritable() {
+            return writable;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.launcher;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Tests for the decoding of the output of a program.
+ */
+public class OutputDecoderTest {
+
+    private static final int CHUNK_SIZE = 8;
+
+    // two, three and four byte characters, of which the bytes are split across chunks
+    private static final List<String> LINES = Arrays.asList("h\u00E9llo w\u00F6rld \u2713 \uD834\uDD1E done",
+            "second line \u65E5\u672C\u8A9E", "last");
+
+    @Test
+    public void testCharactersSplitAcrossChunks() {
+        byte[] output = (LINES.get(0) + "\r\n" + LINES.get(1) + "\n" + LINES.get(2))
+                .getBytes(StandardCharsets.UTF_8);
+        Random random = new Random(0);
+        for (int i = 0; i < 100; i++) {
+            List<String> lines = new ArrayList<>();
+            OutputDecoder decoder = new OutputDecoder(CHUNK_SIZE, lines::add);
+            int offset = 0;
+            while (offset < output.length) {
+                int length = Math.min(output.length - offset, 1 + random.nextInt(CHUNK_SIZE));
+                decoder.decode(Arrays.copyOfRange(output, offset, offset + CHUNK_SIZE), length);
+                offset += length;
+            }
+            decoder.finish();
+            Assert.assertEquals(lines, LINES);
+        }
+    }
+
+    @Test
+    public void testTruncatedCharacterIsReplaced() {
+        List<String> lines = new ArrayList<>();
+        OutputDecoder decoder = new OutputDecoder(CHUNK_SIZE, lines::add);
+        byte[] check = "\u2713".getBytes(StandardCharsets.UTF_8);
+        decoder.decode(check, 2);
+        decoder.finish();
+        Assert.assertEquals(lines, Arrays.asList("\uFFFD"));
+    }
+}
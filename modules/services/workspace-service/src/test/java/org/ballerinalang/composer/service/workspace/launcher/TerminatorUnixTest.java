@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.launcher;
+
+import org.ballerinalang.composer.service.workspace.launcher.util.LaunchUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for terminating the processes of a program on Unix.
+ */
+public class TerminatorUnixTest {
+
+    @Test
+    public void testOnlyProcessTreeOfProgramIsKilled() throws Exception {
+        if (LaunchUtils.isWindows()) {
+            return;
+        }
+        // a program of another session
+        Process otherProgram = new ProcessBuilder("sleep", "60").start();
+        // a program which starts a child process, as the ballerina command starts the runtime
+        Process program = new ProcessBuilder("sh", "-c", "sleep 60 & echo $!; wait").start();
+        try {
+            long childProcessID;
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(program.getInputStream(),
+                    StandardCharsets.UTF_8))) {
+                childProcessID = Long.parseLong(reader.readLine().trim());
+                Command command = new Command("main.bal", "/tmp", false);
+                command.setProgram(program);
+                new TerminatorUnix(command).terminate();
+
+                Assert.assertTrue(program.waitFor(10, TimeUnit.SECONDS));
+            }
+            Assert.assertFalse(isAlive(childProcessID), "child process is not terminated");
+            Assert.assertTrue(otherProgram.isAlive(), "program of another session is terminated");
+        } finally {
+            program.destroyForcibly();
+            otherProgram.destroyForcibly();
+        }
+    }
+
+    private static boolean isAlive(long processID) throws IOException, InterruptedException {
+        long deadline = System.currentTimeMillis() + 10000;
+        // a killed process exists until its parent reaps it, which is not immediate once the parent is killed too
+        while (System.currentTimeMillis() < deadline) {
+            Process check = Runtime.getRuntime().exec(new String[]{"sh", "-c",
+                    "ps -o stat= -p " + processID + " | grep -v Z"});
+            if (check.waitFor() != 0) {
+                return false;
+            }
+            Thread.sleep(50);
+        }
+        return true;
+    }
+}
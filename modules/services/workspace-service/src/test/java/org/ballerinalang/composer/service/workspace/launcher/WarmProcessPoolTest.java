@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.launcher;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.ballerinalang.composer.service.workspace.launcher.util.LaunchUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.logging.LogManager;
+
+/**
+ * Tests for the pool of pre-started runtime processes.
+ */
+public class WarmProcessPoolTest {
+
+    private static final long TIMEOUT_MILLIS = 10000;
+
+    private static final String[] COMMAND_ARRAY = {"ballerina", "run", "org/foo", "first arg", "sec\u00F6nd=arg&"};
+
+    @Test
+    public void testArgumentsRoundTrip() throws IOException {
+        String request = WarmRuntime.encodeArguments(new String[]{"run", "a b", "", "c+d%", ""});
+        Assert.assertFalse(request.contains("\n"));
+        Assert.assertEquals(WarmRuntime.decodeArguments(request), new String[]{"run", "a b", "", "c+d%", ""});
+    }
+
+    @Test
+    public void testProgramHandedOverInDirectory() throws Exception {
+        if (LaunchUtils.isWindows()) {
+            return;
+        }
+        File firstDir = Files.createTempDirectory("first").toFile();
+        File secondDir = Files.createTempDirectory("second").toFile();
+        // a runtime which prints its directory and the program it receives
+        WarmProcessPool pool = new WarmProcessPool(1, workingDir -> new ProcessBuilder("sh", "-c",
+                "read request; pwd; echo \"$request\"").directory(workingDir));
+        try {
+            pool.prestart(firstDir);
+            Process process = takeWithin(pool, firstDir);
+            assertOutput(process, firstDir);
+
+            // a program in another directory is not run by the pool, but moves the pool to its directory
+            Assert.assertNull(pool.take(COMMAND_ARRAY, secondDir));
+            process = takeWithin(pool, secondDir);
+            assertOutput(process, secondDir);
+        } finally {
+            pool.close();
+        }
+    }
+
+    @Test
+    public void testWarmRunMatchesColdRun() throws Exception {
+        if (LaunchUtils.isWindows()) {
+            return;
+        }
+        Path ballerinaHome = Files.createTempDirectory("ballerina-home");
+        File programDir = Files.createTempDirectory("program").toFile();
+        // a ballerina command which sets JVM options, system properties and a log manager of the runtime, of which
+        // the runtime prints what it got
+        Path ballerina = Files.createDirectories(ballerinaHome.resolve("bin")).resolve("ballerina");
+        Files.write(ballerina, String.join("\n",
+                "#!/bin/sh",
+                "exec \"$JAVA_HOME/bin/java\" -Xss2m $JAVA_OPTS -Dballerina.home=\"$BALLERINA_HOME\" \\",
+                "    -Djava.util.logging.manager='" + RuntimeLogManager.class.getName() + "' \\",
+                "    -classpath '" + System.getProperty("java.class.path") + "' \\",
+                "    '" + RuntimeMain.class.getName() + "' \"$@\"",
+                "").getBytes(StandardCharsets.UTF_8));
+        Files.setPosixFilePermissions(ballerina, PosixFilePermissions.fromString("rwxr-xr-x"));
+        String[] commandArray = {ballerina.toString(), "run", "org/foo", "first arg"};
+        System.setProperty(WarmProcessPool.SYS_RUNTIME_MAIN_CLASS, RuntimeMain.class.getName());
+        WarmProcessPool pool = new WarmProcessPool(1, workingDir -> createProcessBuilder(
+                new String[]{ballerina.toString()}, workingDir, ballerinaHome));
+        try {
+            Process cold = createProcessBuilder(commandArray, programDir, ballerinaHome).start();
+            String coldOutput = IOUtils.toString(cold.getInputStream(), StandardCharsets.UTF_8);
+
+            pool.prestart(programDir);
+            Process warm = takeWithin(pool, commandArray, programDir);
+            String warmOutput = IOUtils.toString(warm.getInputStream(), StandardCharsets.UTF_8);
+
+            Assert.assertTrue(coldOutput.contains(RuntimeLogManager.class.getName()), coldOutput);
+            Assert.assertEquals(warmOutput, coldOutput);
+        } finally {
+            pool.close();
+            System.clearProperty(WarmProcessPool.SYS_RUNTIME_MAIN_CLASS);
+            FileUtils.deleteDirectory(ballerinaHome.toFile());
+            FileUtils.deleteDirectory(programDir);
+        }
+    }
+
+    @Test
+    public void testDisabledPool() {
+        WarmProcessPool pool = new WarmProcessPool(0, workingDir -> new ProcessBuilder("ballerina"));
+        Assert.assertFalse(pool.isEnabled());
+        Assert.assertNull(pool.take(COMMAND_ARRAY, null));
+    }
+
+    private static Process takeWithin(WarmProcessPool pool, File workingDir) throws InterruptedException {
+        return takeWithin(pool, COMMAND_ARRAY, workingDir);
+    }
+
+    private static Process takeWithin(WarmProcessPool pool, String[] commandArray, File workingDir)
+            throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        Process process = pool.take(commandArray, workingDir);
+        while (process == null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            process = pool.take(commandArray, workingDir);
+        }
+        Assert.assertNotNull(process, "no warm process in " + workingDir);
+        return process;
+    }
+
+    private static void assertOutput(Process process, File workingDir) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(),
+                StandardCharsets.UTF_8))) {
+            Assert.assertEquals(new File(reader.readLine()).getCanonicalFile(), workingDir.getCanonicalFile());
+            Assert.assertEquals(WarmRuntime.decodeArguments(reader.readLine()),
+                    new String[]{"run", "org/foo", "first arg", "sec\u00F6nd=arg&"});
+        }
+    }
+
+    /**
+     * Creates the process builder of the ballerina command, with the environment the launch manager sets.
+     */
+    private static ProcessBuilder createProcessBuilder(String[] commandArray, File workingDir, Path ballerinaHome) {
+        ProcessBuilder processBuilder = new ProcessBuilder(commandArray).directory(workingDir);
+        processBuilder.environment().put("BALLERINA_HOME", ballerinaHome.toString());
+        processBuilder.environment().put("JAVA_HOME", System.getProperty("java.home"));
+        processBuilder.environment().put("JAVA_OPTS", "-Dfile.encoding=UTF-8");
+        return processBuilder;
+    }
+
+    /**
+     * Main class of the runtime of the test, which prints how it is run.
+     */
+    public static class RuntimeMain {
+
+        public static void main(String[] args) {
+            System.out.println("log manager: " + LogManager.getLogManager().getClass().getName());
+            System.out.println("class loader: " + (RuntimeMain.class.getClassLoader()
+                    == ClassLoader.getSystemClassLoader() ? "system" : RuntimeMain.class.getClassLoader()));
+            System.out.println("JVM options: " + ManagementFactory.getRuntimeMXBean().getInputArguments());
+            System.out.println("ballerina.home: " + System.getProperty("ballerina.home"));
+            System.out.println("file.encoding: " + System.getProperty("file.encoding"));
+            System.out.println("working directory: " + Paths.get("").toAbsolutePath());
+            System.out.println("arguments: " + Arrays.toString(args));
+        }
+    }
+
+    /**
+     * Log manager of the runtime of the test, which is loaded from the class path of the runtime at JVM startup.
+     */
+    public static class RuntimeLogManager extends LogManager {
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.launcher.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+
+/**
+ * Tests for the utility functions used by the launcher.
+ */
+public class LaunchUtilsTest {
+
+    @Test
+    public void testCpuTimeOfRunningProcess() throws IOException, InterruptedException {
+        if (LaunchUtils.isWindows() || !LaunchUtils.isCpuTimeAvailable()) {
+            return;
+        }
+        // the CPU time is used by a child of the process, as the runtime started by the ballerina command is
+        Process process = new ProcessBuilder("sh", "-c",
+                "sh -c 'i=0; while [ $i -lt 100000 ]; do i=$((i+1)); done'; sleep 5").start();
+        try {
+            long cpuTimeMillis = -1;
+            for (int i = 0; i < 100 && cpuTimeMillis <= 0; i++) {
+                Thread.sleep(100);
+                cpuTimeMillis = LaunchUtils.getCpuTimeMillis(process);
+            }
+            Assert.assertTrue(cpuTimeMillis > 0, "CPU time " + cpuTimeMillis + "ms");
+        } finally {
+            process.destroy();
+        }
+    }
+
+    @Test
+    public void testCpuTimeOfExitedProcess() throws IOException, InterruptedException {
+        if (LaunchUtils.isWindows()) {
+            return;
+        }
+        Process process = new ProcessBuilder("true").start();
+        process.waitFor();
+        Assert.assertEquals(LaunchUtils.getCpuTimeMillis(process), -1);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.launcher.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Tests for reading the package declaration of a Ballerina file.
+ */
+public class PackageDeclarationReaderTest {
+
+    @Test
+    public void testPackageDeclaration() {
+        Assert.assertEquals(PackageDeclarationReader.getPackageNameComponents("package org.foo.bar;\n\n" +
+                "function main (string[] args) {\n}\n"), Arrays.asList("org", "foo", "bar"));
+    }
+
+    @Test
+    public void testPackageDeclarationAfterComments() {
+        Assert.assertEquals(PackageDeclarationReader.getPackageNameComponents("// package commented.out;\n" +
+                "package  foo ;\n"), Collections.singletonList("foo"));
+    }
+
+    @Test
+    public void testNoPackageDeclaration() {
+        Assert.assertTrue(PackageDeclarationReader.getPackageNameComponents("import ballerina.io;\n\n" +
+                "// package foo;\nfunction main (string[] args) {\n}\n").isEmpty());
+        Assert.assertTrue(PackageDeclarationReader.getPackageNameComponents("").isEmpty());
+    }
+
+    @Test
+    public void testMalformedPackageDeclaration() {
+        Assert.assertTrue(PackageDeclarationReader.getPackageNameComponents("package foo.;\n").isEmpty());
+        Assert.assertTrue(PackageDeclarationReader.getPackageNameComponents("package foo\n").isEmpty());
+    }
+}
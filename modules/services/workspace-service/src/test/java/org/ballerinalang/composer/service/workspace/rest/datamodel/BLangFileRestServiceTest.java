@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.rest.datamodel;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for coalescing validations in the Ballerina file REST service.
+ */
+public class BLangFileRestServiceTest {
+
+    @Test
+    public void testValidationsOfSameDocumentCoalesced() {
+        Assert.assertEquals(BLangFileRestService.getValidationKey("local", file("a.bal", "first", "editor")),
+                BLangFileRestService.getValidationKey("local", file("a.bal", "second", "editor")));
+    }
+
+    @Test
+    public void testValidationsOfDifferentDocumentsNotCoalesced() {
+        String key = BLangFileRestService.getValidationKey("local", file("a.bal", "content", "editor"));
+        Assert.assertNotEquals(BLangFileRestService.getValidationKey("local", file("a.bal", "content", "other")),
+                key);
+        Assert.assertNotEquals(BLangFileRestService.getValidationKey("remote", file("a.bal", "content", "editor")),
+                key);
+        Assert.assertNotEquals(BLangFileRestService.getValidationKey("local", file("b.bal", "content", "editor")),
+                key);
+    }
+
+    @Test
+    public void testValidationsWithoutDocumentCoalescedOnlyForSameContent() {
+        Assert.assertEquals(BLangFileRestService.getValidationKey("local", file("untitle", "content", null)),
+                BLangFileRestService.getValidationKey("local", file("untitle", "content", null)));
+        Assert.assertNotEquals(BLangFileRestService.getValidationKey("local", file("untitle", "first", null)),
+                BLangFileRestService.getValidationKey("local", file("untitle", "second", null)));
+        Assert.assertNotEquals(BLangFileRestService.getValidationKey("local", file("untitle", "editor", null)),
+                BLangFileRestService.getValidationKey("local", file("untitle", "", "editor")));
+    }
+
+    private static BFile file(String fileName, String content, String documentId) {
+        BFile bFile = new BFile();
+        bFile.setFilePath("/temp");
+        bFile.setFileName(fileName);
+        bFile.setContent(content);
+        bFile.setDocumentId(documentId);
+        return bFile;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.rest.datamodel;
+
+import org.apache.commons.io.FileUtils;
+import org.ballerinalang.model.elements.PackageID;
+import org.ballerinalang.repository.PackageEntity;
+import org.ballerinalang.repository.PackageSource;
+import org.ballerinalang.repository.PackageSourceEntry;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.util.Name;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Tests for the package repository serving unsaved content of a file.
+ */
+public class DirtyContentPackageRepositoryTest {
+
+    private static final String SAVED_FIRST_FILE = "package org.foo;\n\nfunction first() {}\n";
+    private static final String SAVED_SECOND_FILE = "package org.foo;\n\nfunction second() {}\n";
+    private static final String DIRTY_CONTENT = "package org.foo;\n\nfunction dirty() {}\n";
+
+    private Path programDir;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        programDir = Files.createTempDirectory("program");
+        Path packageDir = Files.createDirectories(programDir.resolve("org").resolve("foo"));
+        Files.write(packageDir.resolve("first.bal"), SAVED_FIRST_FILE.getBytes(StandardCharsets.UTF_8));
+        Files.write(packageDir.resolve("second.bal"), SAVED_SECOND_FILE.getBytes(StandardCharsets.UTF_8));
+        Files.write(programDir.resolve("main.bal"), "function main(string[] args) {}\n"
+                .getBytes(StandardCharsets.UTF_8));
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(programDir.toFile());
+    }
+
+    @Test
+    public void testEditedFileReplacedInPackage() {
+        DirtyContentPackageRepository repository = new DirtyContentPackageRepository(programDir, "org.foo",
+                "first.bal", DIRTY_CONTENT.getBytes(StandardCharsets.UTF_8));
+        Map<String, String> sources = loadSources(repository, "org", "foo");
+        Assert.assertEquals(sources.size(), 2);
+        Assert.assertEquals(sources.get("first.bal"), DIRTY_CONTENT);
+        Assert.assertEquals(sources.get("second.bal"), SAVED_SECOND_FILE);
+    }
+
+    @Test
+    public void testUnsavedFileAddedToPackage() {
+        DirtyContentPackageRepository repository = new DirtyContentPackageRepository(programDir, "org.foo",
+                "third.bal", DIRTY_CONTENT.getBytes(StandardCharsets.UTF_8));
+        Map<String, String> sources = loadSources(repository, "org", "foo");
+        Assert.assertEquals(sources.size(), 3);
+        Assert.assertEquals(sources.get("first.bal"), SAVED_FIRST_FILE);
+        Assert.assertEquals(sources.get("third.bal"), DIRTY_CONTENT);
+    }
+
+    @Test
+    public void testEditedFileOutsidePackage() {
+        String dirty = "function main(string[] args) { }\n";
+        DirtyContentPackageRepository repository = new DirtyContentPackageRepository(programDir, "main.bal",
+                "main.bal", dirty.getBytes(StandardCharsets.UTF_8));
+        Map<String, String> sources = loadSources(repository, "main.bal");
+        Assert.assertEquals(sources.size(), 1);
+        Assert.assertEquals(sources.get("main.bal"), dirty);
+    }
+
+    @Test
+    public void testOtherPackagesServedFromDisk() throws IOException {
+        Path otherDir = Files.createDirectories(programDir.resolve("org").resolve("bar"));
+        Files.write(otherDir.resolve("first.bal"), "package org.bar;\n".getBytes(StandardCharsets.UTF_8));
+        DirtyContentPackageRepository repository = new DirtyContentPackageRepository(programDir, "org.foo",
+                "first.bal", DIRTY_CONTENT.getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals(loadSources(repository, "org", "bar").get("first.bal"), "package org.bar;\n");
+    }
+
+    private static Map<String, String> loadSources(DirtyContentPackageRepository repository, String... names) {
+        PackageEntity entity = repository.loadPackage(new PackageID(Arrays.stream(names).map(Name::new)
+                .collect(Collectors.toList()), new Name("0.0.0")));
+        Assert.assertTrue(entity instanceof PackageSource);
+        Map<String, String> sources = new HashMap<>();
+        for (PackageSourceEntry entry : ((PackageSource) entity).getPackageSourceEntries()) {
+            sources.put(entry.getEntryName(), new String(entry.getCode(), StandardCharsets.UTF_8));
+        }
+        return sources;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+
+package org.ballerinalang.composer.service.workspace.rest.datamodel;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.tree.BLangFunction;
+import org.wso2.ballerinalang.compiler.tree.BLangIdentifier;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Tests for the cached node property accessors used by the JSON model.
+ */
+public class NodePropertyAccessorsTest {
+
+    @Test
+    public void testPropertiesAreResolvedOncePerClass() {
+        List<NodePropertyAccessors.NodeProperty> first = NodePropertyAccessors.getProperties(BLangFunction.class);
+        List<NodePropertyAccessors.NodeProperty> second = NodePropertyAccessors.getProperties(BLangFunction.class);
+        Assert.assertSame(first, second);
+    }
+
+    @Test
+    public void testPropertyNames() {
+        Set<String> names = NodePropertyAccessors.getProperties(BLangFunction.class).stream()
+                .map(NodePropertyAccessors.NodeProperty::getJsonName)
+                .collect(Collectors.toSet());
+        Assert.assertTrue(names.contains("name"));
+        Assert.assertTrue(names.contains("kind"));
+        Assert.assertFalse(names.contains("wS"));
+        Assert.assertFalse(names.contains("position"));
+    }
+
+    @Test
+    public void testPropertyValue() {
+        BLangFunction function = new BLangFunction();
+        BLangIdentifier name = new BLangIdentifier();
+        name.setValue("foo");
+        function.setName(name);
+        Object value = NodePropertyAccessors.getProperties(BLangFunction.class).stream()
+                .filter(property -> "name".equals(property.getJsonName()))
+                .findFirst().get().get(function);
+        Assert.assertSame(value, name);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.util;
+
+import com.google.gson.JsonParser;
+import org.ballerinalang.composer.service.workspace.langserver.model.Function;
+import org.ballerinalang.composer.service.workspace.langserver.model.ModelPackage;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests for the catalogue of native packages.
+ */
+public class BuiltInPackageCatalogueTest {
+
+    @Test
+    public void testIndexedNamesMatchLoadedPackages() {
+        BuiltInPackageCatalogue catalogue = BuiltInPackageCatalogue.getInstance();
+        List<String> packageNames = catalogue.getPackageNames();
+        Assert.assertFalse(packageNames.isEmpty());
+        for (String packageName : catalogue.getPackages().keySet()) {
+            Assert.assertTrue(packageNames.contains(packageName), packageName + " is not indexed");
+            Assert.assertTrue(catalogue.isNativePackage(packageName), packageName + " is not native");
+        }
+    }
+
+    @Test
+    public void testSymbolNamesIndexed() {
+        BuiltInPackageCatalogue catalogue = BuiltInPackageCatalogue.getInstance();
+        Map<String, List<String>> symbolNames = catalogue.getSymbolNames();
+        Assert.assertEquals(new ArrayList<>(symbolNames.keySet()), catalogue.getPackageNames());
+        String builtInPackageName = BuiltInPackageEnvironment.getInstance().getBuiltInPackageName();
+        ModelPackage builtInPackage = catalogue.getPackage(builtInPackageName);
+        Assert.assertNotNull(builtInPackage);
+        for (Function function : builtInPackage.getFunctions()) {
+            Assert.assertTrue(symbolNames.get(builtInPackageName).contains(function.getName()),
+                    function.getName() + " is not indexed");
+        }
+    }
+
+    @Test
+    public void testPackageLoadedSingly() {
+        BuiltInPackageCatalogue catalogue = BuiltInPackageCatalogue.getInstance();
+        String packageName = catalogue.getPackageNames().stream()
+                .filter(name -> !catalogue.getSymbolNames().get(name).isEmpty())
+                .filter(name -> !name.equals(BuiltInPackageEnvironment.getInstance().getBuiltInPackageName()))
+                .findFirst().get();
+        ModelPackage modelPackage = catalogue.getPackage(packageName);
+        Assert.assertNotNull(modelPackage);
+        Assert.assertEquals(modelPackage.getName(), packageName);
+        Assert.assertSame(catalogue.getPackage(packageName), modelPackage);
+        Assert.assertNull(catalogue.getPackage("org.foo"));
+    }
+
+    @Test
+    public void testBuiltInPackageIsNative() {
+        BuiltInPackageCatalogue catalogue = BuiltInPackageCatalogue.getInstance();
+        String builtInPackageName = BuiltInPackageEnvironment.getInstance().getBuiltInPackageName();
+        Assert.assertTrue(catalogue.getPackageNames().contains(builtInPackageName));
+        Assert.assertTrue(catalogue.isNativePackage(builtInPackageName + ".core"));
+        Assert.assertFalse(catalogue.isNativePackage("org.foo"));
+    }
+
+    @Test
+    public void testPackagesSerializedOnce() {
+        BuiltInPackageCatalogue catalogue = BuiltInPackageCatalogue.getInstance();
+        String packagesJson = catalogue.getPackagesJson();
+        Assert.assertSame(catalogue.getPackagesJson(), packagesJson);
+        Assert.assertEquals(new JsonParser().parse(packagesJson).getAsJsonArray().size(),
+                catalogue.getPackages().size());
+    }
+}
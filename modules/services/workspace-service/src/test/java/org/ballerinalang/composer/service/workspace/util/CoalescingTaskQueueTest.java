@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for the coalescing task queue.
+ */
+public class CoalescingTaskQueueTest {
+
+    @Test
+    public void testSequentialTasksRun() {
+        CoalescingTaskQueue<String> queue = new CoalescingTaskQueue<>(0);
+        Assert.assertEquals(queue.submit("a.bal", ticket -> "first"), "first");
+        Assert.assertEquals(queue.submit("a.bal", ticket -> "second"), "second");
+        Assert.assertEquals(queue.size(), 0);
+    }
+
+    @Test
+    public void testSupersededTasksGetLatestResult() throws Exception {
+        CountDownLatch queued = new CountDownLatch(3);
+        CoalescingTaskQueue<String> queue = new CoalescingTaskQueue<String>(0) {
+            @Override
+            void registered(String key) {
+                queued.countDown();
+            }
+        };
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            Future<String> first = executor.submit(() -> queue.submit("a.bal", ticket -> {
+                runs.incrementAndGet();
+                running.countDown();
+                await(release);
+                ticket.checkSuperseded();
+                return "first";
+            }));
+            Assert.assertTrue(running.await(5, TimeUnit.SECONDS));
+            Future<String> second = executor.submit(() -> queue.submit("a.bal", ticket -> {
+                runs.incrementAndGet();
+                return "later";
+            }));
+            Future<String> third = executor.submit(() -> queue.submit("a.bal", ticket -> {
+                runs.incrementAndGet();
+                return "later";
+            }));
+            // both later tasks are queued while the first task is still running
+            Assert.assertTrue(queued.await(5, TimeUnit.SECONDS));
+            release.countDown();
+
+            Assert.assertEquals(first.get(5, TimeUnit.SECONDS), "later");
+            Assert.assertEquals(second.get(5, TimeUnit.SECONDS), "later");
+            Assert.assertEquals(third.get(5, TimeUnit.SECONDS), "later");
+            // the first task and only the latest of the later tasks run
+            Assert.assertEquals(runs.get(), 2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testTasksOfDifferentKeysAreIndependent() throws Exception {
+        CoalescingTaskQueue<String> queue = new CoalescingTaskQueue<>(0);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = executor.submit(() -> queue.submit("a.bal", ticket -> {
+                running.countDown();
+                await(release);
+                return "a";
+            }));
+            Assert.assertTrue(running.await(5, TimeUnit.SECONDS));
+            Assert.assertEquals(queue.submit("b.bal", ticket -> "b"), "b");
+            release.countDown();
+            Assert.assertEquals(first.get(5, TimeUnit.SECONDS), "a");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testTaskFailureIsPropagated() {
+        new CoalescingTaskQueue<String>(0).submit("a.bal", ticket -> {
+            throw new IllegalStateException("failed");
+        });
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.util;
+
+import org.ballerinalang.compiler.CompilerPhase;
+import org.ballerinalang.composer.service.workspace.rest.datamodel.BallerinaFile;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the compilation cache.
+ */
+public class CompilationCacheTest {
+
+    @Test
+    public void testHitForSameContent() {
+        CompilationCache cache = new CompilationCache(4, 1024);
+        BallerinaFile first = cache.get("a.bal", "function main() {}", CompilerPhase.CODE_ANALYZE,
+                BallerinaFile::new);
+        BallerinaFile second = cache.get("a.bal", "function main() {}", CompilerPhase.CODE_ANALYZE,
+                BallerinaFile::new);
+        Assert.assertSame(second, first);
+        Assert.assertEquals(cache.getHitCount(), 1);
+        Assert.assertEquals(cache.getMissCount(), 1);
+    }
+
+    @Test
+    public void testMissForDifferentKey() {
+        CompilationCache cache = new CompilationCache(4, 1024);
+        BallerinaFile file = cache.get("a.bal", "function main() {}", CompilerPhase.CODE_ANALYZE,
+                BallerinaFile::new);
+        Assert.assertNotSame(cache.get("a.bal", "function main() {}", CompilerPhase.DEFINE, BallerinaFile::new),
+                file);
+        Assert.assertNotSame(cache.get("b.bal", "function main() {}", CompilerPhase.CODE_ANALYZE,
+                BallerinaFile::new), file);
+        Assert.assertNotSame(cache.get("a.bal", "function main() { }", CompilerPhase.CODE_ANALYZE,
+                BallerinaFile::new), file);
+        Assert.assertEquals(cache.getMissCount(), 4);
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        CompilationCache cache = new CompilationCache(2, 1024);
+        BallerinaFile a = cache.get("a.bal", "a", CompilerPhase.DEFINE, BallerinaFile::new);
+        cache.get("b.bal", "b", CompilerPhase.DEFINE, BallerinaFile::new);
+        // touch a, so b becomes the eldest entry
+        cache.get("a.bal", "a", CompilerPhase.DEFINE, BallerinaFile::new);
+        cache.get("c.bal", "c", CompilerPhase.DEFINE, BallerinaFile::new);
+        Assert.assertEquals(cache.size(), 2);
+        Assert.assertEquals(cache.getEvictionCount(), 1);
+        Assert.assertSame(cache.get("a.bal", "a", CompilerPhase.DEFINE, BallerinaFile::new), a);
+    }
+
+    @Test
+    public void testSourceSizeLimit() {
+        CompilationCache cache = new CompilationCache(8, 10);
+        cache.get("a.bal", "12345678", CompilerPhase.DEFINE, BallerinaFile::new);
+        cache.get("b.bal", "12345678", CompilerPhase.DEFINE, BallerinaFile::new);
+        Assert.assertEquals(cache.size(), 1);
+        Assert.assertEquals(cache.getSourceBytes(), 8);
+        // content larger than the limit is never cached
+        cache.get("c.bal", "12345678901", CompilerPhase.DEFINE, BallerinaFile::new);
+        Assert.assertEquals(cache.size(), 1);
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for the compiler executor.
+ */
+public class CompilerExecutorTest {
+
+    @Test
+    public void testRunsTask() {
+        CompilerExecutor executor = new CompilerExecutor(1, 1, 1, 1);
+        try {
+            Assert.assertEquals(executor.execute("client", () -> "compiled"), "compiled");
+            Assert.assertEquals(executor.getRejectedCount(), 0);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void testPropagatesTaskException() throws IOException {
+        CompilerExecutor executor = new CompilerExecutor(1, 1, 1, 1);
+        try {
+            executor.execute("client", () -> {
+                throw new IOException("failed");
+            });
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testRejectsClientOverLimit() throws Exception {
+        CompilerExecutor executor = new CompilerExecutor(2, 4, 1, 3);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService clients = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> first = clients.submit(() -> executor.execute("client", () -> {
+                running.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return "first";
+            }));
+            Assert.assertTrue(running.await(5, TimeUnit.SECONDS));
+            try {
+                executor.execute("client", () -> "second");
+                Assert.fail("Compilation over the client limit was accepted");
+            } catch (CompilerOverloadedException e) {
+                Assert.assertEquals(e.getReason(), CompilerOverloadedException.Reason.CLIENT_LIMIT);
+                Assert.assertEquals(e.getRetryAfterSeconds(), 3);
+            }
+            // other clients are not affected by the limit of a single client
+            Assert.assertEquals(executor.execute("other", () -> "other"), "other");
+            release.countDown();
+            Assert.assertEquals(first.get(5, TimeUnit.SECONDS), "first");
+            Assert.assertEquals(executor.getRejectedCount(), 1);
+        } finally {
+            clients.shutdownNow();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testInterruptedCallerKeepsClientSlot() throws Exception {
+        CompilerExecutor executor = new CompilerExecutor(2, 4, 1, 1);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        ExecutorService clients = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> first = clients.submit(() -> executor.execute("client", () -> {
+                running.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } finally {
+                    finished.countDown();
+                }
+                return "first";
+            }));
+            Assert.assertTrue(running.await(5, TimeUnit.SECONDS));
+            // the caller gives up waiting, but the task still runs on a compiler thread
+            first.cancel(true);
+            try {
+                executor.execute("client", () -> "second");
+                Assert.fail("Compilation over the client limit was accepted");
+            } catch (CompilerOverloadedException e) {
+                Assert.assertEquals(e.getReason(), CompilerOverloadedException.Reason.CLIENT_LIMIT);
+            }
+            release.countDown();
+            Assert.assertTrue(finished.await(5, TimeUnit.SECONDS));
+            long deadline = System.currentTimeMillis() + 5000;
+            while (executor.getPendingCount("client") > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            Assert.assertEquals(executor.execute("client", () -> "third"), "third");
+        } finally {
+            clients.shutdownNow();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testRejectsWhenQueueIsFull() throws Exception {
+        CompilerExecutor executor = new CompilerExecutor(1, 1, 4, 1);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService clients = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = clients.submit(() -> executor.execute("a", () -> {
+                running.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return "first";
+            }));
+            Assert.assertTrue(running.await(5, TimeUnit.SECONDS));
+            Future<String> second = clients.submit(() -> executor.execute("b", () -> "second"));
+            // wait for the second task to occupy the queue
+            long deadline = System.currentTimeMillis() + 5000;
+            while (executor.getQueueDepth() == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            try {
+                executor.execute("c", () -> "third");
+                Assert.fail("Compilation was accepted with a full queue");
+            } catch (CompilerOverloadedException e) {
+                Assert.assertEquals(e.getReason(), CompilerOverloadedException.Reason.QUEUE_FULL);
+            }
+            release.countDown();
+            Assert.assertEquals(first.get(5, TimeUnit.SECONDS), "first");
+            Assert.assertEquals(second.get(5, TimeUnit.SECONDS), "second");
+        } finally {
+            clients.shutdownNow();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testClientCountReleasedByConcurrentTasks() throws Exception {
+        int clientThreads = 4;
+        CompilerExecutor executor = new CompilerExecutor(clientThreads, clientThreads, clientThreads, 1);
+        ExecutorService clients = Executors.newFixedThreadPool(clientThreads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < clientThreads; i++) {
+                results.add(clients.submit(() -> {
+                    start.await(5, TimeUnit.SECONDS);
+                    int completed = 0;
+                    for (int j = 0; j < 500; j++) {
+                        executor.execute("client", () -> null);
+                        completed++;
+                    }
+                    return completed;
+                }));
+            }
+            start.countDown();
+            // a client never has more tasks pending than threads sending them, so none of them is rejected
+            for (Future<Integer> result : results) {
+                Assert.assertEquals(result.get(30, TimeUnit.SECONDS).intValue(), 500);
+            }
+            Assert.assertEquals(executor.getRejectedCount(), 0);
+            Assert.assertEquals(executor.getPendingCount("client"), 0);
+        } finally {
+            clients.shutdownNow();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testSubmitsTaskWithoutWaiting() throws Exception {
+        CompilerExecutor executor = new CompilerExecutor(1, 1, 1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            CompletableFuture<String> first = executor.submit("client", () -> {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "first";
+            });
+            Assert.assertFalse(first.isDone());
+            // the rejection of a task over the client limit completes its future
+            CompletableFuture<String> second = executor.submit("client", () -> "second");
+            try {
+                second.get(5, TimeUnit.SECONDS);
+                Assert.fail("Compilation over the client limit was accepted");
+            } catch (ExecutionException e) {
+                Assert.assertTrue(e.getCause() instanceof CompilerOverloadedException);
+            }
+            // a task cancelled while queued is not run
+            CompletableFuture<String> queued = executor.submit("other", () -> {
+                throw new IllegalStateException("cancelled task was run");
+            });
+            queued.cancel(true);
+            release.countDown();
+            Assert.assertEquals(first.get(5, TimeUnit.SECONDS), "first");
+            Assert.assertEquals(executor.submit("other", () -> "third").get(5, TimeUnit.SECONDS), "third");
+            Assert.assertTrue(queued.isCancelled());
+            Assert.assertEquals(executor.getPendingCount("client"), 0);
+            Assert.assertEquals(executor.getPendingCount("other"), 0);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testClientIdFromRemoteAddress() {
+        InetSocketAddress remoteAddress = new InetSocketAddress(InetAddress.getLoopbackAddress(), 9090);
+        // the header is set by the client itself unless the workspace is told to trust a proxy
+        Assert.assertEquals(CompilerExecutor.getClientId(remoteAddress, "10.0.0.1"),
+                InetAddress.getLoopbackAddress().getHostAddress());
+        Assert.assertEquals(CompilerExecutor.getClientId(null, null), "local");
+    }
+
+    @Test
+    public void testClientIdFromTrustedProxy() {
+        System.setProperty(CompilerExecutor.SYS_TRUST_FORWARDED_FOR, "true");
+        try {
+            InetSocketAddress remoteAddress = new InetSocketAddress(InetAddress.getLoopbackAddress(), 9090);
+            Assert.assertEquals(CompilerExecutor.getClientId(remoteAddress, "10.0.0.1, 10.0.0.2"), "10.0.0.2");
+            Assert.assertEquals(CompilerExecutor.getClientId(remoteAddress, null),
+                    InetAddress.getLoopbackAddress().getHostAddress());
+        } finally {
+            System.clearProperty(CompilerExecutor.SYS_TRUST_FORWARDED_FOR);
+        }
+    }
+}
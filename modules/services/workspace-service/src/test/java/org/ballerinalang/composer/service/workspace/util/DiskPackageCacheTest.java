@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.composer.service.workspace.util;
+
+import org.apache.commons.io.FileUtils;
+import org.ballerinalang.composer.service.workspace.rest.datamodel.BallerinaFile;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for the cache of packages compiled from the file-system.
+ */
+public class DiskPackageCacheTest {
+
+    private static final String FIRST_FILE = "package org.foo;\n\nfunction first() {}\n";
+    private static final String SECOND_FILE = "package org.foo;\n\nfunction second() {}\n";
+
+    private Path programDir;
+    private Path packageDir;
+    private List<String> compilations;
+    private DiskPackageCache cache;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        programDir = Files.createTempDirectory("program");
+        packageDir = Files.createDirectories(programDir.resolve("org").resolve("foo"));
+        write(packageDir.resolve("first.bal"), FIRST_FILE);
+        write(packageDir.resolve("second.bal"), SECOND_FILE);
+        compilations = new ArrayList<>();
+        cache = new DiskPackageCache(4, (dir, unit, fileName, source) -> {
+            compilations.add(unit + ":" + fileName + ":" + source);
+            return new BallerinaFile();
+        });
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(programDir.toFile());
+    }
+
+    @Test
+    public void testSavedPackageReusedUntilSourcesChange() throws IOException {
+        BallerinaFile saved = getSaved();
+        Assert.assertSame(getSaved(), saved);
+
+        write(packageDir.resolve("second.bal"), SECOND_FILE + "\nfunction third() {}\n");
+        BallerinaFile modified = getSaved();
+        Assert.assertNotSame(modified, saved);
+
+        write(packageDir.resolve("third.bal"), "package org.foo;\n");
+        BallerinaFile added = getSaved();
+        Assert.assertNotSame(added, modified);
+
+        Files.delete(packageDir.resolve("third.bal"));
+        Assert.assertNotSame(getSaved(), added);
+        Assert.assertEquals(cache.getMissCount(), 4);
+        Assert.assertEquals(cache.getHitCount(), 1);
+    }
+
+    @Test
+    public void testUnsavedContentReusedUntilItChanges() {
+        String dirty = FIRST_FILE + "\nfunction dirty() {}\n";
+        BallerinaFile first = getDirty(dirty);
+        Assert.assertSame(getDirty(dirty), first);
+        Assert.assertEquals(compilations.get(0), "org.foo:first.bal:" + dirty);
+
+        Assert.assertNotSame(getDirty(dirty + " "), first);
+        // only the latest compilation of a package is kept
+        Assert.assertNotSame(getDirty(dirty), first);
+        Assert.assertEquals(compilations.size(), 3);
+    }
+
+    @Test
+    public void testSavedContentSharesSavedCompilation() {
+        BallerinaFile saved = getSaved();
+        Assert.assertSame(getDirty(FIRST_FILE), saved);
+        Assert.assertEquals(compilations.size(), 1);
+        Assert.assertEquals(compilations.get(0), "org.foo:null:null");
+    }
+
+    @Test
+    public void testUnsavedContentOfSameContentInAnotherFile() {
+        String dirty = "package org.foo;\n";
+        BallerinaFile first = getDirty(dirty);
+        Assert.assertNotSame(cache.get(programDir.toString(), "org.foo", "second.bal", dirty).getBallerinaFile(),
+                first);
+    }
+
+    @Test
+    public void testFileOutsidePackage() throws IOException {
+        write(programDir.resolve("main.bal"), "function main(string[] args) {}\n");
+        BallerinaFile saved = cache.get(programDir.toString(), "main.bal").getBallerinaFile();
+        Assert.assertSame(cache.get(programDir.toString(), "main.bal", "main.bal",
+                "function main(string[] args) {}\n").getBallerinaFile(), saved);
+        Assert.assertNotSame(cache.get(programDir.toString(), "main.bal", "main.bal",
+                "function main(string[] args) {} ").getBallerinaFile(), saved);
+    }
+
+    private BallerinaFile getSaved() {
+        return cache.get(programDir.toString(), "org.foo").getBallerinaFile();
+    }
+
+    private BallerinaFile getDirty(String content) {
+        return cache.get(programDir.toString(), "org.foo", "first.bal", content).getBallerinaFile();
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -65,8 +65,10 @@ export function fetchConfigs() {
  * Invoke parser service for the given file
  * and returns a promise with parsed json
  * @param {File} file
+ * @param {string} [documentId] Id of the editor, given only if the editor uses just the result
+ *                              of the latest content, which may be newer than the content sent.
  */
-export function parseFile(file) {
+export function parseFile(file, documentId) {
     const payload = {
         fileName: file.name + '.' + file.extension,
         filePath: file.path,
@@ -75,6 +77,7 @@ export function parseFile(file) {
         includeTree: true,
         includePackageInfo: true,
         includeProgramDir: true,
+        documentId,
     };
     const endpoint = getServiceEndpoint('parser');
     const headers = {
@@ -37,6 +37,11 @@ class BallerinaEnvironment extends EventChannel {
         this.initialized = false;
         this.initPending = false;
         this._packages = _.get(args, 'packages', []);
+        // names of the constructs of each package, by package name
+        this._symbolNames = {};
+        // packages loaded or being loaded, by package name
+        this._packageLoads = {};
+        this._loadedPackages = new Set();
         this._typeLattice = _.get(args, 'typeLattice', TypeLattice);
         this._operatorLattice = _.get(args, 'operatorLattice', OperatorLattice);
         this._types = _.get(args, 'types', []);
@@ -154,13 +159,15 @@ class BallerinaEnvironment extends EventChannel {
     }
 
     /**
-     * Initialize packages from BALLERINA_HOME and/or Ballerina Repo
+     * Initialize packages from BALLERINA_HOME and/or Ballerina Repo. Only the names of the packages and of their
+     * constructs are fetched, a package is loaded when it is imported or expanded in the tool palette. The builtin
+     * package is always in use, hence it is loaded right away.
      */
     initializePackages() {
         return new Promise((resolve, reject) => {
             getLangServerClientInstance()
                 .then((langserverClient) => {
-                    langserverClient.getBuiltInPackages()
+                    langserverClient.getBuiltInPackageNames()
                         .then((data) => {
                             if (data.error && !data.result) {
                                 reject(data);
@@ -168,11 +175,11 @@ class BallerinaEnvironment extends EventChannel {
                             }
                             if (_.isArray(data.result.packages)) {
                                 data.result.packages.forEach((packageNode) => {
-                                    const pckg = BallerinaEnvFactory.createPackage();
-                                    pckg.initFromJson(packageNode);
+                                    const pckg = BallerinaEnvFactory.createPackage({ name: packageNode.name });
+                                    this._symbolNames[packageNode.name] = packageNode.symbols || [];
                                     this._packages.push(pckg);
                                 });
-                                resolve();
+                                this.loadPackages(['ballerina.builtin']).then(resolve);
                             } else {
                                 log.error('Error while fetching packages');
                                 resolve();
@@ -183,6 +190,71 @@ class BallerinaEnvironment extends EventChannel {
         });
     }
 
+    /**
+     * Load the constructs of the given package, unless they are loaded already.
+     * @param {string} packageName name of the package
+     * @return {Promise} resolved once the package is loaded
+     * @fires BallerinaEnvironment#package-loaded
+     */
+    loadPackage(packageName) {
+        const pckg = this.findPackage(packageName);
+        if (_.isNil(pckg)) {
+            return Promise.resolve();
+        }
+        if (!this._packageLoads[packageName]) {
+            this._packageLoads[packageName] = getLangServerClientInstance()
+                .then(langserverClient => langserverClient.getBuiltInPackage(packageName))
+                .then((data) => {
+                    if (data.error || !data.result) {
+                        log.error(`Error while fetching package ${packageName}`);
+                        delete this._packageLoads[packageName];
+                        return;
+                    }
+                    pckg.initFromJson(data.result.package);
+                    this._loadedPackages.add(packageName);
+                    /**
+                     * @Event BallerinaEnvironment#package-loaded
+                     */
+                    this.trigger('package-loaded', pckg);
+                })
+                .catch((error) => {
+                    log.error(error);
+                    delete this._packageLoads[packageName];
+                });
+        }
+        return this._packageLoads[packageName];
+    }
+
+    /**
+     * Load the constructs of the given packages, unless they are loaded already.
+     * @param {string[]} packageNames names of the packages
+     * @return {Promise} resolved once the packages are loaded
+     */
+    loadPackages(packageNames) {
+        return Promise.all(packageNames.map(packageName => this.loadPackage(packageName)));
+    }
+
+    /**
+     * Check whether the constructs of the given package are loaded. Packages which are not fetched through the
+     * package names, e.g. packages of the program directory, are always loaded.
+     * @param {string} packageName name of the package
+     * @return {boolean} false if the package is known by its name only
+     */
+    isPackageLoaded(packageName) {
+        return !_.has(this._symbolNames, packageName) || this._loadedPackages.has(packageName);
+    }
+
+    /**
+     * Find the packages having a construct of which the name contains the given text, without loading the packages.
+     * @param {string} text text to search for
+     * @return {string[]} names of the packages
+     */
+    findPackagesBySymbol(text) {
+        const query = text.toLowerCase();
+        return _.keys(this._symbolNames).filter(packageName => this._symbolNames[packageName]
+            .some(symbolName => symbolName.toLowerCase().includes(query)));
+    }
+
     /**
      * Initialize type lattice
      */
@@ -24,10 +24,44 @@ import LangserverChannel from './langserver-channel';
 import RequestSession from './request-session';
 
 const BUILT_IN_PACKAGES = 'ballerina/packages';
+const BUILT_IN_PACKAGE_NAMES = 'ballerina/packageNames';
+const BUILT_IN_PACKAGE = 'ballerina/package';
+const PUBLISH_DIAGNOSTICS = 'textDocument/publishDiagnostics';
 
 // holds the singleton of lang server client
 let instance;
 
+/**
+ * Returns the content change replacing the edited range of the previous text, which lies between the common prefix
+ * and the common suffix of both texts.
+ * @param {string} previousText - text last sent to the server
+ * @param {string} text - current text
+ * @return {object} content change with a range of 0-based lines and characters in the previous text
+ */
+function getContentChange(previousText, text) {
+    const maxLength = Math.min(previousText.length, text.length);
+    let prefix = 0;
+    while (prefix < maxLength && previousText[prefix] === text[prefix]) {
+        prefix++;
+    }
+    let suffix = 0;
+    while (suffix < maxLength - prefix
+            && previousText[previousText.length - 1 - suffix] === text[text.length - 1 - suffix]) {
+        suffix++;
+    }
+    const toPosition = (offset) => {
+        const lines = previousText.substring(0, offset).split('\n');
+        return { line: lines.length - 1, character: lines[lines.length - 1].length };
+    };
+    return {
+        range: {
+            start: toPosition(prefix),
+            end: toPosition(previousText.length - suffix),
+        },
+        text: text.substring(prefix, text.length - suffix),
+    };
+}
+
 /**
  * Class for language server client controller
  */
@@ -41,6 +75,8 @@ class LangServerClientController extends EventChannel {
         super();
         this.langserverChannel = undefined;
         this.requestSessions = [];
+        // content of the open documents as last sent to the server, by document uri
+        this.documents = {};
         this.isInitialized = false;
         this.options = options;
     }
@@ -146,6 +182,7 @@ class LangServerClientController extends EventChannel {
             this.once('langserver-initialized', () => this.documentDidOpenNotification(options));
             return;
         }
+        this.documents[options.uri] = options.text;
         const message = {
             jsonrpc: '2.0',
             method: 'textDocument/didOpen',
@@ -161,7 +198,8 @@ class LangServerClientController extends EventChannel {
     }
 
     /**
-     * Document did change request notification processor
+     * Document did change request notification processor. Only the edited range of the document is sent, which is
+     * computed against the content last sent for the document.
      * @param {object} options - document did change options
      */
     documentDidChangeNotification(options) {
@@ -169,6 +207,16 @@ class LangServerClientController extends EventChannel {
             this.once('langserver-initialized', () => this.documentDidChangeNotification(options));
             return;
         }
+        const previousText = this.documents[options.uri];
+        if (previousText === undefined) {
+            // the server doesn't know the document yet
+            this.documentDidOpenNotification(options);
+            return;
+        }
+        if (previousText === options.text) {
+            return;
+        }
+        this.documents[options.uri] = options.text;
         const message = {
             jsonrpc: '2.0',
             method: 'textDocument/didChange',
@@ -176,9 +224,7 @@ class LangServerClientController extends EventChannel {
                 textDocument: {
                     uri: 'file://' + options.uri,
                 },
-                contentChanges: [{
-                    text: options.text,
-                }],
+                contentChanges: [getContentChange(previousText, options.text)],
             },
         };
 
@@ -217,6 +263,7 @@ class LangServerClientController extends EventChannel {
             this.once('langserver-initialized', () => this.documentDidCloseNotification(options));
             return;
         }
+        delete this.documents[options.uri];
         const message = {
             jsonrpc: '2.0',
             method: 'textDocument/didClose',
@@ -271,22 +318,49 @@ class LangServerClientController extends EventChannel {
      * Get built-in packages request processor
      */
     getBuiltInPackages() {
+        return this.sendBuiltInPackagesRequest(BUILT_IN_PACKAGES, {});
+    }
+
+    /**
+     * Get the names of the built-in packages along with the names of their constructs, without loading the packages
+     */
+    getBuiltInPackageNames() {
+        return this.sendBuiltInPackagesRequest(BUILT_IN_PACKAGE_NAMES, {});
+    }
+
+    /**
+     * Get a single built-in package
+     * @param {string} name - name of the package
+     */
+    getBuiltInPackage(name) {
+        return this.sendBuiltInPackagesRequest(BUILT_IN_PACKAGE, { name });
+    }
+
+    /**
+     * Send a built-in packages request
+     * @param {string} method - request method
+     * @param {object} params - request params
+     * @return {Promise} resolved with the response message
+     */
+    sendBuiltInPackagesRequest(method, params) {
         return new Promise((resolve, reject) => {
             const session = new RequestSession();
             const message = {
                 id: session.getId(),
                 jsonrpc: '2.0',
-                method: BUILT_IN_PACKAGES,
-                params: {},
+                method,
+                params,
+            };
+            const onError = (error) => {
+                reject(error);
             };
             session.setCallback((responseMsg) => {
+                this.langserverChannel.off('error', onError);
                 resolve(responseMsg);
             });
             session.setMessage(message);
             this.requestSessions.push(session);
-            this.langserverChannel.on('error', (error) => {
-                reject(error);
-            });
+            this.langserverChannel.on('error', onError);
             this.langserverChannel.sendMessage(message);
         });
     }
@@ -331,10 +405,30 @@ class LangServerClientController extends EventChannel {
         if (message.id === 'PONG') {
             return;
         }
+        if (message.id === undefined) {
+            this.processNotification(message);
+            return;
+        }
         const session = _.find(this.requestSessions, (requestSession) => {
             return requestSession.getId() === message.id;
         });
-        session.executeCallback(message);
+        if (session) {
+            session.executeCallback(message);
+        }
+    }
+
+    /**
+     * Process a notification pushed by the language server
+     * @param {object} message - notification message
+     */
+    processNotification(message) {
+        if (message.method === PUBLISH_DIAGNOSTICS) {
+            const { uri, diagnostics } = message.params;
+            this.trigger('publish-diagnostics', {
+                uri: _.startsWith(uri, 'file://') ? uri.substring('file://'.length) : uri,
+                diagnostics,
+            });
+        }
     }
 
 
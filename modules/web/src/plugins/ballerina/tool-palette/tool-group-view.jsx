@@ -139,6 +139,7 @@ class ToolGroupView extends React.Component {
                     open={open}
                     triggerWhenOpen={trigger('up')}
                     transitionTime={200}
+                    onOpen={this.props.onOpen}
                 >
                     <div className={`tool-group-body tool-group-body-${this.state.activeGridStyle}`}>
                         {this.props.showGridStyles && <div className='tools-view-modes-controls clearfix'>
@@ -161,6 +162,11 @@ class ToolGroupView extends React.Component {
 ToolGroupView.propTypes = {
     showGridStyles: PropTypes.bool.isRequired,
     group: TOOL_GROUP.isRequired,
+    onOpen: PropTypes.func,
+};
+
+ToolGroupView.defaultProps = {
+    onOpen: () => {},
 };
 
 ToolGroupView.contextTypes = {
@@ -23,6 +23,7 @@ import DefaultTools from './item-provider/default-tools';
 import ToolGroupView from './tool-group-view';
 import './tool-palette.css';
 import PackageScopedEnvironment from './../env/package-scoped-environment';
+import BallerinaEnvironment from './../env/environment';
 import { binaryOpTools, unaryOpTools, ternaryOpTools } from './item-provider/operator-tools';
 import CompilationUnitNode from './../model/tree/compilation-unit-node';
 import DefaultNodeFactory from '../model/default-node-factory';
@@ -281,6 +282,7 @@ class ToolPaletteView extends React.Component {
         this.onSearchTextChange = this.onSearchTextChange.bind(this);
         this.changePane = this.changePane.bind(this);
         this.addDyamicTools = this.addDyamicTools.bind(this);
+        this.onPackageLoaded = this.onPackageLoaded.bind(this);
 
         this.state = {
             tab: 'tools',
@@ -288,8 +290,24 @@ class ToolPaletteView extends React.Component {
         };
     }
 
+    componentDidMount() {
+        BallerinaEnvironment.on('package-loaded', this.onPackageLoaded);
+    }
+
+    componentWillUnmount() {
+        BallerinaEnvironment.off('package-loaded', this.onPackageLoaded);
+    }
+
+    onPackageLoaded() {
+        this.forceUpdate();
+    }
+
     onSearchTextChange(value) {
         this.setState({ search: value });
+        // packages which are not loaded yet are searched by the names of their constructs
+        if (value && this.state.tab !== 'tools') {
+            BallerinaEnvironment.loadPackages(BallerinaEnvironment.findPackagesBySymbol(value));
+        }
     }
 
 
@@ -594,9 +612,22 @@ class ToolPaletteView extends React.Component {
             filterOutList.push('Current Package');
 
             const packages = environment.getFilteredPackages(filterOutList);
+            const matchingPackages = searching ? BallerinaEnvironment.findPackagesBySymbol(this.state.search) : [];
             packages.forEach((pkg) => {
                 let group;
-                if (state === 'connectors') {
+                if (!BallerinaEnvironment.isPackageLoaded(pkg.getName())) {
+                    // the constructs of the package are loaded once its group is expanded
+                    if (!searching || matchingPackages.includes(pkg.getName())) {
+                        const pane = state === 'connectors' ? connectors : library;
+                        pane.push(
+                            <ToolGroupView
+                                group={{ name: pkg.getName(), id: `${pkg.getName()}-tool-group`, tools: [] }}
+                                key={`${state}${pkg.getName()}`}
+                                showGridStyles={false}
+                                onOpen={() => BallerinaEnvironment.loadPackage(pkg.getName())}
+                            />);
+                    }
+                } else if (state === 'connectors') {
                     group = this.package2ToolGroup(pkg, 'connectors');
                     group = this.searchTools(this.state.search, _.cloneDeep(group));
                     if (group !== undefined && !_.isEmpty(group.tools)) {
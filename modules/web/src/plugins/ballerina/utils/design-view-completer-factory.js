@@ -68,7 +68,7 @@ class CompleterFactory {
             packageName: fileData.packageName,
         };
         langserverController.getCompletions(options, (response) => {
-            const sortedArr = _.orderBy(response.result, ['sortText'], ['desc']);
+            const sortedArr = _.orderBy(response.result.left, ['sortText'], ['desc']);
             let score = sortedArr.length;
             this.filterCompletionItems(sortedArr, node, editorContent)
                 .forEach((completionItem) => {
@@ -19,6 +19,7 @@ import log from 'log';
 import _ from 'lodash';
 import React from 'react';
 import PropTypes from 'prop-types';
+import uuid from 'uuid/v4';
 import { Scrollbars } from 'react-custom-scrollbars';
 import CSSTransitionGroup from 'react-transition-group/CSSTransitionGroup';
 import DebugManager from 'plugins/debugger/DebugManager/DebugManager'; // FIXME: Importing from debugger plugin
@@ -76,6 +77,9 @@ class BallerinaFileEditor extends React.Component {
             lastRenderedTimestamp: undefined,
         };
         this.skipLoadingOverlay = false;
+        // identifies this editor when validating its content, which allows the server to answer
+        // an outdated validation with the result of the latest content sent by this editor
+        this.documentId = uuid();
 
         // create debounced model update callbacks
         // we will use this to gracefull update design
@@ -561,7 +565,7 @@ class BallerinaFileEditor extends React.Component {
             syntaxErrors: [],
         };
         // try to parse the file
-        return parseFile(file)
+        return parseFile(file, this.documentId)
             .then((data = {}) => {
                 // keep current package information.
                 newState.packageInfo = data.packageInfo;
@@ -616,7 +620,12 @@ class BallerinaFileEditor extends React.Component {
                     newState.lastRenderedTimestamp = file.lastUpdated;
                     newState.model = ast;
                 }
+                // the constructs of the imported packages are loaded once the packages are imported
+                const importedPackages = _.isNil(newState.model) ? [] : newState.model
+                    .filterTopLevelNodes({ kind: 'Import' })
+                    .map(importNode => importNode.getPackageName().map(name => name.value).join('.'));
                 return BallerinaEnvironment.initialize()
+                    .then(() => BallerinaEnvironment.loadPackages(importedPackages))
                     .then(() => {
                         this.environment.init();
                         const pkgNode = data.packageInfo;
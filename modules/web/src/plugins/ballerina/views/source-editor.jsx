@@ -84,6 +84,7 @@ class SourceEditor extends React.Component {
         this.sourceViewCompleterFactory = new SourceViewCompleterFactory();
         this.goToCursorPosition = this.goToCursorPosition.bind(this);
         this.onFileContentChanged = this.onFileContentChanged.bind(this);
+        this.onDiagnostics = this.onDiagnostics.bind(this);
         this.lastUpdatedTimestamp = props.file.lastUpdated;
     }
 
@@ -152,8 +153,7 @@ class SourceEditor extends React.Component {
             });
             // on editor annotation change
             // check whether the new set of annoations contain
-            // lint errors from background worker
-            // this is to re-use ace's in-built worker validations
+            // syntax errors pushed by the language server
             // to update design-view btn with #of syntax errors
             editor.getSession().on('changeAnnotation', () => {
                 const annotations = editor.getSession().getAnnotations();
@@ -163,7 +163,49 @@ class SourceEditor extends React.Component {
                 });
                 this.props.onLintErrors(errors);
             });
+            // diagnostics are pushed by the language server once it compiled the changes of the file
+            getLangServerClientInstance()
+                .then((langserverClient) => {
+                    this.langserverClient = langserverClient;
+                    langserverClient.on('publish-diagnostics', this.onDiagnostics);
+                })
+                .catch(error => log.error(error));
+        }
+    }
+
+    /**
+     * lifecycle hook for component will unmount
+     */
+    componentWillUnmount() {
+        if (this.langserverClient) {
+            this.langserverClient.off('publish-diagnostics', this.onDiagnostics);
         }
+        this.props.file.off(CONTENT_MODIFIED, this.onFileContentChanged);
+    }
+
+    /**
+     * Event handler when the language server publishes the diagnostics of a file.
+     * Diagnostics are shown as annotations of the editor.
+     * @param {Object} evt The event object.
+     * @param {string} evt.uri Full path of the file
+     * @param {Object[]} evt.diagnostics Diagnostics of the file
+     * @memberof SourceEditor
+     */
+    onDiagnostics({ uri, diagnostics }) {
+        if (uri !== this.props.file.fullPath) {
+            return;
+        }
+        // ace's rows and columns start from zero, as the ones of the language server
+        const annotations = diagnostics.map(({ range, message, code }) => {
+            return {
+                row: range.start.line,
+                column: range.start.character,
+                text: message,
+                type: 'error',
+                category: code,
+            };
+        });
+        this.editor.getSession().setAnnotations(annotations);
     }
 
     /**
@@ -37,7 +37,6 @@ const config = [{
         bundle: './src/index.js',
         tree: './src/plugins/ballerina/model/tree-builder.js',
         testable: './src/plugins/ballerina/tests/testable.js',
-        'worker-ballerina': './src/plugins/ballerina/utils/ace-worker.js',
     },
     output: {
         filename: '[name].js',